@@ -0,0 +1,99 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * benchmark of the adjacency matrix action, the number of
+ * edges is smaller than on the other benchmarks, because
+ * the number of vertices of a matrix is limited
+ */
+@State( Scope.Benchmark )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+public class BenchmarkCAdjacencyMatrix extends IBaseBenchmark
+{
+    /**
+     * graph type
+     */
+    @Param( {"sparse", "directedsparse", "csr", "concurrent"} )
+    private String m_type;
+    /**
+     * number of edges
+     */
+    @Param( {"1000", "10000", "100000"} )
+    private int m_edges;
+    /**
+     * average number of edges of a vertex
+     */
+    @Param( {"16", "128"} )
+    private int m_density;
+    /**
+     * matrix type
+     */
+    @Param( {"sparse", "dense", "csr", "csc"} )
+    private String m_matrix;
+    /**
+     * arguments with weight map, matrix type and graph
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * builds the graph and the arguments
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        final Graph<Object, Object> l_graph = IBaseBenchmark.graph( m_type, m_edges, m_density );
+        m_arguments = IBaseBenchmark.arguments( IBaseBenchmark.weights( l_graph ), m_matrix, l_graph );
+    }
+
+    /**
+     * adjacency matrix
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> adjacencymatrix()
+    {
+        final List<ITerm> l_return = new ArrayList<>( 2 );
+        new CAdjacencyMatrix().execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the shortest path and spanning tree actions with a random weight map
+ */
+@State( Scope.Benchmark )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+public class BenchmarkCAlgorithm extends IBaseBenchmark
+{
+    /**
+     * graph type
+     */
+    @Param( {"sparse", "directedsparse", "csr", "concurrent"} )
+    private String m_type;
+    /**
+     * number of edges
+     */
+    @Param( {"1000", "100000", "1000000", "10000000"} )
+    private int m_edges;
+    /**
+     * average number of edges of a vertex
+     */
+    @Param( {"2", "16"} )
+    private int m_density;
+    /**
+     * graph
+     */
+    private Graph<Object, Object> m_graph;
+    /**
+     * weight map
+     */
+    private Map<Object, Number> m_weights;
+    /**
+     * arguments with weight map, two vertices and the graph
+     */
+    private List<List<ITerm>> m_arguments;
+    /**
+     * argument index
+     */
+    private int m_index;
+
+    /**
+     * builds the graph and the arguments
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        m_graph = IBaseBenchmark.graph( m_type, m_edges, m_density );
+        m_weights = IBaseBenchmark.weights( m_graph );
+
+        final Object[] l_samples = IBaseBenchmark.samples( m_graph );
+        m_arguments = new ArrayList<>( l_samples.length );
+        IntStream.range( 0, l_samples.length )
+                 .forEach( i -> m_arguments.add( IBaseBenchmark.arguments( m_weights, l_samples[i], l_samples[( i + 1 ) % l_samples.length], m_graph ) ) );
+    }
+
+    /**
+     * shortest path of random vertices without the shortest path cache
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> shortestpath()
+    {
+        IApplyPathAlgorithm.invalidate( m_graph );
+        return this.shortestpath( m_arguments.get( m_index++ & ( SAMPLES - 1 ) ) );
+    }
+
+    /**
+     * shortest path of random vertices with a fixed source vertex,
+     * so the shortest path cache is used
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> shortestpathcached()
+    {
+        final List<ITerm> l_arguments = new ArrayList<>( m_arguments.get( 0 ) );
+        l_arguments.set( 2, m_arguments.get( m_index++ & ( SAMPLES - 1 ) ).get( 2 ) );
+        return this.shortestpath( l_arguments );
+    }
+
+    /**
+     * minimum spanning tree
+     *
+     * @return result list
+     */
+    @Benchmark
+    @BenchmarkMode( Mode.SingleShotTime )
+    public List<ITerm> spanningtree()
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        new CSpanningTree().execute( false, IContext.EMPTYPLAN, IBaseBenchmark.arguments( m_weights, m_graph ), l_return );
+        return l_return;
+    }
+
+    /**
+     * minimum spanning forest edges with the Kruskal engine
+     *
+     * @return result list
+     */
+    @Benchmark
+    @BenchmarkMode( Mode.SingleShotTime )
+    public List<ITerm> spanningforestkruskal()
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        new CSpanningTree().execute( true, IContext.EMPTYPLAN, IBaseBenchmark.arguments( "kruskal", "edges", m_weights, m_graph ), l_return );
+        return l_return;
+    }
+
+    /**
+     * minimum spanning forest edges with the parallel Borůvka engine
+     *
+     * @return result list
+     */
+    @Benchmark
+    @BenchmarkMode( Mode.SingleShotTime )
+    public List<ITerm> spanningforestboruvka()
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        new CSpanningTree().execute( true, IContext.EMPTYPLAN, IBaseBenchmark.arguments( "boruvka", "edges", m_weights, m_graph ), l_return );
+        return l_return;
+    }
+
+    /**
+     * executes the shortest path action
+     *
+     * @param p_arguments arguments
+     * @return result list
+     */
+    private List<ITerm> shortestpath( final List<ITerm> p_arguments )
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        new CShortestPath().execute( false, IContext.EMPTYPLAN, p_arguments, l_return );
+        return l_return;
+    }
+
+}
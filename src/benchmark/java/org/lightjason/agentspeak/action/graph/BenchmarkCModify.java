@@ -0,0 +1,234 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the create, add and remove actions
+ */
+@State( Scope.Benchmark )
+public class BenchmarkCModify extends IBaseBenchmark
+{
+    /**
+     * number of edges of a remove batch
+     */
+    private static final int BATCH = 1000;
+    /**
+     * graph type
+     */
+    @Param( {
+        "sparse", "sparsemulti", "directedsparse", "directedsparsemulti", "undirectedsparse",
+        "undirectedsparsemulti", "csr", "directedcsr", "concurrent", "directedconcurrent"
+    } )
+    private String m_type;
+    /**
+     * number of edges
+     */
+    @Param( {"1000", "100000", "1000000", "10000000"} )
+    private int m_edges;
+    /**
+     * average number of edges of a vertex
+     */
+    @Param( {"2", "16"} )
+    private int m_density;
+    /**
+     * arguments of adding all edges, the first argument is the graph
+     */
+    private List<ITerm> m_arguments;
+    /**
+     * graph
+     */
+    private Graph<Object, Object> m_graph;
+    /**
+     * arguments of the bulk load with parallel lists
+     */
+    private List<ITerm> m_bulkarguments;
+
+    /**
+     * builds the arguments and the graph
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        final int l_vertices = IBaseBenchmark.vertices( m_edges, m_density );
+        final Random l_random = new Random( SEED );
+
+        m_arguments = new ArrayList<>( 3 * m_edges + 1 );
+        m_arguments.add( CRawTerm.of( Collections.emptyList() ) );
+        for ( long i = 0; i < m_edges; i++ )
+        {
+            m_arguments.add( CRawTerm.of( i ) );
+            m_arguments.add( CRawTerm.of( l_random.nextInt( l_vertices ) ) );
+            m_arguments.add( CRawTerm.of( l_random.nextInt( l_vertices ) ) );
+        }
+
+        m_bulkarguments = new ArrayList<>( 4 );
+        m_bulkarguments.add( CRawTerm.of( Collections.emptyList() ) );
+        IntStream.range( 0, 3 )
+                 .mapToObj( i -> IntStream.range( 0, m_edges ).mapToObj( j -> m_arguments.get( 3 * j + i + 1 ).raw() ).collect( Collectors.toList() ) )
+                 .map( CRawTerm::of )
+                 .forEach( m_bulkarguments::add );
+
+        m_graph = IBaseBenchmark.graph( m_type, m_edges, m_density );
+    }
+
+    /**
+     * creates an empty graph
+     *
+     * @return graph
+     */
+    @Benchmark
+    public Graph<Object, Object> create()
+    {
+        return IBaseBenchmark.create( m_type );
+    }
+
+    /**
+     * creates a graph and adds all edges with one action call
+     *
+     * @return graph
+     */
+    @Benchmark
+    @BenchmarkMode( Mode.SingleShotTime )
+    public Graph<Object, Object> addedgemultiple()
+    {
+        final Graph<Object, Object> l_graph = IBaseBenchmark.create( m_type );
+        m_arguments.set( 0, CRawTerm.of( l_graph ) );
+        new CAddEdgeMultiple().execute( false, IContext.EMPTYPLAN, m_arguments, Collections.emptyList() );
+        return l_graph;
+    }
+
+    /**
+     * creates a graph and adds all edges with the bulk load
+     *
+     * @return graph
+     */
+    @Benchmark
+    @BenchmarkMode( Mode.SingleShotTime )
+    public Graph<Object, Object> bulkload()
+    {
+        final Graph<Object, Object> l_graph = IBaseBenchmark.create( m_type );
+        m_bulkarguments.set( 0, CRawTerm.of( l_graph ) );
+        new CBulkLoad().execute( true, IContext.EMPTYPLAN, m_bulkarguments, Collections.emptyList() );
+        return l_graph;
+    }
+
+    /**
+     * adds and removes a single vertex
+     *
+     * @return graph
+     */
+    @Benchmark
+    public Graph<Object, Object> addremovevertex()
+    {
+        final List<ITerm> l_arguments = IBaseBenchmark.arguments( -1, m_graph );
+        new CAddVertexSingle().execute( false, IContext.EMPTYPLAN, l_arguments, Collections.emptyList() );
+        new CRemoveVertexSingle().execute( false, IContext.EMPTYPLAN, l_arguments, Collections.emptyList() );
+        return m_graph;
+    }
+
+    /**
+     * removes an edge batch with one action call
+     *
+     * @param p_state remove state
+     * @return graph
+     */
+    @Benchmark
+    public Graph<Object, Object> removeedgemultiple( final CRemoveState p_state )
+    {
+        new CRemoveEdgeMultiple().execute( false, IContext.EMPTYPLAN, p_state.m_arguments, Collections.emptyList() );
+        return p_state.m_graph;
+    }
+
+
+    /**
+     * state of the remove benchmark, which restores
+     * the removed edges before each invocation
+     */
+    @State( Scope.Benchmark )
+    public static class CRemoveState
+    {
+        /**
+         * graph
+         */
+        private Graph<Object, Object> m_graph;
+        /**
+         * arguments of removing an edge batch, the first argument is the graph
+         */
+        private List<ITerm> m_arguments;
+        /**
+         * removed edges with source and target vertex
+         */
+        private final List<Object[]> m_removed = new ArrayList<>( BATCH );
+
+        /**
+         * builds the arguments
+         *
+         * @param p_benchmark benchmark state
+         */
+        @Setup( Level.Trial )
+        public void setup( final BenchmarkCModify p_benchmark )
+        {
+            m_graph = IBaseBenchmark.graph( p_benchmark.m_type, p_benchmark.m_edges, p_benchmark.m_density );
+            m_arguments = new ArrayList<>( BATCH + 1 );
+            m_arguments.add( CRawTerm.of( m_graph ) );
+            m_graph.getEdges()
+                   .stream()
+                   .limit( BATCH )
+                   .peek( i -> m_removed.add( new Object[]{i, m_graph.getEndpoints( i ).getFirst(), m_graph.getEndpoints( i ).getSecond()} ) )
+                   .map( CRawTerm::of )
+                   .forEach( m_arguments::add );
+        }
+
+        /**
+         * restores the removed edges
+         */
+        @Setup( Level.Invocation )
+        public void restore()
+        {
+            m_removed.forEach( i -> m_graph.addEdge( i[0], i[1], i[2] ) );
+        }
+    }
+
+}
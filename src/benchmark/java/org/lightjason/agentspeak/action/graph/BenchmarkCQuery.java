@@ -0,0 +1,164 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the neighbor and degree actions,
+ * each invocation queries another random vertex
+ */
+@State( Scope.Benchmark )
+public class BenchmarkCQuery extends IBaseBenchmark
+{
+    /**
+     * graph type
+     */
+    @Param( {"sparse", "directedsparse", "csr", "directedcsr", "concurrent", "directedconcurrent"} )
+    private String m_type;
+    /**
+     * number of edges
+     */
+    @Param( {"1000", "100000", "1000000", "10000000"} )
+    private int m_edges;
+    /**
+     * average number of edges of a vertex
+     */
+    @Param( {"2", "16", "128"} )
+    private int m_density;
+    /**
+     * arguments with a vertex and the graph
+     */
+    private List<List<ITerm>> m_arguments;
+    /**
+     * arguments with the view mode, a vertex and the graph
+     */
+    private List<List<ITerm>> m_viewarguments;
+    /**
+     * argument index
+     */
+    private int m_index;
+    /**
+     * neighbors action
+     */
+    private final CNeighborsSingle m_neighbors = new CNeighborsSingle();
+    /**
+     * degree action
+     */
+    private final CDegreeSingle m_degree = new CDegreeSingle();
+    /**
+     * out-edges action
+     */
+    private final COutEdgesSingle m_outedges = new COutEdgesSingle();
+
+    /**
+     * builds the graph and the arguments
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        final Graph<Object, Object> l_graph = IBaseBenchmark.graph( m_type, m_edges, m_density );
+        final Object[] l_samples = IBaseBenchmark.samples( l_graph );
+
+        m_arguments = new ArrayList<>( l_samples.length );
+        m_viewarguments = new ArrayList<>( l_samples.length );
+        IntStream.range( 0, l_samples.length ).forEach( i ->
+        {
+            m_arguments.add( IBaseBenchmark.arguments( l_samples[i], l_graph ) );
+            m_viewarguments.add( IBaseBenchmark.arguments( "view", l_samples[i], l_graph ) );
+        } );
+    }
+
+    /**
+     * neighbors of a vertex
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> neighborssingle()
+    {
+        return this.execute( m_neighbors, m_arguments );
+    }
+
+    /**
+     * neighbors of a vertex with view mode
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> neighborssingleview()
+    {
+        return this.execute( m_neighbors, m_viewarguments );
+    }
+
+    /**
+     * degree of a vertex
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> degreesingle()
+    {
+        return this.execute( m_degree, m_arguments );
+    }
+
+    /**
+     * out-edges of a vertex
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> outedgessingle()
+    {
+        return this.execute( m_outedges, m_arguments );
+    }
+
+    /**
+     * executes an action with the next arguments
+     *
+     * @param p_action action
+     * @param p_arguments arguments
+     * @return result list
+     */
+    private List<ITerm> execute( final IApplySingle p_action, final List<List<ITerm>> p_arguments )
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        p_action.execute( false, IContext.EMPTYPLAN, p_arguments.get( m_index++ & ( SAMPLES - 1 ) ), l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * base benchmark with synthetic random graphs.
+ * The graphs are built with a fixed seed, so each run works on
+ * the same structure, the number of vertices is defined by the
+ * number of edges and the density (average number of edges of
+ * a vertex), vertices are integers and edges are long values
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( value = 1, jvmArgsAppend = {"-Xms2G", "-Xmx16G", "-Xss512M"} )
+public abstract class IBaseBenchmark
+{
+    /**
+     * random seed
+     */
+    protected static final long SEED = 4711;
+    /**
+     * number of precomputed random vertices
+     */
+    protected static final int SAMPLES = 1024;
+
+    /**
+     * returns the number of vertices
+     *
+     * @param p_edges number of edges
+     * @param p_density average number of edges of a vertex
+     * @return number of vertices
+     */
+    @Nonnegative
+    protected static int vertices( @Nonnegative final int p_edges, @Nonnegative final int p_density )
+    {
+        return Math.max( 2, p_edges / p_density );
+    }
+
+    /**
+     * creates a graph with the create action
+     *
+     * @param p_type graph type
+     * @return empty graph
+     */
+    @Nonnull
+    protected static Graph<Object, Object> create( @Nonnull final String p_type )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        new CCreate().execute( false, IContext.EMPTYPLAN, IBaseBenchmark.arguments( p_type ), l_return );
+        return l_return.get( 0 ).raw();
+    }
+
+    /**
+     * creates a random graph
+     *
+     * @param p_type graph type
+     * @param p_edges number of edges
+     * @param p_density average number of edges of a vertex
+     * @return graph
+     */
+    @Nonnull
+    protected static Graph<Object, Object> graph( @Nonnull final String p_type, @Nonnegative final int p_edges, @Nonnegative final int p_density )
+    {
+        final Graph<Object, Object> l_graph = IBaseBenchmark.create( p_type );
+        final int l_vertices = IBaseBenchmark.vertices( p_edges, p_density );
+        final Random l_random = new Random( SEED );
+
+        for ( long i = 0; i < p_edges; i++ )
+            l_graph.addEdge( i, l_random.nextInt( l_vertices ), l_random.nextInt( l_vertices ) );
+
+        return l_graph;
+    }
+
+    /**
+     * creates a random weight map of all edges
+     *
+     * @param p_graph graph
+     * @return weight map with values in [1, 10]
+     */
+    @Nonnull
+    protected static Map<Object, Number> weights( @Nonnull final Graph<Object, Object> p_graph )
+    {
+        final Random l_random = new Random( SEED );
+        final Map<Object, Number> l_weights = new HashMap<>( p_graph.getEdgeCount() * 2 );
+        p_graph.getEdges().forEach( i -> l_weights.put( i, 1 + l_random.nextInt( 10 ) ) );
+        return l_weights;
+    }
+
+    /**
+     * creates random vertex samples
+     *
+     * @param p_graph graph
+     * @return vertex array
+     */
+    @Nonnull
+    protected static Object[] samples( @Nonnull final Graph<Object, Object> p_graph )
+    {
+        final Random l_random = new Random( SEED );
+        final Object[] l_vertices = p_graph.getVertices().toArray();
+        return Stream.generate( () -> l_vertices[l_random.nextInt( l_vertices.length )] ).limit( SAMPLES ).toArray();
+    }
+
+    /**
+     * creates an argument list
+     *
+     * @param p_arguments arguments
+     * @return term list
+     */
+    @Nonnull
+    protected static List<ITerm> arguments( @Nonnull final Object... p_arguments )
+    {
+        return Stream.of( p_arguments ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+
+}
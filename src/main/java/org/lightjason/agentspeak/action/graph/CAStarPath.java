@@ -0,0 +1,275 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import com.google.common.base.Function;
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+
+/**
+ * calculates the edge list of the shortest path of two vertices with the A* algorithm.
+ * The ordering of the arguments can be arbitrary, for any graph
+ * instance the edge list of the shortest path is calculated, the first map instance
+ * will be used as weight-map, a tuple of the string "defaultweight"
+ * and a numeric value defines the default weight value of the weight-map
+ * (the default value is zero), a tuple of the string "euclidean" or "manhattan"
+ * and a map defines the heuristic with the metric and the vertex coordinates
+ * (a coordinate is a number, a list of numbers or a vector, vertices
+ * without coordinates are estimated with zero), a tuple which will not fit
+ * this definition defines the start- and end-vertex, the action fails on wrong input.
+ * The heuristic must not overestimate the weights, otherwise the path
+ * is not the shortest one, without a heuristic the action works like
+ * the Dijkstra algorithm
+ *
+ * {@code
+ * [P1|P2] = .graph/astarpath( "euclidean", Coordinates, StartVertex, EndVertex, Graph1, Graph2 );
+ * [P3|P4] = .graph/astarpath( "manhattan", Coordinates, "defaultweight", 3, CostMap, StartVertex, EndVertex, Graph1, Graph2 );
+ * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/A*_search_algorithm"></a>
+ */
+public final class CAStarPath extends IApplyPathAlgorithm
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6154829386625417208L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CAStarPath.class, "graph" );
+    /**
+     * heuristic names with the coordinate map type
+     */
+    private static final Map<String, Class<?>> PARAMETERS = Collections.unmodifiableMap(
+        EHeuristic.names().stream().collect( Collectors.toMap( i -> i, i -> Map.class ) )
+    );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, Class<?>> parameters()
+    {
+        return PARAMETERS;
+    }
+
+    @Override
+    protected Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                            @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
+    )
+    {
+        final Object l_target = p_vertices.get( 1 ).raw();
+
+        final Function<Object, Double> l_heuristic = p_parameter.entrySet()
+                                                                .stream()
+                                                                .filter( i -> EHeuristic.exists( i.getKey() ) )
+                                                                .findFirst()
+                                                                .map( i -> CAStarPath.heuristic(
+                                                                    EHeuristic.of( i.getKey() ), i.getValue().<Map<?, ?>>raw(), l_target
+                                                                ) )
+                                                                .orElseGet( () -> i -> 0D );
+
+        return CAStarPath.path( p_graph, p_weightfunction, l_heuristic, p_vertices.get( 0 ).raw(), l_target );
+    }
+
+    /**
+     * creates the heuristic function of a target vertex
+     *
+     * @param p_metric metric
+     * @param p_coordinates vertex coordinates
+     * @param p_target target vertex
+     * @return heuristic function
+     */
+    @Nonnull
+    private static Function<Object, Double> heuristic( @Nonnull final EHeuristic p_metric, @Nonnull final Map<?, ?> p_coordinates, @Nonnull final Object p_target )
+    {
+        final double[] l_target = EHeuristic.coordinate( p_coordinates.get( p_target ) );
+        return i ->
+        {
+            final Object l_coordinate = p_coordinates.get( i );
+            return Objects.isNull( l_coordinate ) || l_target.length == 0 ? 0D : p_metric.distance( EHeuristic.coordinate( l_coordinate ), l_target );
+        };
+    }
+
+    /**
+     * runs the A* algorithm
+     *
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @param p_heuristic heuristic function
+     * @param p_source source vertex
+     * @param p_target target vertex
+     * @return edge list of the path, empty if the target is not reachable
+     */
+    @Nonnull
+    private static List<Object> path( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Number> p_weightfunction,
+                                      @Nonnull final Function<Object, Double> p_heuristic, @Nonnull final Object p_source, @Nonnull final Object p_target
+    )
+    {
+        if ( !p_graph.containsVertex( p_source ) || !p_graph.containsVertex( p_target ) )
+            return Collections.emptyList();
+
+        final Map<Object, Double> l_distance = new HashMap<>();
+        final Map<Object, Object> l_incoming = new HashMap<>();
+        final PriorityQueue<CEntry> l_queue = new PriorityQueue<>( Comparator.comparingDouble( CEntry::estimate ) );
+
+        l_distance.put( p_source, 0D );
+        l_queue.add( new CEntry( p_source, 0, p_heuristic.apply( p_source ) ) );
+
+        while ( !l_queue.isEmpty() )
+        {
+            final CEntry l_entry = l_queue.poll();
+            // entries with a shorter distance have been added later, so skip outdated ones
+            if ( l_entry.distance() > l_distance.get( l_entry.vertex() ) )
+                continue;
+
+            if ( p_target.equals( l_entry.vertex() ) )
+                return CAStarPath.backtrack( p_graph, l_incoming, p_source, p_target );
+
+            for ( final Object l_edge : p_graph.getOutEdges( l_entry.vertex() ) )
+            {
+                final Object l_next = p_graph.getOpposite( l_entry.vertex(), l_edge );
+                final double l_candidate = l_entry.distance() + p_weightfunction.apply( l_edge ).doubleValue();
+                if ( l_candidate >= l_distance.getOrDefault( l_next, Double.POSITIVE_INFINITY ) )
+                    continue;
+
+                l_distance.put( l_next, l_candidate );
+                l_incoming.put( l_next, l_edge );
+                l_queue.add( new CEntry( l_next, l_candidate, l_candidate + p_heuristic.apply( l_next ) ) );
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * builds the edge list of the path
+     *
+     * @param p_graph graph
+     * @param p_incoming map with the incoming edge of each reached vertex
+     * @param p_source source vertex
+     * @param p_target target vertex
+     * @return edge list
+     */
+    @Nonnull
+    private static List<Object> backtrack( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Map<Object, Object> p_incoming,
+                                           @Nonnull final Object p_source, @Nonnull final Object p_target
+    )
+    {
+        final LinkedList<Object> l_path = new LinkedList<>();
+        for ( Object l_vertex = p_target; !p_source.equals( l_vertex ); )
+        {
+            final Object l_edge = p_incoming.get( l_vertex );
+            l_path.addFirst( l_edge );
+            l_vertex = p_graph.getOpposite( l_vertex, l_edge );
+        }
+
+        return l_path;
+    }
+
+
+    /**
+     * queue entry
+     */
+    private static final class CEntry
+    {
+        /**
+         * vertex
+         */
+        private final Object m_vertex;
+        /**
+         * distance from the source
+         */
+        private final double m_distance;
+        /**
+         * estimated distance over the vertex to the target
+         */
+        private final double m_estimate;
+
+        /**
+         * ctor
+         *
+         * @param p_vertex vertex
+         * @param p_distance distance
+         * @param p_estimate estimated distance
+         */
+        CEntry( @Nonnull final Object p_vertex, final double p_distance, final double p_estimate )
+        {
+            m_vertex = p_vertex;
+            m_distance = p_distance;
+            m_estimate = p_estimate;
+        }
+
+        /**
+         * returns the vertex
+         *
+         * @return vertex
+         */
+        @Nonnull
+        Object vertex()
+        {
+            return m_vertex;
+        }
+
+        /**
+         * returns the distance
+         *
+         * @return distance
+         */
+        double distance()
+        {
+            return m_distance;
+        }
+
+        /**
+         * returns the estimated distance
+         *
+         * @return estimated distance
+         */
+        double estimate()
+        {
+            return m_estimate;
+        }
+    }
+
+}
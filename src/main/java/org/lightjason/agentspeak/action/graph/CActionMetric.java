@@ -0,0 +1,250 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * metric of an instrumented action.
+ * The metric counts calls, failures and return values and stores
+ * the execution times within a latency histogram with buckets of
+ * the powers of two nanoseconds, so recording is lock-free and
+ * needs constant memory, percentiles are the upper bound of the
+ * bucket in which they are located
+ */
+public final class CActionMetric
+{
+    /**
+     * number of histogram buckets
+     */
+    private static final int BUCKETS = Long.SIZE - 1;
+    /**
+     * number of calls
+     */
+    private final LongAdder m_calls = new LongAdder();
+    /**
+     * number of failed calls
+     */
+    private final LongAdder m_failures = new LongAdder();
+    /**
+     * number of return values
+     */
+    private final LongAdder m_results = new LongAdder();
+    /**
+     * sum of the execution times
+     */
+    private final LongAdder m_time = new LongAdder();
+    /**
+     * maximum execution time
+     */
+    private final LongAccumulator m_maximum = new LongAccumulator( Math::max, 0 );
+    /**
+     * latency histogram, bucket i counts the times within [2^i, 2^(i+1)) nanoseconds
+     */
+    private final AtomicLongArray m_histogram = new AtomicLongArray( BUCKETS );
+
+    /**
+     * records a call
+     *
+     * @param p_nanoseconds execution time in nanoseconds
+     * @param p_results number of returned elements
+     * @param p_failed failed flag
+     */
+    void record( @Nonnegative final long p_nanoseconds, @Nonnegative final long p_results, final boolean p_failed )
+    {
+        m_calls.increment();
+        m_results.add( p_results );
+        m_time.add( p_nanoseconds );
+        m_maximum.accumulate( p_nanoseconds );
+        m_histogram.incrementAndGet( CActionMetric.bucket( p_nanoseconds ) );
+        if ( p_failed )
+            m_failures.increment();
+    }
+
+    /**
+     * number of calls
+     *
+     * @return calls
+     */
+    @Nonnegative
+    public long calls()
+    {
+        return m_calls.sum();
+    }
+
+    /**
+     * number of failed calls
+     *
+     * @return failures
+     */
+    @Nonnegative
+    public long failures()
+    {
+        return m_failures.sum();
+    }
+
+    /**
+     * number of returned elements
+     *
+     * @return results
+     */
+    @Nonnegative
+    public long results()
+    {
+        return m_results.sum();
+    }
+
+    /**
+     * mean execution time
+     *
+     * @return mean in nanoseconds, zero without calls
+     */
+    @Nonnegative
+    public double mean()
+    {
+        final long l_calls = m_calls.sum();
+        return l_calls == 0 ? 0 : m_time.doubleValue() / l_calls;
+    }
+
+    /**
+     * maximum execution time
+     *
+     * @return maximum in nanoseconds
+     */
+    @Nonnegative
+    public long maximum()
+    {
+        return m_maximum.get();
+    }
+
+    /**
+     * percentile of the execution time
+     *
+     * @param p_quantile quantile within [0, 1]
+     * @return upper bound of the bucket in nanoseconds, zero without calls
+     */
+    @Nonnegative
+    public long percentile( final double p_quantile )
+    {
+        final long[] l_histogram = this.buckets();
+        long l_count = 0;
+        for ( final long i : l_histogram )
+            l_count += i;
+
+        final double l_rank = Math.max( 1, Math.ceil( p_quantile * l_count ) );
+        long l_sum = 0;
+        for ( int i = 0; i < l_histogram.length; i++ )
+        {
+            l_sum += l_histogram[i];
+            if ( l_count > 0 && l_sum >= l_rank )
+                return CActionMetric.bound( i );
+        }
+
+        return 0;
+    }
+
+    /**
+     * latency histogram
+     *
+     * @return unmodifiable map with the upper bound of the non-empty buckets in nanoseconds and the number of calls
+     */
+    @Nonnull
+    public Map<Long, Long> histogram()
+    {
+        final long[] l_histogram = this.buckets();
+        final Map<Long, Long> l_result = new TreeMap<>();
+        for ( int i = 0; i < l_histogram.length; i++ )
+            if ( l_histogram[i] > 0 )
+                l_result.put( CActionMetric.bound( i ), l_histogram[i] );
+
+        return Collections.unmodifiableMap( l_result );
+    }
+
+    /**
+     * returns all values of the metric
+     *
+     * @return unmodifiable map with the names of the values
+     */
+    @Nonnull
+    public Map<String, Object> map()
+    {
+        final Map<String, Object> l_result = new HashMap<>();
+        l_result.put( "calls", this.calls() );
+        l_result.put( "failures", this.failures() );
+        l_result.put( "results", this.results() );
+        l_result.put( "mean", this.mean() );
+        l_result.put( "max", this.maximum() );
+        l_result.put( "p50", this.percentile( 0.5 ) );
+        l_result.put( "p90", this.percentile( 0.9 ) );
+        l_result.put( "p99", this.percentile( 0.99 ) );
+        l_result.put( "histogram", this.histogram() );
+        return Collections.unmodifiableMap( l_result );
+    }
+
+    /**
+     * copy of the histogram buckets
+     *
+     * @return buckets
+     */
+    @Nonnull
+    private long[] buckets()
+    {
+        final long[] l_histogram = new long[BUCKETS];
+        for ( int i = 0; i < BUCKETS; i++ )
+            l_histogram[i] = m_histogram.get( i );
+        return l_histogram;
+    }
+
+    /**
+     * returns the bucket of an execution time
+     *
+     * @param p_nanoseconds execution time
+     * @return bucket index
+     */
+    private static int bucket( final long p_nanoseconds )
+    {
+        return Math.min( BUCKETS - 1, Long.SIZE - 1 - Long.numberOfLeadingZeros( Math.max( 1, p_nanoseconds ) ) );
+    }
+
+    /**
+     * returns the upper bound of a bucket
+     *
+     * @param p_bucket bucket index
+     * @return upper bound in nanoseconds
+     */
+    private static long bound( final int p_bucket )
+    {
+        return p_bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << ( p_bucket + 1 );
+    }
+
+}
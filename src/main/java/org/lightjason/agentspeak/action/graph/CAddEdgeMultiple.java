@@ -59,6 +59,12 @@ public final class CAddEdgeMultiple extends IApplyMultiple
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int windowsize()
     {
@@ -71,6 +77,8 @@ public final class CAddEdgeMultiple extends IApplyMultiple
     )
     {
         p_graph.addEdge( p_window.get( 0 ).raw(), p_window.get( 1 ).raw(), p_window.get( 2 ).raw(), p_graph.getDefaultEdgeType() );
+        CGraphIndex.added( p_graph, p_window.get( 1 ).<Object>raw(), p_window.get( 2 ).<Object>raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 
 }
@@ -57,6 +57,12 @@ public final class CAddEdgeSingle extends IApplySingle
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int skipsize()
     {
@@ -69,6 +75,8 @@ public final class CAddEdgeSingle extends IApplySingle
     )
     {
         p_graph.addEdge( p_window.get( 0 ).raw(), p_window.get( 1 ).raw(), p_window.get( 2 ).raw(), p_graph.getDefaultEdgeType() );
+        CGraphIndex.added( p_graph, p_window.get( 1 ).<Object>raw(), p_window.get( 2 ).<Object>raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 
 }
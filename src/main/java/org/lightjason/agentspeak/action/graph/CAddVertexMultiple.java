@@ -56,6 +56,12 @@ public final class CAddVertexMultiple extends IApplyMultiple
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int windowsize()
     {
@@ -68,6 +74,8 @@ public final class CAddVertexMultiple extends IApplyMultiple
     )
     {
         p_graph.addVertex( p_window.get( 0 ).raw() );
+        CGraphIndex.added( p_graph, p_window.get( 0 ).<Object>raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 
 }
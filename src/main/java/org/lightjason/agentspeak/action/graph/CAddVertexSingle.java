@@ -57,6 +57,12 @@ public final class CAddVertexSingle extends IApplySingle
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int skipsize()
     {
@@ -69,6 +75,8 @@ public final class CAddVertexSingle extends IApplySingle
     )
     {
         p_graph.addVertex( p_window.get( 0 ).raw() );
+        CGraphIndex.added( p_graph, p_window.get( 0 ).<Object>raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 
 }
@@ -24,17 +24,17 @@
 package org.lightjason.agentspeak.action.graph;
 
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
-import cern.colt.matrix.tdouble.algo.DenseDoubleAlgebra;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
-import cern.jet.math.tdouble.DoubleFunctions;
-import com.codepoetics.protonpack.StreamUtils;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.UndirectedGraph;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.CEnumConstantNotPresentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -44,11 +44,14 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -57,20 +60,25 @@ import java.util.stream.Stream;
  * creates of a graph the adjacency matrix.
  * The action converts graphs into a matrix,
  * if a string is put on the argument list
- * it must be "dense|sparse" to define the resulting
+ * it must be "dense|sparse|csr|csc" to define the resulting
  * matrix, a map defines the costs of an edge, a number
  * defines the default costs, the ordering of
  * the arguments is completly independed, for each
  * graph two arguments will be returned, the
  * adjacency matrix and the node names. The cost-map does
  * not need an entry for each edge non-existing edges have
- * got on default zero costs with 1
+ * got on default zero costs with 1, on parallel execution
+ * dense matrices are filled concurrently by row partitions.
+ * The matrix contains all vertices ordered by the stable
+ * vertex index of the graph (see {@code .graph/vertexindex}),
+ * so exports of an unchanged graph are compatible
  *
  * {@code
  * [M1|N1|M2|N2] = .graph/adjacencymatrix( Graph1, "dense|sparse", Graph2 );
  * [M1|N1|M2|N2] = .graph/adjacencymatrix( CostMap, Graph1, Graph2 );
  * [M1|N1|M2|N2] = .graph/adjacencymatrix( Graph1, 1, Graph2 );
  * [M1|N1|M2|N2] = .graph/adjacencymatrix( CostMap, Graph1, Graph2, "dense|sparse", );
+ * [M1|N1|M2|N2] = .graph/adjacencymatrix( CostMap, Graph1, Graph2, "csr|csc" );
  * }
  *
  * @see <a href="https://en.wikipedia.org/wiki/Adjacency_matrix"></a>
@@ -132,7 +140,7 @@ public final class CAdjacencyMatrix extends IBaseAction
         CCommon.flatten( p_argument )
                .filter( i -> CCommon.isssignableto( i, Graph.class ) )
                .map( ITerm::<Graph<Object, Object>>raw )
-               .map( i -> CAdjacencyMatrix.apply( i, l_costmap, l_defaultcost, l_type ) )
+               .map( i -> CAdjacencyMatrix.apply( p_parallel, i, l_costmap, l_defaultcost, l_type ) )
                .forEach( i ->
                {
                    p_return.add( CRawTerm.of( i.getLeft() ) );
@@ -145,57 +153,156 @@ public final class CAdjacencyMatrix extends IBaseAction
     /**
      * converts a graph into an adjacency matrix
      *
+     * @param p_parallel parallel execution
      * @param p_graph graph
      * @param p_cost map with edges and costs
      * @param p_defaultcost default cost value (on non-existing map values)
      * @param p_type matrix type
      * @return pair of double matrix and vertices
      */
-    private static Pair<DoubleMatrix2D, Collection<?>> apply( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Map<?, Number> p_cost,
-                                                              final double p_defaultcost, @Nonnull final EBlasType p_type
+    private static Pair<DoubleMatrix2D, Collection<?>> apply( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph,
+                                                              @Nonnull final Map<?, Number> p_cost, final double p_defaultcost,
+                                                              @Nonnull final EBlasType p_type
     )
     {
-        // index map for matching vertex to index position within matrix
-        final Map<Object, Integer> l_index = new HashMap<>();
-
-        // extract vertices of edges
-        p_graph.getEdges()
-               .stream()
-               .map( p_graph::getEndpoints )
-               .flatMap( i -> Stream.of( i.getFirst(), i.getSecond() ) )
-               .forEach( i -> l_index.putIfAbsent( i, 0 ) );
-
-        // define for each vertex an index number in [0, size)
-        StreamUtils.zip(
-            l_index.keySet().stream(),
-            IntStream.range( 0, l_index.size() ).boxed(),
-            ImmutablePair::new
-        ).forEach( i -> l_index.put( i.getKey(), i.getValue() ) );
+        final CMatrixEvent l_event = new CMatrixEvent();
+        l_event.begin();
 
+        // the stable vertex index of the graph defines the matrix positions
+        final CGraphIndex.CEdges l_snapshot = CGraphIndex.of( p_graph ).edges( p_parallel, p_graph );
+        final List<Object> l_vertices = l_snapshot.m_vertices;
+
+        // endpoint indices and costs of each edge
+        final Object[] l_edges = l_snapshot.m_edges;
+        final int[] l_source = l_snapshot.m_source;
+        final int[] l_target = l_snapshot.m_target;
+        final double[] l_cost = new double[l_edges.length];
+        final IntStream l_range = IntStream.range( 0, l_edges.length );
+        ( p_parallel ? l_range.parallel() : l_range ).forEach( i -> l_cost[i] = p_cost.getOrDefault( l_edges[i], p_defaultcost ).doubleValue() );
+
+        // on undirected graphs the costs are written to both cells, so no transposed copy is needed
+        final boolean l_symmetric = p_graph instanceof UndirectedGraph<?, ?>;
         final DoubleMatrix2D l_matrix;
         switch ( p_type )
         {
             case SPARSE:
-                l_matrix = new SparseDoubleMatrix2D( l_index.size(), l_index.size() );
+                // hash-based sparse matrices are not thread-safe
+                l_matrix = new SparseDoubleMatrix2D( l_vertices.size(), l_vertices.size() );
+                IntStream.range( 0, l_edges.length ).forEach( i -> CAdjacencyMatrix.add( l_matrix, l_source[i], l_target[i], l_cost[i], l_symmetric ) );
                 break;
 
+            case CSR:
+            case CSC:
+                l_matrix = CAdjacencyMatrix.compressed( p_type, l_vertices.size(), l_source, l_target, l_cost, l_symmetric );
+                break;
+
+            default:
+                l_matrix = new DenseDoubleMatrix2D( l_vertices.size(), l_vertices.size() );
+                if ( p_parallel && l_edges.length > 1 )
+                    CAdjacencyMatrix.fill( l_matrix, l_source, l_target, l_cost, l_symmetric );
+                else
+                    IntStream.range( 0, l_edges.length ).forEach( i -> CAdjacencyMatrix.add( l_matrix, l_source[i], l_target[i], l_cost[i], l_symmetric ) );
+        }
+
+        l_event.finish( p_type, l_matrix, l_edges.length, p_parallel );
+        return new ImmutablePair<>( l_matrix, new ArrayList<>( l_vertices ) );
+    }
+
+    /**
+     * creates a compressed sparse matrix of the edge triplets,
+     * costs of duplicated cells are summed
+     *
+     * @param p_type matrix type
+     * @param p_size number of vertices
+     * @param p_source source indices
+     * @param p_target target indices
+     * @param p_cost costs
+     * @param p_symmetric adds the transposed triplets
+     * @return compressed sparse row or column matrix
+     */
+    @Nonnull
+    private static DoubleMatrix2D compressed( @Nonnull final EBlasType p_type, final int p_size, @Nonnull final int[] p_source,
+                                              @Nonnull final int[] p_target, @Nonnull final double[] p_cost, final boolean p_symmetric
+    )
+    {
+        final int[] l_rows = p_symmetric ? IntStream.concat( Arrays.stream( p_source ), Arrays.stream( p_target ) ).toArray() : p_source;
+        final int[] l_columns = p_symmetric ? IntStream.concat( Arrays.stream( p_target ), Arrays.stream( p_source ) ).toArray() : p_target;
+        final double[] l_cost = p_symmetric ? DoubleStream.concat( Arrays.stream( p_cost ), Arrays.stream( p_cost ) ).toArray() : p_cost;
+
+        switch ( p_type )
+        {
+            case CSR:
+                return new SparseRCDoubleMatrix2D( p_size, p_size, l_rows, l_columns, l_cost, true, true, true );
+
+            case CSC:
+                return new SparseCCDoubleMatrix2D( p_size, p_size, l_rows, l_columns, l_cost, true, true, true );
+
             default:
-                l_matrix = new DenseDoubleMatrix2D( l_index.size(), l_index.size() );
+                throw new CEnumConstantNotPresentException( EBlasType.class, p_type.toString() );
         }
+    }
+
+    /**
+     * fills a dense matrix concurrently, the rows are partitioned,
+     * so each cell is written by one task only
+     *
+     * @param p_matrix matrix
+     * @param p_source source indices
+     * @param p_target target indices
+     * @param p_cost costs
+     * @param p_symmetric adds the costs also to the transposed cells
+     */
+    private static void fill( @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final int[] p_source, @Nonnull final int[] p_target,
+                              @Nonnull final double[] p_cost, final boolean p_symmetric
+    )
+    {
+        // an entry is the edge index shifted by one and the lowest bit defines the transposed cell
+        final int l_partitions = Math.min( p_matrix.rows(), ForkJoinPool.getCommonPoolParallelism() );
+        final IntUnaryOperator l_partition = i -> (int) ( (long) i * l_partitions / p_matrix.rows() );
+        final int[] l_offset = new int[l_partitions + 1];
+        IntStream.range( 0, p_source.length ).forEach( i ->
+        {
+            l_offset[l_partition.applyAsInt( p_source[i] ) + 1]++;
+            if ( p_symmetric )
+                l_offset[l_partition.applyAsInt( p_target[i] ) + 1]++;
+        } );
+        Arrays.parallelPrefix( l_offset, Integer::sum );
 
-        // map costs to matrix
-        p_graph.getEdges()
-               .stream()
-               .map( i -> new ImmutablePair<>( p_graph.getEndpoints( i ), p_cost.getOrDefault( i, p_defaultcost ).doubleValue() ) )
-               .forEach( i -> l_matrix.setQuick(
-                   l_index.get( i.getLeft().getFirst() ), l_index.get( i.getLeft().getSecond() ),
-                   i.getRight() + l_matrix.getQuick( l_index.get( i.getLeft().getFirst() ), l_index.get( i.getLeft().getSecond() ) )
-               ) );
+        final int[] l_position = Arrays.copyOf( l_offset, l_partitions );
+        final int[] l_entries = new int[l_offset[l_partitions]];
+        IntStream.range( 0, p_source.length ).forEach( i ->
+        {
+            l_entries[l_position[l_partition.applyAsInt( p_source[i] )]++] = i << 1;
+            if ( p_symmetric )
+                l_entries[l_position[l_partition.applyAsInt( p_target[i] )]++] = i << 1 | 1;
+        } );
 
-        // on undirected graphs, add the transposefor cost duplicating
-        if ( p_graph instanceof UndirectedGraph<?, ?> )
-            l_matrix.assign( DenseDoubleAlgebra.DEFAULT.transpose( l_matrix ).copy(), DoubleFunctions.plus );
+        IntStream.range( 0, l_partitions ).parallel().forEach( i ->
+        {
+            for ( int j = l_offset[i]; j < l_offset[i + 1]; j++ )
+            {
+                final int l_edge = l_entries[j] >>> 1;
+                if ( ( l_entries[j] & 1 ) == 0 )
+                    CAdjacencyMatrix.add( p_matrix, p_source[l_edge], p_target[l_edge], p_cost[l_edge], false );
+                else
+                    CAdjacencyMatrix.add( p_matrix, p_target[l_edge], p_source[l_edge], p_cost[l_edge], false );
+            }
+        } );
+    }
 
-        return new ImmutablePair<>( l_matrix, new ArrayList<>( l_index.keySet() ) );
+    /**
+     * adds the cost to a matrix cell
+     *
+     * @param p_matrix matrix
+     * @param p_row row index
+     * @param p_column column index
+     * @param p_cost cost
+     * @param p_symmetric adds the cost also to the transposed cell
+     */
+    private static void add( @Nonnull final DoubleMatrix2D p_matrix, final int p_row, final int p_column, final double p_cost, final boolean p_symmetric )
+    {
+        p_matrix.setQuick( p_row, p_column, p_matrix.getQuick( p_row, p_column ) + p_cost );
+        if ( p_symmetric )
+            p_matrix.setQuick( p_column, p_row, p_matrix.getQuick( p_column, p_row ) + p_cost );
     }
 }
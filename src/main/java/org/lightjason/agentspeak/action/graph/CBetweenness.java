@@ -0,0 +1,503 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import com.google.common.base.Function;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+
+/**
+ * calculates the betweenness centrality of all vertices within each graph instance.
+ * The ordering of the arguments can be arbitrary, for any graph instance a map
+ * with the vertex as key and the centrality as value is returned, the first map
+ * instance will be used as weight-map, a tuple of the string "defaultweight" and
+ * a numeric value defines the default weight value of the weight-map (the default
+ * value is one, so without a weight-map all edges are weighted equally), the action
+ * fails on weights, which are not positive.
+ * The calculation uses the algorithm of Brandes with one Dijkstra search for each
+ * source vertex, on parallel execution the sources are split on the fork-join pool.
+ * With the tuple "samples" and a number k only k random source vertices are used
+ * and the result is scaled by the number of vertices divided by k, the tuple
+ * "seed" defines the seed of the random sampling. On graphs without directed edges
+ * each path is counted once
+ *
+ * {@code
+ * [B1|B2] = .graph/betweenness( Graph1, Graph2 );
+ * [B3|B4] = .graph/betweenness( "samples", 500, "seed", 42, WeightMap, Graph1, Graph2 );
+ * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Betweenness_centrality"></a>
+ * @see <a href="https://doi.org/10.1080/0022250X.2001.9990249"></a>
+ */
+public final class CBetweenness extends IApplyPathAlgorithm
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4517920273619350278L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CBetweenness.class, "graph" );
+    /**
+     * samples parameter
+     */
+    private static final String SAMPLES = "samples";
+    /**
+     * seed parameter
+     */
+    private static final String SEED = "seed";
+    /**
+     * parameter names and types
+     */
+    private static final Map<String, Class<?>> PARAMETERS = Map.of( SAMPLES, Number.class, SEED, Number.class );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    protected int minimalvertices()
+    {
+        return 0;
+    }
+
+    @Nonnull
+    @Override
+    protected Number defaultweight()
+    {
+        return 1D;
+    }
+
+    @Override
+    protected boolean positiveweights()
+    {
+        return true;
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, Class<?>> parameters()
+    {
+        return PARAMETERS;
+    }
+
+    @Override
+    protected Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                            @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
+    )
+    {
+        final CGraphIndex.CEdges l_edges = CGraphIndex.of( p_graph ).edges( p_parallel, p_graph );
+        final List<Object> l_vertices = l_edges.m_vertices;
+        final int[] l_sources = CBetweenness.sources(
+            l_vertices.size(),
+            p_parameter.containsKey( SAMPLES ) ? p_parameter.get( SAMPLES ).<Number>raw().intValue() : l_vertices.size(),
+            p_parameter.containsKey( SEED ) ? new Random( p_parameter.get( SEED ).<Number>raw().longValue() ) : new Random()
+        );
+
+        final CArcs l_arcs = new CArcs( p_graph, l_edges, p_weightfunction );
+        final IntStream l_stream = IntStream.of( l_sources );
+        final double[] l_centrality = ( p_parallel ? l_stream.parallel() : l_stream ).collect(
+            () -> new CWorkspace( l_arcs ), CWorkspace::accept, CWorkspace::combine
+        ).m_centrality;
+
+        // sampled sources are extrapolated to all vertices and on undirected graphs each path is found from both ends
+        final double l_scale = ( l_sources.length == 0 ? 0 : (double) l_vertices.size() / l_sources.length )
+                               / ( p_graph.getEdgeCount( EdgeType.DIRECTED ) == 0 ? 2 : 1 );
+
+        final Map<Object, Double> l_result = new HashMap<>( 2 * l_vertices.size() );
+        IntStream.range( 0, l_centrality.length ).forEach( i -> l_result.put( l_vertices.get( i ), l_centrality[i] * l_scale ) );
+        return l_result;
+    }
+
+    /**
+     * returns the source vertices
+     *
+     * @param p_size number of vertices
+     * @param p_samples number of samples
+     * @param p_random random generator
+     * @return source indices
+     */
+    @Nonnull
+    private static int[] sources( @Nonnegative final int p_size, final int p_samples, @Nonnull final Random p_random )
+    {
+        final int[] l_sources = IntStream.range( 0, p_size ).toArray();
+        if ( p_samples >= p_size )
+            return l_sources;
+
+        // partial Fisher-Yates shuffle, the first elements are the samples
+        final int l_samples = Math.max( 0, p_samples );
+        for ( int i = 0; i < l_samples; i++ )
+        {
+            final int l_swap = i + p_random.nextInt( p_size - i );
+            final int l_value = l_sources[i];
+            l_sources[i] = l_sources[l_swap];
+            l_sources[l_swap] = l_value;
+        }
+
+        return Arrays.copyOf( l_sources, l_samples );
+    }
+
+
+    /**
+     * outgoing and incoming arcs of the vertices in
+     * compressed form, undirected edges are used in both
+     * directions and loops are ignored
+     */
+    private static final class CArcs
+    {
+        /**
+         * number of vertices
+         */
+        private final int m_size;
+        /**
+         * offsets of the outgoing arcs
+         */
+        private final int[] m_outoffset;
+        /**
+         * targets of the outgoing arcs
+         */
+        private final int[] m_outtarget;
+        /**
+         * weights of the outgoing arcs
+         */
+        private final double[] m_outweight;
+        /**
+         * offsets of the incoming arcs
+         */
+        private final int[] m_inoffset;
+        /**
+         * sources of the incoming arcs
+         */
+        private final int[] m_insource;
+        /**
+         * weights of the incoming arcs
+         */
+        private final double[] m_inweight;
+
+        /**
+         * ctor
+         *
+         * @param p_graph graph
+         * @param p_edges edges of the vertex index
+         * @param p_weightfunction weight function
+         */
+        CArcs( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final CGraphIndex.CEdges p_edges, @Nonnull final Function<Object, Number> p_weightfunction )
+        {
+            m_size = p_edges.m_vertices.size();
+
+            final int[] l_source = new int[2 * p_edges.m_edges.length];
+            final int[] l_target = new int[l_source.length];
+            final double[] l_weight = new double[l_source.length];
+            int l_count = 0;
+            for ( int i = 0; i < p_edges.m_edges.length; i++ )
+            {
+                final Object l_edge = p_edges.m_edges[i];
+                final int l_first = p_edges.m_source[i];
+                final int l_second = p_edges.m_target[i];
+                if ( l_first == l_second )
+                    continue;
+
+                final double l_value = p_weightfunction.apply( l_edge ).doubleValue();
+                l_source[l_count] = l_first;
+                l_target[l_count] = l_second;
+                l_weight[l_count++] = l_value;
+
+                if ( EdgeType.UNDIRECTED.equals( p_graph.getEdgeType( l_edge ) ) )
+                {
+                    l_source[l_count] = l_second;
+                    l_target[l_count] = l_first;
+                    l_weight[l_count++] = l_value;
+                }
+            }
+
+            m_outoffset = new int[m_size + 1];
+            m_outtarget = new int[l_count];
+            m_outweight = new double[l_count];
+            CArcs.compress( l_count, l_source, l_target, l_weight, m_outoffset, m_outtarget, m_outweight );
+
+            m_inoffset = new int[m_size + 1];
+            m_insource = new int[l_count];
+            m_inweight = new double[l_count];
+            CArcs.compress( l_count, l_target, l_source, l_weight, m_inoffset, m_insource, m_inweight );
+        }
+
+        /**
+         * sorts the arcs by a counting sort into compressed arrays
+         *
+         * @param p_count number of arcs
+         * @param p_key key vertices
+         * @param p_value value vertices
+         * @param p_weight weights
+         * @param p_offset offset output
+         * @param p_adjacent adjacent vertex output
+         * @param p_adjacentweight weight output
+         */
+        private static void compress( final int p_count, @Nonnull final int[] p_key, @Nonnull final int[] p_value, @Nonnull final double[] p_weight,
+                                      @Nonnull final int[] p_offset, @Nonnull final int[] p_adjacent, @Nonnull final double[] p_adjacentweight
+        )
+        {
+            for ( int i = 0; i < p_count; i++ )
+                p_offset[p_key[i] + 1]++;
+            for ( int i = 1; i < p_offset.length; i++ )
+                p_offset[i] += p_offset[i - 1];
+
+            final int[] l_position = Arrays.copyOf( p_offset, p_offset.length - 1 );
+            for ( int i = 0; i < p_count; i++ )
+            {
+                final int l_slot = l_position[p_key[i]]++;
+                p_adjacent[l_slot] = p_value[i];
+                p_adjacentweight[l_slot] = p_weight[i];
+            }
+        }
+    }
+
+
+    /**
+     * workspace of one task, which accumulates the
+     * dependencies of a sequence of source vertices
+     */
+    private static final class CWorkspace
+    {
+        /**
+         * arcs
+         */
+        private final CArcs m_arcs;
+        /**
+         * accumulated centrality
+         */
+        private final double[] m_centrality;
+        /**
+         * distances of the current source
+         */
+        private final double[] m_distance;
+        /**
+         * number of shortest paths of the current source
+         */
+        private final double[] m_sigma;
+        /**
+         * dependencies of the current source
+         */
+        private final double[] m_delta;
+        /**
+         * settled flags
+         */
+        private final boolean[] m_settled;
+        /**
+         * vertices in the order of non-decreasing distance
+         */
+        private final int[] m_order;
+        /**
+         * heap distances
+         */
+        private double[] m_heapdistance;
+        /**
+         * heap vertices
+         */
+        private int[] m_heapvertex;
+        /**
+         * heap size
+         */
+        private int m_heapsize;
+
+        /**
+         * ctor
+         *
+         * @param p_arcs arcs
+         */
+        CWorkspace( @Nonnull final CArcs p_arcs )
+        {
+            m_arcs = p_arcs;
+            m_centrality = new double[p_arcs.m_size];
+            m_distance = new double[p_arcs.m_size];
+            m_sigma = new double[p_arcs.m_size];
+            m_delta = new double[p_arcs.m_size];
+            m_settled = new boolean[p_arcs.m_size];
+            m_order = new int[p_arcs.m_size];
+            m_heapdistance = new double[Math.max( 16, p_arcs.m_size )];
+            m_heapvertex = new int[m_heapdistance.length];
+            Arrays.fill( m_distance, Double.POSITIVE_INFINITY );
+        }
+
+        /**
+         * accumulates the dependencies of a source
+         *
+         * @param p_source source index
+         */
+        void accept( final int p_source )
+        {
+            final int l_count = this.search( p_source );
+
+            // dependencies are propagated back in the order of non-increasing distance
+            for ( int i = l_count - 1; i >= 0; i-- )
+            {
+                final int l_vertex = m_order[i];
+                final double l_factor = ( 1 + m_delta[l_vertex] ) / m_sigma[l_vertex];
+                for ( int j = m_arcs.m_inoffset[l_vertex]; j < m_arcs.m_inoffset[l_vertex + 1]; j++ )
+                {
+                    final int l_predecessor = m_arcs.m_insource[j];
+                    if ( m_settled[l_predecessor] && m_distance[l_predecessor] + m_arcs.m_inweight[j] == m_distance[l_vertex] )
+                        m_delta[l_predecessor] += m_sigma[l_predecessor] * l_factor;
+                }
+
+                if ( l_vertex != p_source )
+                    m_centrality[l_vertex] += m_delta[l_vertex];
+            }
+
+            for ( int i = 0; i < l_count; i++ )
+            {
+                final int l_vertex = m_order[i];
+                m_distance[l_vertex] = Double.POSITIVE_INFINITY;
+                m_sigma[l_vertex] = 0;
+                m_delta[l_vertex] = 0;
+                m_settled[l_vertex] = false;
+            }
+        }
+
+        /**
+         * adds the centrality of another workspace
+         *
+         * @param p_workspace workspace
+         */
+        void combine( @Nonnull final CWorkspace p_workspace )
+        {
+            for ( int i = 0; i < m_centrality.length; i++ )
+                m_centrality[i] += p_workspace.m_centrality[i];
+        }
+
+        /**
+         * Dijkstra search which counts the shortest paths
+         *
+         * @param p_source source index
+         * @return number of settled vertices
+         */
+        private int search( final int p_source )
+        {
+            int l_count = 0;
+            m_distance[p_source] = 0;
+            m_sigma[p_source] = 1;
+            this.push( p_source, 0 );
+
+            while ( m_heapsize > 0 )
+            {
+                final double l_distance = m_heapdistance[0];
+                final int l_vertex = this.pop();
+                if ( m_settled[l_vertex] || l_distance > m_distance[l_vertex] )
+                    continue;
+
+                m_settled[l_vertex] = true;
+                m_order[l_count++] = l_vertex;
+
+                for ( int i = m_arcs.m_outoffset[l_vertex]; i < m_arcs.m_outoffset[l_vertex + 1]; i++ )
+                {
+                    final int l_next = m_arcs.m_outtarget[i];
+                    final double l_candidate = l_distance + m_arcs.m_outweight[i];
+                    if ( l_candidate < m_distance[l_next] )
+                    {
+                        m_distance[l_next] = l_candidate;
+                        m_sigma[l_next] = m_sigma[l_vertex];
+                        this.push( l_next, l_candidate );
+                    }
+                    else if ( l_candidate == m_distance[l_next] && !m_settled[l_next] )
+                        m_sigma[l_next] += m_sigma[l_vertex];
+                }
+            }
+
+            return l_count;
+        }
+
+        /**
+         * adds an element to the binary heap
+         *
+         * @param p_vertex vertex index
+         * @param p_distance distance
+         */
+        private void push( final int p_vertex, final double p_distance )
+        {
+            if ( m_heapsize == m_heapdistance.length )
+            {
+                m_heapdistance = Arrays.copyOf( m_heapdistance, 2 * m_heapsize );
+                m_heapvertex = Arrays.copyOf( m_heapvertex, 2 * m_heapsize );
+            }
+
+            int l_position = m_heapsize++;
+            while ( l_position > 0 && m_heapdistance[( l_position - 1 ) / 2] > p_distance )
+            {
+                m_heapdistance[l_position] = m_heapdistance[( l_position - 1 ) / 2];
+                m_heapvertex[l_position] = m_heapvertex[( l_position - 1 ) / 2];
+                l_position = ( l_position - 1 ) / 2;
+            }
+
+            m_heapdistance[l_position] = p_distance;
+            m_heapvertex[l_position] = p_vertex;
+        }
+
+        /**
+         * removes the minimum of the binary heap
+         *
+         * @return vertex index
+         */
+        private int pop()
+        {
+            final int l_result = m_heapvertex[0];
+            final double l_distance = m_heapdistance[--m_heapsize];
+            final int l_vertex = m_heapvertex[m_heapsize];
+
+            int l_position = 0;
+            while ( 2 * l_position + 1 < m_heapsize )
+            {
+                int l_child = 2 * l_position + 1;
+                if ( l_child + 1 < m_heapsize && m_heapdistance[l_child + 1] < m_heapdistance[l_child] )
+                    l_child++;
+                if ( m_heapdistance[l_child] >= l_distance )
+                    break;
+
+                m_heapdistance[l_position] = m_heapdistance[l_child];
+                m_heapvertex[l_position] = m_heapvertex[l_child];
+                l_position = l_child;
+            }
+
+            m_heapdistance[l_position] = l_distance;
+            m_heapvertex[l_position] = l_vertex;
+            return l_result;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * adds a large number of edges to graph instances in one pass.
+ * The graph arguments are followed by three lists of equal size with
+ * the edge identifiers, the start vertices and the end vertices or by
+ * a single list, which contains a list of identifier, start and end
+ * vertex for each edge. The lists are not flattened, the compressed
+ * sparse row graphs are pre-sized before the edges are added, on
+ * parallel execution the edges of concurrent graphs are added by many
+ * threads, the vertex index and the path caches are updated once
+ *
+ * {@code
+ * .graph/bulkload( Graph1, Graph2, EdgeIds, StartVertices, EndVertices );
+ * .graph/bulkload( Graph, [ [ "edgeid1", StartVertex1, EndVertex1 ], [ "edgeid2", StartVertex2, EndVertex2 ] ] );
+ * }
+ */
+public final class CBulkLoad extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8713069210658472215L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CBulkLoad.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<Graph<Object, Object>> l_graphs = p_argument.stream()
+                                                               .map( ITerm::raw )
+                                                               .filter( i -> i instanceof Graph<?, ?> )
+                                                               .map( CBulkLoad::graph )
+                                                               .collect( Collectors.toList() );
+
+        final List<Object[]> l_lists = p_argument.stream()
+                                                 .map( ITerm::raw )
+                                                 .filter( i -> i instanceof Collection<?> )
+                                                 .map( i -> ( (Collection<?>) i ).stream().map( CBulkLoad::raw ).toArray() )
+                                                 .collect( Collectors.toList() );
+
+        final Object[][] l_edges = l_lists.size() == 1 ? CBulkLoad.triples( p_context, l_lists.get( 0 ) ) : l_lists.toArray( new Object[0][] );
+        if ( l_edges.length != 3 || l_edges[0].length != l_edges[1].length || l_edges[0].length != l_edges[2].length )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongedgelists" ) );
+
+        l_graphs.forEach( i -> CBulkLoad.load( p_parallel, i, l_edges[0], l_edges[1], l_edges[2] ) );
+        return Stream.empty();
+    }
+
+    /**
+     * adds the edges to a graph
+     *
+     * @param p_parallel parallel execution
+     * @param p_graph graph
+     * @param p_edges edge identifiers
+     * @param p_sources start vertices
+     * @param p_targets end vertices
+     */
+    private static void load( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Object[] p_edges,
+                              @Nonnull final Object[] p_sources, @Nonnull final Object[] p_targets
+    )
+    {
+        if ( p_graph instanceof ICompressedSparseRowGraph<?, ?> )
+            ( (ICompressedSparseRowGraph<?, ?>) p_graph ).ensurecapacity( p_edges.length );
+
+        final IntStream l_stream = IntStream.range( 0, p_edges.length );
+        ( p_parallel && p_graph instanceof IConcurrentGraph<?, ?> ? l_stream.parallel() : l_stream )
+            .forEach( i -> p_graph.addEdge( p_edges[i], p_sources[i], p_targets[i], p_graph.getDefaultEdgeType() ) );
+
+        CGraphIndex.added( p_graph, p_sources );
+        CGraphIndex.added( p_graph, p_targets );
+        IApplyPathAlgorithm.invalidate( p_graph );
+    }
+
+    /**
+     * splits a list of edge triples into three lists
+     *
+     * @param p_context execution context
+     * @param p_triples list of triples
+     * @return edge identifiers, start and end vertices
+     */
+    @Nonnull
+    private static Object[][] triples( @Nonnull final IContext p_context, @Nonnull final Object[] p_triples )
+    {
+        final Object[][] l_result = new Object[3][p_triples.length];
+        for ( int i = 0; i < p_triples.length; i++ )
+        {
+            final List<Object> l_triple = p_triples[i] instanceof Collection<?>
+                                          ? ( (Collection<?>) p_triples[i] ).stream().map( CBulkLoad::raw ).collect( Collectors.toCollection( ArrayList::new ) )
+                                          : new ArrayList<>();
+            if ( l_triple.size() != 3 )
+                throw new CExecutionIllegealArgumentException(
+                    p_context, org.lightjason.agentspeak.common.CCommon.languagestring( CBulkLoad.class, "wrongedgetriple", i ) );
+
+            l_result[0][i] = l_triple.get( 0 );
+            l_result[1][i] = l_triple.get( 1 );
+            l_result[2][i] = l_triple.get( 2 );
+        }
+
+        return l_result;
+    }
+
+    /**
+     * returns the raw value of a list element
+     *
+     * @param p_value list element
+     * @return raw value
+     */
+    private static Object raw( final Object p_value )
+    {
+        return p_value instanceof ITerm ? ( (ITerm) p_value ).raw() : p_value;
+    }
+
+    /**
+     * casts a graph argument
+     *
+     * @param p_graph graph object
+     * @return graph
+     */
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    private static Graph<Object, Object> graph( @Nonnull final Object p_graph )
+    {
+        return (Graph<Object, Object>) p_graph;
+    }
+}
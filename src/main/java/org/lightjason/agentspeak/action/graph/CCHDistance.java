@@ -0,0 +1,67 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import org.lightjason.agentspeak.common.IPath;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * calculates the distance of two vertices within each graph instance
+ * on the contraction hierarchy, the distance is infinity if the end-vertex
+ * is not reachable
+ *
+ * {@code
+ * [D1|D2] = .graph/chdistance( StartVertex, EndVertex, Graph1, Graph2 );
+ * [D3|D4] = .graph/chdistance( "defaultweight", 3, CostMap, StartVertex, EndVertex, Graph1, Graph2 );
+ * }
+ *
+ * @see IApplyContractionHierarchy
+ */
+public final class CCHDistance extends IApplyContractionHierarchy
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5287401936720948153L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCHDistance.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Override
+    protected Object query( @Nonnull final CContractionHierarchy p_hierarchy, @Nonnull final Object p_source, @Nonnull final Object p_target )
+    {
+        return p_hierarchy.distance( p_source, p_target );
+    }
+
+}
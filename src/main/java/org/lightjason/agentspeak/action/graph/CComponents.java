@@ -0,0 +1,138 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the connected components of each graph instance.
+ * The action returns for each graph argument a map with the vertex
+ * as key and the component id as value and a list with the size of
+ * each component, the component id is the position within the list.
+ * The edge direction is ignored, so for directed graphs the weakly
+ * connected components are calculated, the ids are ordered by the
+ * vertex index. The components are built by a lock-free union-find
+ * structure, on parallel execution the edges are joined concurrently
+ *
+ * {@code [C1|S1|C2|S2] = .graph/components( Graph1, Graph2 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Component_(graph_theory)"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Disjoint-set_data_structure"></a>
+ */
+public final class CComponents extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3325093402316420783L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CComponents.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        CCommon.flatten( p_argument )
+               .map( ITerm::<Graph<Object, Object>>raw )
+               .forEach( i -> CComponents.components( p_parallel, i, p_return ) );
+
+        return Stream.empty();
+    }
+
+    /**
+     * calculates the components of a graph
+     *
+     * @param p_parallel parallel execution
+     * @param p_graph graph
+     * @param p_return return arguments
+     */
+    private static void components( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph, @Nonnull final List<ITerm> p_return )
+    {
+        final CGraphIndex.CEdges l_edges = CGraphIndex.of( p_graph ).edges( p_parallel, p_graph );
+        final List<Object> l_vertices = l_edges.m_vertices;
+        final CUnionFind l_components = new CUnionFind( l_vertices.size() );
+
+        final IntStream l_stream = IntStream.range( 0, l_edges.m_edges.length );
+        ( p_parallel ? l_stream.parallel() : l_stream ).forEach( i -> l_components.union( l_edges.m_source[i], l_edges.m_target[i] ) );
+
+        // the roots get dense ids in the order of the vertex index
+        final int[] l_id = new int[l_vertices.size()];
+        final List<Integer> l_size = new ArrayList<>();
+        Arrays.fill( l_id, -1 );
+
+        final Map<Object, Integer> l_result = new HashMap<>( 2 * l_vertices.size() );
+        for ( int i = 0; i < l_vertices.size(); i++ )
+        {
+            final int l_root = l_components.find( i );
+            if ( l_id[l_root] < 0 )
+            {
+                l_id[l_root] = l_size.size();
+                l_size.add( 0 );
+            }
+
+            l_size.set( l_id[l_root], l_size.get( l_id[l_root] ) + 1 );
+            l_result.put( l_vertices.get( i ), l_id[l_root] );
+        }
+
+        p_return.add( CRawTerm.of( l_result ) );
+        p_return.add( CRawTerm.of( Collections.unmodifiableList( l_size ) ) );
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import com.google.common.base.Function;
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * builds the contraction hierarchy of each graph instance.
+ * The ordering of the arguments can be arbitrary, for any graph
+ * instance the contraction hierarchy is built and returned, the first map instance
+ * will be used as weight-map, a tuple of the string "defaultweight"
+ * and a numeric value defines the default weight value of the weight-map
+ * (the default value is zero). The hierarchy is stored with the graph and
+ * the weight-map, so the actions {@code .graph/chdistance} and {@code .graph/chpath}
+ * with the same graph and weight arguments use it, a modification of the graph
+ * by the graph actions removes the hierarchy, the weights must be non-negative,
+ * the action fails on a negative weight of an edge
+ *
+ * {@code
+ * [H1|H2] = .graph/contract( Graph1, Graph2 );
+ * [H3|H4] = .graph/contract( "defaultweight", 3, CostMap, Graph1, Graph2 );
+ * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Contraction_hierarchies"></a>
+ */
+public final class CContract extends IApplyPathAlgorithm
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6306719474522457362L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CContract.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    protected int minimalvertices()
+    {
+        return 0;
+    }
+
+    @Override
+    protected Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                            @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
+    )
+    {
+        return IApplyPathAlgorithm.contractionhierarchy( p_graph, p_weightfunction );
+    }
+
+}
@@ -0,0 +1,473 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import com.google.common.base.Function;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+
+/**
+ * contraction hierarchy of a graph.
+ * The vertices are contracted by the edge difference heuristic
+ * and shortcuts are added, if no witness path exists, the
+ * queries run a bidirectional Dijkstra search on the upward
+ * arcs only and unpack the shortcuts into the original edges.
+ * The hierarchy is immutable, so modifications of the graph
+ * are not reflected and the queries are thread-safe
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Contraction_hierarchies"></a>
+ */
+public final class CContractionHierarchy
+{
+    /**
+     * maximum number of settled vertices of a witness search
+     */
+    private static final int WITNESSLIMIT = 64;
+    /**
+     * vertex index
+     */
+    private final Map<Object, Integer> m_index = new HashMap<>();
+    /**
+     * arcs of each vertex to higher ranked vertices
+     */
+    private final CArc[][] m_upward;
+    /**
+     * arcs of higher ranked vertices to each vertex
+     */
+    private final CArc[][] m_downward;
+
+
+    /**
+     * ctor
+     *
+     * @param p_graph graph
+     * @param p_weightfunction weight function with non-negative weights
+     * @throws IllegalArgumentException on a negative weight
+     */
+    public CContractionHierarchy( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Number> p_weightfunction )
+    {
+        p_graph.getVertices().forEach( i -> m_index.put( i, m_index.size() ) );
+        m_upward = new CArc[m_index.size()][];
+        m_downward = new CArc[m_index.size()][];
+
+        // remaining graph with the outgoing and incoming arcs of each vertex
+        final List<Map<Integer, CArc>> l_outgoing = new ArrayList<>( m_index.size() );
+        final List<Map<Integer, CArc>> l_incoming = new ArrayList<>( m_index.size() );
+        for ( int i = 0; i < m_index.size(); i++ )
+        {
+            l_outgoing.add( new HashMap<>() );
+            l_incoming.add( new HashMap<>() );
+        }
+
+        p_graph.getEdges().forEach( i ->
+        {
+            final Pair<Object> l_endpoints = p_graph.getEndpoints( i );
+            final int l_source = m_index.get( l_endpoints.getFirst() );
+            final int l_target = m_index.get( l_endpoints.getSecond() );
+            if ( l_source == l_target )
+                return;
+
+            final double l_weight = p_weightfunction.apply( i ).doubleValue();
+            if ( l_weight < 0 )
+                throw new IllegalArgumentException( "weight of edge [" + i + "] is negative" );
+
+            CContractionHierarchy.add( l_outgoing, l_incoming, new CArc( l_source, l_target, l_weight, i, null, null ) );
+            if ( EdgeType.UNDIRECTED.equals( p_graph.getEdgeType( i ) ) )
+                CContractionHierarchy.add( l_outgoing, l_incoming, new CArc( l_target, l_source, l_weight, i, null, null ) );
+        } );
+
+        this.contract( l_outgoing, l_incoming );
+    }
+
+    /**
+     * returns the number of vertices
+     *
+     * @return vertex number
+     */
+    public int size()
+    {
+        return m_index.size();
+    }
+
+    /**
+     * calculates the distance of two vertices
+     *
+     * @param p_source source vertex
+     * @param p_target target vertex
+     * @return distance, infinity if the target is not reachable
+     */
+    public double distance( @Nonnull final Object p_source, @Nonnull final Object p_target )
+    {
+        final CSearch l_search = this.search( p_source, p_target );
+        return Objects.isNull( l_search ) ? Double.POSITIVE_INFINITY : l_search.m_distance;
+    }
+
+    /**
+     * calculates the edge list of the shortest path of two vertices
+     *
+     * @param p_source source vertex
+     * @param p_target target vertex
+     * @return edge list, empty if the target is not reachable
+     */
+    @Nonnull
+    public List<Object> path( @Nonnull final Object p_source, @Nonnull final Object p_target )
+    {
+        final CSearch l_search = this.search( p_source, p_target );
+        if ( Objects.isNull( l_search ) || l_search.m_meeting < 0 )
+            return Collections.emptyList();
+
+        // arcs of the upward path from the source and of the downward path to the target
+        final LinkedList<CArc> l_arcs = new LinkedList<>();
+        for ( CArc l_arc = l_search.m_forward.get( l_search.m_meeting ); Objects.nonNull( l_arc ); l_arc = l_search.m_forward.get( l_arc.m_from ) )
+            l_arcs.addFirst( l_arc );
+        for ( CArc l_arc = l_search.m_backward.get( l_search.m_meeting ); Objects.nonNull( l_arc ); l_arc = l_search.m_backward.get( l_arc.m_to ) )
+            l_arcs.addLast( l_arc );
+
+        // shortcuts are unpacked iteratively, because the nesting can be deep
+        final List<Object> l_path = new ArrayList<>();
+        final Deque<CArc> l_stack = new ArrayDeque<>();
+        l_arcs.descendingIterator().forEachRemaining( l_stack::push );
+        while ( !l_stack.isEmpty() )
+        {
+            final CArc l_arc = l_stack.pop();
+            if ( Objects.nonNull( l_arc.m_edge ) )
+                l_path.add( l_arc.m_edge );
+            else
+            {
+                l_stack.push( l_arc.m_second );
+                l_stack.push( l_arc.m_first );
+            }
+        }
+
+        return l_path;
+    }
+
+    /**
+     * contracts all vertices
+     *
+     * @param p_outgoing outgoing arcs of the remaining graph
+     * @param p_incoming incoming arcs of the remaining graph
+     */
+    private void contract( @Nonnull final List<Map<Integer, CArc>> p_outgoing, @Nonnull final List<Map<Integer, CArc>> p_incoming )
+    {
+        final int[] l_deleted = new int[m_index.size()];
+        final Queue<ImmutablePair<Integer, Integer>> l_queue = new PriorityQueue<>( Comparator.comparingInt( ImmutablePair::getRight ) );
+        for ( int i = 0; i < m_index.size(); i++ )
+            l_queue.add( new ImmutablePair<>( i, CContractionHierarchy.priority( i, CContractionHierarchy.shortcuts( i, p_outgoing, p_incoming ), p_outgoing, p_incoming, l_deleted ) ) );
+
+        while ( !l_queue.isEmpty() )
+        {
+            // lazy update of the priority, the vertex will be contracted if it is still the minimum
+            final int l_vertex = l_queue.remove().getLeft();
+            final List<CArc> l_shortcuts = CContractionHierarchy.shortcuts( l_vertex, p_outgoing, p_incoming );
+            final int l_priority = CContractionHierarchy.priority( l_vertex, l_shortcuts, p_outgoing, p_incoming, l_deleted );
+            if ( !l_queue.isEmpty() && l_priority > l_queue.peek().getRight() )
+            {
+                l_queue.add( new ImmutablePair<>( l_vertex, l_priority ) );
+                continue;
+            }
+
+            m_upward[l_vertex] = p_outgoing.get( l_vertex ).values().toArray( new CArc[0] );
+            m_downward[l_vertex] = p_incoming.get( l_vertex ).values().toArray( new CArc[0] );
+
+            for ( final CArc l_arc : m_upward[l_vertex] )
+            {
+                p_incoming.get( l_arc.m_to ).remove( l_vertex );
+                l_deleted[l_arc.m_to]++;
+            }
+            for ( final CArc l_arc : m_downward[l_vertex] )
+            {
+                p_outgoing.get( l_arc.m_from ).remove( l_vertex );
+                l_deleted[l_arc.m_from]++;
+            }
+
+            p_outgoing.get( l_vertex ).clear();
+            p_incoming.get( l_vertex ).clear();
+            l_shortcuts.forEach( i -> CContractionHierarchy.add( p_outgoing, p_incoming, i ) );
+        }
+    }
+
+    /**
+     * runs the bidirectional upward search
+     *
+     * @param p_source source vertex
+     * @param p_target target vertex
+     * @return search result or null if a vertex does not exist
+     */
+    private CSearch search( @Nonnull final Object p_source, @Nonnull final Object p_target )
+    {
+        final Integer l_source = m_index.get( p_source );
+        final Integer l_target = m_index.get( p_target );
+        if ( Objects.isNull( l_source ) || Objects.isNull( l_target ) )
+            return null;
+
+        final CSearch l_search = new CSearch();
+        final Map<Integer, Double> l_forward = new HashMap<>();
+        final Map<Integer, Double> l_backward = new HashMap<>();
+        final Queue<ImmutablePair<Integer, Double>> l_forwardqueue = new PriorityQueue<>( Comparator.comparingDouble( ImmutablePair::getRight ) );
+        final Queue<ImmutablePair<Integer, Double>> l_backwardqueue = new PriorityQueue<>( Comparator.comparingDouble( ImmutablePair::getRight ) );
+
+        l_forward.put( l_source, 0D );
+        l_backward.put( l_target, 0D );
+        l_forwardqueue.add( new ImmutablePair<>( l_source, 0D ) );
+        l_backwardqueue.add( new ImmutablePair<>( l_target, 0D ) );
+
+        while ( !l_forwardqueue.isEmpty() || !l_backwardqueue.isEmpty() )
+        {
+            final boolean l_isforward = !l_forwardqueue.isEmpty()
+                                        && ( l_backwardqueue.isEmpty() || l_forwardqueue.peek().getRight() <= l_backwardqueue.peek().getRight() );
+            final Queue<ImmutablePair<Integer, Double>> l_queue = l_isforward ? l_forwardqueue : l_backwardqueue;
+            final Map<Integer, Double> l_distance = l_isforward ? l_forward : l_backward;
+            final Map<Integer, Double> l_opposite = l_isforward ? l_backward : l_forward;
+            final Map<Integer, CArc> l_parent = l_isforward ? l_search.m_forward : l_search.m_backward;
+
+            final ImmutablePair<Integer, Double> l_entry = l_queue.remove();
+            // a direction is finished if its minimum is not shorter than the best path
+            if ( l_entry.getRight() >= l_search.m_distance )
+            {
+                l_queue.clear();
+                continue;
+            }
+            if ( l_entry.getRight() > l_distance.get( l_entry.getLeft() ) )
+                continue;
+
+            if ( l_opposite.containsKey( l_entry.getLeft() ) && l_entry.getRight() + l_opposite.get( l_entry.getLeft() ) < l_search.m_distance )
+            {
+                l_search.m_distance = l_entry.getRight() + l_opposite.get( l_entry.getLeft() );
+                l_search.m_meeting = l_entry.getLeft();
+            }
+
+            for ( final CArc l_arc : l_isforward ? m_upward[l_entry.getLeft()] : m_downward[l_entry.getLeft()] )
+            {
+                final int l_next = l_isforward ? l_arc.m_to : l_arc.m_from;
+                final double l_candidate = l_entry.getRight() + l_arc.m_weight;
+                if ( l_candidate >= l_distance.getOrDefault( l_next, Double.POSITIVE_INFINITY ) )
+                    continue;
+
+                l_distance.put( l_next, l_candidate );
+                l_parent.put( l_next, l_arc );
+                l_queue.add( new ImmutablePair<>( l_next, l_candidate ) );
+            }
+        }
+
+        return l_search;
+    }
+
+    /**
+     * adds an arc to the remaining graph, if it is shorter than an existing one
+     *
+     * @param p_outgoing outgoing arcs
+     * @param p_incoming incoming arcs
+     * @param p_arc arc
+     */
+    private static void add( @Nonnull final List<Map<Integer, CArc>> p_outgoing, @Nonnull final List<Map<Integer, CArc>> p_incoming, @Nonnull final CArc p_arc )
+    {
+        final CArc l_existing = p_outgoing.get( p_arc.m_from ).get( p_arc.m_to );
+        if ( Objects.nonNull( l_existing ) && l_existing.m_weight <= p_arc.m_weight )
+            return;
+
+        p_outgoing.get( p_arc.m_from ).put( p_arc.m_to, p_arc );
+        p_incoming.get( p_arc.m_to ).put( p_arc.m_from, p_arc );
+    }
+
+    /**
+     * contraction priority with the edge difference and the number of contracted neighbors
+     *
+     * @param p_vertex vertex
+     * @param p_shortcuts shortcuts of the vertex
+     * @param p_outgoing outgoing arcs
+     * @param p_incoming incoming arcs
+     * @param p_deleted number of contracted neighbors of each vertex
+     * @return priority
+     */
+    private static int priority( final int p_vertex, @Nonnull final List<CArc> p_shortcuts, @Nonnull final List<Map<Integer, CArc>> p_outgoing,
+                                 @Nonnull final List<Map<Integer, CArc>> p_incoming, @Nonnull final int[] p_deleted
+    )
+    {
+        return p_shortcuts.size() - p_outgoing.get( p_vertex ).size() - p_incoming.get( p_vertex ).size() + p_deleted[p_vertex];
+    }
+
+    /**
+     * calculates the shortcuts, which are needed on contracting a vertex
+     *
+     * @param p_vertex vertex
+     * @param p_outgoing outgoing arcs
+     * @param p_incoming incoming arcs
+     * @return list of shortcuts
+     */
+    @Nonnull
+    private static List<CArc> shortcuts( final int p_vertex, @Nonnull final List<Map<Integer, CArc>> p_outgoing, @Nonnull final List<Map<Integer, CArc>> p_incoming )
+    {
+        final List<CArc> l_shortcuts = new ArrayList<>();
+        for ( final CArc l_in : p_incoming.get( p_vertex ).values() )
+        {
+            final double l_maximum = p_outgoing.get( p_vertex ).values().stream().mapToDouble( i -> l_in.m_weight + i.m_weight ).max().orElse( 0 );
+            final Map<Integer, Double> l_witness = CContractionHierarchy.witness( l_in.m_from, p_vertex, l_maximum, p_outgoing );
+
+            p_outgoing.get( p_vertex )
+                      .values()
+                      .stream()
+                      .filter( i -> i.m_to != l_in.m_from )
+                      .filter( i -> l_witness.getOrDefault( i.m_to, Double.POSITIVE_INFINITY ) > l_in.m_weight + i.m_weight )
+                      .map( i -> new CArc( l_in.m_from, i.m_to, l_in.m_weight + i.m_weight, null, l_in, i ) )
+                      .forEach( l_shortcuts::add );
+        }
+
+        return l_shortcuts;
+    }
+
+    /**
+     * local Dijkstra search, which ignores the contracted vertex
+     *
+     * @param p_source source vertex
+     * @param p_ignore ignored vertex
+     * @param p_maximum maximum distance
+     * @param p_outgoing outgoing arcs
+     * @return distances of the settled vertices
+     */
+    @Nonnull
+    private static Map<Integer, Double> witness( final int p_source, final int p_ignore, final double p_maximum, @Nonnull final List<Map<Integer, CArc>> p_outgoing )
+    {
+        final Map<Integer, Double> l_distance = new HashMap<>();
+        final Queue<ImmutablePair<Integer, Double>> l_queue = new PriorityQueue<>( Comparator.comparingDouble( ImmutablePair::getRight ) );
+        l_distance.put( p_source, 0D );
+        l_queue.add( new ImmutablePair<>( p_source, 0D ) );
+
+        for ( int l_settled = 0; !l_queue.isEmpty() && l_settled < WITNESSLIMIT; )
+        {
+            final ImmutablePair<Integer, Double> l_entry = l_queue.remove();
+            if ( l_entry.getRight() > p_maximum )
+                break;
+            if ( l_entry.getRight() > l_distance.get( l_entry.getLeft() ) )
+                continue;
+
+            l_settled++;
+            for ( final CArc l_arc : p_outgoing.get( l_entry.getLeft() ).values() )
+            {
+                final double l_candidate = l_entry.getRight() + l_arc.m_weight;
+                if ( l_arc.m_to == p_ignore || l_candidate >= l_distance.getOrDefault( l_arc.m_to, Double.POSITIVE_INFINITY ) )
+                    continue;
+
+                l_distance.put( l_arc.m_to, l_candidate );
+                l_queue.add( new ImmutablePair<>( l_arc.m_to, l_candidate ) );
+            }
+        }
+
+        return l_distance;
+    }
+
+
+    /**
+     * arc of the hierarchy, which is an original
+     * edge or a shortcut of two arcs
+     */
+    private static final class CArc
+    {
+        /**
+         * source vertex
+         */
+        private final int m_from;
+        /**
+         * target vertex
+         */
+        private final int m_to;
+        /**
+         * weight
+         */
+        private final double m_weight;
+        /**
+         * original edge or null on shortcuts
+         */
+        private final Object m_edge;
+        /**
+         * first arc of a shortcut
+         */
+        private final CArc m_first;
+        /**
+         * second arc of a shortcut
+         */
+        private final CArc m_second;
+
+        /**
+         * ctor
+         *
+         * @param p_from source vertex
+         * @param p_to target vertex
+         * @param p_weight weight
+         * @param p_edge original edge
+         * @param p_first first arc of a shortcut
+         * @param p_second second arc of a shortcut
+         */
+        CArc( final int p_from, final int p_to, final double p_weight, final Object p_edge, final CArc p_first, final CArc p_second )
+        {
+            m_from = p_from;
+            m_to = p_to;
+            m_weight = p_weight;
+            m_edge = p_edge;
+            m_first = p_first;
+            m_second = p_second;
+        }
+    }
+
+    /**
+     * result of a query
+     */
+    private static final class CSearch
+    {
+        /**
+         * parent arcs of the forward search
+         */
+        private final Map<Integer, CArc> m_forward = new HashMap<>();
+        /**
+         * parent arcs of the backward search
+         */
+        private final Map<Integer, CArc> m_backward = new HashMap<>();
+        /**
+         * distance
+         */
+        private double m_distance = Double.POSITIVE_INFINITY;
+        /**
+         * meeting vertex
+         */
+        private int m_meeting = -1;
+    }
+
+}
@@ -33,6 +33,8 @@ import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CEnumConstantNotPresentException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -41,6 +43,8 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -55,10 +59,20 @@ import java.util.stream.Stream;
  * The action create a graph data structure with nodes and edges,
  * arguments are strings with the name of the graph type ( SPARSE |
  * SPARSEMULTI | DIRECTEDSPARSE | DIRECTEDSPARSEMULTI | UNDIRECTEDSPARSE |
- * UNDIRECTEDSPARSEMULTI ) on a wrong name,
- * a sparse graph is created
+ * UNDIRECTEDSPARSEMULTI | CSR | DIRECTEDCSR | CONCURRENT |
+ * DIRECTEDCONCURRENT ) on a wrong name, a sparse graph is created,
+ * the CSR types store the adjacency in primitive compressed-sparse-row
+ * arrays and are designed for large graphs, which are loaded once and
+ * read often, the concurrent types are thread-safe with striped locks,
+ * so that a graph can be shared and modified by parallel agents.
+ * The type MAPPED must be followed by the name of a file, which
+ * is written by the save action with the "mapped" flag, the file is
+ * memory-mapped as read-only graph without loading it into the heap
  *
- * {@code [G1|G2] = .graph/create( "sparse", "directedsparse" );}
+ * {@code
+ * [G1|G2] = .graph/create( "sparse", "directedsparse" );
+ * G3 = .graph/create( "mapped", "graph.adj" );
+ * }
  *
  * @see <a href="https://en.wikipedia.org/wiki/Graph_(discrete_mathematics)"></a>
  */
@@ -72,6 +86,10 @@ public final class CCreate extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CCreate.class, "graph" );
+    /**
+     * type name of the memory-mapped graph
+     */
+    private static final String MAPPED = "mapped";
 
     @Nonnull
     @Override
@@ -93,16 +111,65 @@ public final class CCreate extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<String>raw )
-               .map( i -> EGraphTypes.exist( i ) ? EGraphTypes.of( i ) : EGraphTypes.SPARSE )
-               .map( EGraphTypes::get )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final List<String> l_types = CCommon.flatten( p_argument ).map( ITerm::<String>raw ).collect( Collectors.toList() );
+
+        for ( int i = 0; i < l_types.size(); i++ )
+            if ( !MAPPED.equalsIgnoreCase( l_types.get( i ).trim() ) )
+                p_return.add( CRawTerm.of( CCreate.create( l_types.get( i ) ) ) );
+            else if ( i + 1 < l_types.size() )
+                p_return.add( CRawTerm.of( this.mapped( p_context, l_types.get( ++i ) ) ) );
+            else
+                throw new CExecutionIllegealArgumentException(
+                    p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "mappedfilemissing" ) );
 
         return Stream.empty();
     }
 
+    /**
+     * opens a memory-mapped graph
+     *
+     * @param p_context execution context
+     * @param p_file file name
+     * @return graph
+     */
+    @Nonnull
+    private Graph<Object, Object> mapped( @Nonnull final IContext p_context, @Nonnull final String p_file )
+    {
+        try
+        {
+            return new CMappedGraph( Paths.get( p_file ) );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CExecutionIllegalStateException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "readerror", p_file, l_exception.getMessage() ) );
+        }
+    }
+
+    /**
+     * checks if a graph type exists
+     *
+     * @param p_type type name
+     * @return existance flag
+     */
+    static boolean exists( @Nonnull final String p_type )
+    {
+        return EGraphTypes.exist( p_type );
+    }
+
+    /**
+     * creates a graph of a type
+     *
+     * @param p_type type name, on a wrong name a sparse graph is created
+     * @return graph instance
+     */
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    static Graph<Object, Object> create( @Nonnull final String p_type )
+    {
+        return (Graph<Object, Object>) ( EGraphTypes.exist( p_type ) ? EGraphTypes.of( p_type ) : EGraphTypes.SPARSE ).get();
+    }
+
 
     /**
      * graph types
@@ -114,7 +181,11 @@ public final class CCreate extends IBaseAction
         DIRECTEDSPARSE,
         DIRECTEDSPARSEMULTI,
         UNDIRECTEDSPARSE,
-        UNDIRECTEDSPARSEMULTI;
+        UNDIRECTEDSPARSEMULTI,
+        CSR,
+        DIRECTEDCSR,
+        CONCURRENT,
+        DIRECTEDCONCURRENT;
 
         /**
          * graph names
@@ -153,6 +224,18 @@ public final class CCreate extends IBaseAction
                 case UNDIRECTEDSPARSEMULTI:
                     return new UndirectedSparseMultigraph<>();
 
+                case CSR:
+                    return new CUndirectedCompressedSparseRowGraph<>();
+
+                case DIRECTEDCSR:
+                    return new CDirectedCompressedSparseRowGraph<>();
+
+                case CONCURRENT:
+                    return new CUndirectedConcurrentGraph<>();
+
+                case DIRECTEDCONCURRENT:
+                    return new CDirectedConcurrentGraph<>();
+
                 default:
                     throw new CEnumConstantNotPresentException( this.getClass(), this.toString() );
             }
@@ -0,0 +1,103 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * returns the dictionary of memory-mapped graphs.
+ * The vertices and edges of a memory-mapped graph are
+ * their index, the action returns for each memory-mapped
+ * graph argument an immutable list of the original vertices
+ * and an immutable list of the original edges, the list
+ * position is the index within the memory-mapped graph
+ *
+ * {@code [V1|E1|V2|E2] = .graph/dictionary( MappedGraph1, MappedGraph2 );}
+ */
+public final class CDictionary extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2694406158931877415L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CDictionary.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        CCommon.flatten( p_argument )
+               .filter( i -> CCommon.isssignableto( i, CMappedGraph.class ) )
+               .map( ITerm::<CMappedGraph>raw )
+               .forEach( i ->
+               {
+                   try
+                   {
+                       final org.apache.commons.lang3.tuple.Pair<List<Object>, List<Object>> l_dictionary = i.dictionary();
+                       p_return.add( CRawTerm.of( l_dictionary.getLeft() ) );
+                       p_return.add( CRawTerm.of( l_dictionary.getRight() ) );
+                   }
+                   catch ( final IOException l_exception )
+                   {
+                       throw new CExecutionIllegalStateException(
+                           p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "readerror", l_exception.getMessage() ) );
+                   }
+               } );
+
+        return Stream.empty();
+    }
+}
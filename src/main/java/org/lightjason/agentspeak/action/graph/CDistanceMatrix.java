@@ -0,0 +1,181 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import com.google.common.base.Function;
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the distances of many source to many target vertices within each graph instance.
+ * The first collection defines the source-vertices, the second collection the target-vertices,
+ * if the second collection does not exist, the distances between the source-vertices
+ * are calculated, the first map instance will be used as weight-map, a tuple of the string
+ * "defaultweight" and a numeric value defines the default weight value of the weight-map
+ * (the default value is zero). For each graph a dense matrix is returned, the rows are
+ * the sources and the columns the targets in the collection order, unreachable targets
+ * have got an infinity distance. One search is run for each source vertex, on parallel
+ * execution the sources are calculated concurrently
+ *
+ * {@code
+ * [M1|M2] = .graph/distancematrix( Sources, Targets, Graph1, Graph2 );
+ * [M3|M4] = .graph/distancematrix( Sources, Targets, "defaultweight", 3, CostMap, Graph1, Graph2 );
+ * }
+ */
+public final class CDistanceMatrix extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4371926581207753391L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CDistanceMatrix.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        // vertex collections must not be flattened, so only the default weight tuple is read from a flat list
+        final Map<String, ITerm> l_parameter = IApplyPathAlgorithm.keywords(
+            p_context,
+            CCommon.flatten( p_argument ).collect( Collectors.toList() ),
+            Collections.singletonMap( IApplyPathAlgorithm.DEFAULTWEIGHT, Number.class ),
+            Collections.newSetFromMap( new IdentityHashMap<>() )
+        );
+
+        final Map<Object, Number> l_weights = p_argument.stream()
+                                                        .filter( i -> CCommon.isssignableto( i, Map.class ) )
+                                                        .findFirst()
+                                                        .map( ITerm::<Map<Object, Number>>raw )
+                                                        .orElseGet( Collections::emptyMap );
+
+        final List<List<Object>> l_vertices = p_argument.stream()
+                                                        .filter( i -> CCommon.isssignableto( i, Collection.class ) )
+                                                        .limit( 2 )
+                                                        .map( ITerm::<Collection<?>>raw )
+                                                        .map( i -> i.stream().map( CDistanceMatrix::raw ).collect( Collectors.toList() ) )
+                                                        .collect( Collectors.toList() );
+        if ( l_vertices.isEmpty() )
+            return Stream.empty();
+
+        final Function<Object, Number> l_weightfunction = IApplyPathAlgorithm.weightfunction( p_context, l_weights, l_parameter, 0D, false );
+        final List<Object> l_sources = l_vertices.get( 0 );
+        final List<Object> l_targets = l_vertices.get( l_vertices.size() - 1 );
+
+        CCommon.flatten( p_argument )
+               .filter( i -> CCommon.isssignableto( i, Graph.class ) )
+               .map( ITerm::<Graph<Object, Object>>raw )
+               .map( i -> CDistanceMatrix.apply( p_parallel, i, l_weightfunction, CMappedGraph.values( i, l_sources ), CMappedGraph.values( i, l_targets ) ) )
+               .map( CRawTerm::of )
+               .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * calculates the distance matrix
+     *
+     * @param p_parallel parallel execution
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @param p_sources source vertices
+     * @param p_targets target vertices
+     * @return distance matrix
+     */
+    @Nonnull
+    private static DoubleMatrix2D apply( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph,
+                                         @Nonnull final Function<Object, Number> p_weightfunction,
+                                         @Nonnull final List<Object> p_sources, @Nonnull final List<Object> p_targets
+    )
+    {
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( p_sources.size(), p_targets.size() );
+        l_matrix.assign( Double.POSITIVE_INFINITY );
+
+        // each source writes only its own matrix row
+        final IntStream l_rows = IntStream.range( 0, p_sources.size() ).filter( i -> p_graph.containsVertex( p_sources.get( i ) ) );
+        ( p_parallel ? l_rows.parallel() : l_rows ).forEach( i -> IApplyPathAlgorithm.shortestpath(
+            p_graph, p_weightfunction, p_sources.get( i ),
+            j ->
+            {
+                final Map<Object, Number> l_distance = j.getDistanceMap( p_sources.get( i ) );
+                IntStream.range( 0, p_targets.size() )
+                         .filter( n -> l_distance.containsKey( p_targets.get( n ) ) )
+                         .forEach( n -> l_matrix.setQuick( i, n, l_distance.get( p_targets.get( n ) ).doubleValue() ) );
+                return l_matrix;
+            }
+        ) );
+
+        return l_matrix;
+    }
+
+    /**
+     * unpacks a vertex term
+     *
+     * @param p_vertex vertex object or term
+     * @return vertex object
+     */
+    private static Object raw( final Object p_vertex )
+    {
+        return p_vertex instanceof ITerm ? ( (ITerm) p_vertex ).raw() : p_vertex;
+    }
+
+}
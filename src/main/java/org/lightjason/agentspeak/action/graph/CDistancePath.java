@@ -24,13 +24,21 @@
 package org.lightjason.agentspeak.action.graph;
 
 import com.google.common.base.Function;
-import edu.uci.ics.jung.algorithms.shortestpath.DijkstraShortestPath;
 import edu.uci.ics.jung.graph.Graph;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
 
 
 /**
@@ -42,12 +50,18 @@ import java.util.List;
  * (the default value is zero), a tuple which will not fit this definition
  * defines the start- and end-vertex, the action fails on wrong input.
  * The weight-map does not need an entry for each edge non-existing edges
- * have got on default zero weight
+ * have got on default zero weight. With the string "bidirectional" the
+ * distance is calculated by a bidirectional Dijkstra search, which
+ * runs from both vertices and stops if the searches meet, this mode does
+ * not use the shortest path cache and returns infinity on unreachable vertices
  *
  * {@code
  * [D1|D2] = .graph/distancepath( StartVertex, EndVertex, Graph1, Graph2 );
  * [D3|D4] = .graph/distancepath( "defaultweight", 3, CostMap, StartVertex, EndVertex, Graph1, Graph2 );
+ * [D5|D6] = .graph/distancepath( "bidirectional", "defaultweight", 3, CostMap, StartVertex, EndVertex, Graph1, Graph2 );
  * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Bidirectional_search"></a>
  */
 public final class CDistancePath extends IApplyPathAlgorithm
 {
@@ -59,6 +73,10 @@ public final class CDistancePath extends IApplyPathAlgorithm
      * action name
      */
     private static final IPath NAME = namebyclass( CDistancePath.class, "graph" );
+    /**
+     * bidirectional flag
+     */
+    private static final String BIDIRECTIONAL = "bidirectional";
 
     @Nonnull
     @Override
@@ -67,14 +85,123 @@ public final class CDistancePath extends IApplyPathAlgorithm
         return NAME;
     }
 
+    @Nonnull
     @Override
-    protected Object apply( @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
-                            @Nonnull final Function<Object, Number> p_weightfunction
+    protected Set<String> flags()
+    {
+        return Collections.singleton( BIDIRECTIONAL );
+    }
+
+    @Override
+    protected Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                            @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
+    )
+    {
+        final CPathEvent l_event = new CPathEvent();
+        l_event.begin();
+
+        if ( p_parameter.containsKey( BIDIRECTIONAL ) )
+            return CDistancePath.bidirectional( p_graph, p_weightfunction, p_vertices.get( 0 ).raw(), p_vertices.get( 1 ).raw(), l_event );
+
+        final Pair<Number, Integer> l_distance = IApplyPathAlgorithm.shortestpath(
+            p_graph, p_weightfunction, p_vertices.get( 0 ).raw(),
+            i ->
+            {
+                final int l_settled = i.settled();
+                return new ImmutablePair<>( i.getDistance( p_vertices.get( 0 ).raw(), p_vertices.get( 1 ).raw() ), i.settled() - l_settled );
+            }
+        );
+
+        l_event.finish( NAME, p_graph, l_distance.getRight(), false );
+        return l_distance.getLeft().doubleValue();
+    }
+
+    /**
+     * bidirectional Dijkstra search
+     *
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @param p_source source vertex
+     * @param p_target target vertex
+     * @param p_event flight recorder event
+     * @return distance, infinity if the target is not reachable
+     */
+    private static double bidirectional( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Number> p_weightfunction,
+                                         @Nonnull final Object p_source, @Nonnull final Object p_target, @Nonnull final CPathEvent p_event
     )
     {
-        return new DijkstraShortestPath<>( p_graph, p_weightfunction )
-            .getDistance( p_vertices.get( 0 ).raw(), p_vertices.get( 1 ).raw() )
-            .doubleValue();
+        if ( !p_graph.containsVertex( p_source ) || !p_graph.containsVertex( p_target ) )
+        {
+            p_event.finish( NAME, p_graph, 0, true );
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final Map<Object, Double> l_forward = new HashMap<>();
+        final Map<Object, Double> l_backward = new HashMap<>();
+        final Queue<Pair<Object, Double>> l_forwardqueue = new PriorityQueue<>( Comparator.comparingDouble( Pair::getRight ) );
+        final Queue<Pair<Object, Double>> l_backwardqueue = new PriorityQueue<>( Comparator.comparingDouble( Pair::getRight ) );
+
+        l_forward.put( p_source, 0D );
+        l_backward.put( p_target, 0D );
+        l_forwardqueue.add( new ImmutablePair<>( p_source, 0D ) );
+        l_backwardqueue.add( new ImmutablePair<>( p_target, 0D ) );
+
+        double l_distance = p_source.equals( p_target ) ? 0 : Double.POSITIVE_INFINITY;
+        final int[] l_settled = new int[1];
+
+        // the search stops if no shorter path can be found, the smaller frontier is expanded first
+        while ( !l_forwardqueue.isEmpty() && !l_backwardqueue.isEmpty()
+                && l_forwardqueue.peek().getRight() + l_backwardqueue.peek().getRight() < l_distance )
+            l_distance = l_forwardqueue.size() <= l_backwardqueue.size()
+                         ? CDistancePath.expand( p_graph, p_weightfunction, true, l_forwardqueue, l_forward, l_backward, l_distance, l_settled )
+                         : CDistancePath.expand( p_graph, p_weightfunction, false, l_backwardqueue, l_backward, l_forward, l_distance, l_settled );
+
+        p_event.finish( NAME, p_graph, l_settled[0], true );
+        return l_distance;
+    }
+
+    /**
+     * settles the next vertex of one search direction
+     *
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @param p_forward flag of the forward direction
+     * @param p_queue queue of the direction
+     * @param p_distance distances of the direction
+     * @param p_opposite distances of the opposite direction
+     * @param p_best current shortest distance
+     * @param p_settled counter of the settled vertices of both directions
+     * @return new shortest distance
+     */
+    private static double expand( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Number> p_weightfunction, final boolean p_forward,
+                                  @Nonnull final Queue<Pair<Object, Double>> p_queue, @Nonnull final Map<Object, Double> p_distance,
+                                  @Nonnull final Map<Object, Double> p_opposite, final double p_best, @Nonnull final int[] p_settled
+    )
+    {
+        final Pair<Object, Double> l_entry = p_queue.remove();
+        // entries with a shorter distance have been added later, so skip outdated ones
+        if ( l_entry.getRight() > p_distance.get( l_entry.getLeft() ) )
+            return p_best;
+
+        p_settled[0]++;
+
+        double l_best = p_best;
+        for ( final Object l_edge : p_forward ? p_graph.getOutEdges( l_entry.getLeft() ) : p_graph.getInEdges( l_entry.getLeft() ) )
+        {
+            final Object l_next = p_graph.getOpposite( l_entry.getLeft(), l_edge );
+            final double l_candidate = l_entry.getRight() + p_weightfunction.apply( l_edge ).doubleValue();
+
+            if ( l_candidate < p_distance.getOrDefault( l_next, Double.POSITIVE_INFINITY ) )
+            {
+                p_distance.put( l_next, l_candidate );
+                p_queue.add( new ImmutablePair<>( l_next, l_candidate ) );
+            }
+
+            if ( p_opposite.containsKey( l_next ) )
+                l_best = Math.min( l_best, p_distance.get( l_next ) + p_opposite.get( l_next ) );
+        }
+
+        return l_best;
     }
 
 }
@@ -25,12 +25,10 @@ package org.lightjason.agentspeak.action.graph;
 
 import edu.uci.ics.jung.graph.Graph;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -39,11 +37,13 @@ import java.util.List;
  * The action returns a list of edges between two vertices
  * of each graph instance, the first two
  * arguments are vertices, all other arguments
- * are graphs and return values are lists
+ * are graphs and return values are lists.
+ * With the string "view" as first argument the list is an
+ * immutable snapshot
  *
  * {@code [L1|L2] = .graph/edgelist( Vertex1, Vertex2, Graph1, Graph2 );}
  */
-public final class CEdgeListSingle extends IApplySingle
+public final class CEdgeListSingle extends IApplyListSingle
 {
     /**
      * serial id
@@ -68,19 +68,9 @@ public final class CEdgeListSingle extends IApplySingle
     }
 
     @Override
-    protected void apply( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph,
-                          @Nonnull final List<ITerm> p_window, @Nonnull final List<ITerm> p_return
-    )
+    protected Collection<?> collection( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final List<ITerm> p_window )
     {
-        final List<?> l_return = new ArrayList<>( p_graph.findEdgeSet( p_window.get( 0 ).raw(), p_window.get( 1 ).raw() ) );
-
-        p_return.add(
-            CRawTerm.of(
-                p_parallel
-                ? Collections.synchronizedList( l_return )
-                : l_return
-            )
-        );
+        return p_graph.findEdgeSet( p_window.get( 0 ).raw(), p_window.get( 1 ).raw() );
     }
 
 }
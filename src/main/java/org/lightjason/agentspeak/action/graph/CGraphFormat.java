@@ -0,0 +1,734 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+
+/**
+ * compact binary format of graphs.
+ * The file starts with a header (magic number, version, flags, number
+ * of vertices and edges), followed by the vertex dictionary in the order
+ * of the vertex index, the adjacency with the number of edges of each
+ * start vertex and the delta-encoded sorted end vertices, the edge
+ * identifiers, an optional edge type column for graphs with directed and
+ * undirected edges and an optional weight column. Numbers are stored
+ * as variable-length integers, vertex and edge values can be integer,
+ * long, double or string values. The file is read and written through
+ * file channels with a direct buffer
+ *
+ * @see <a href="https://developers.google.com/protocol-buffers/docs/encoding#varints"></a>
+ */
+final class CGraphFormat
+{
+    /**
+     * magic number
+     */
+    private static final int MAGIC = 0x4C4A4701;
+    /**
+     * format version
+     */
+    private static final byte VERSION = 1;
+    /**
+     * flag of directed edges
+     */
+    private static final byte DIRECTED = 1;
+    /**
+     * flag of undirected edges
+     */
+    private static final byte UNDIRECTED = 1 << 1;
+    /**
+     * flag of the weight column
+     */
+    private static final byte WEIGHTED = 1 << 2;
+    /**
+     * tag of integer values
+     */
+    private static final byte INTEGER = 0;
+    /**
+     * tag of long values
+     */
+    private static final byte LONG = 1;
+    /**
+     * tag of double values
+     */
+    private static final byte DOUBLE = 2;
+    /**
+     * tag of string values
+     */
+    private static final byte STRING = 3;
+    /**
+     * buffer size
+     */
+    private static final int BUFFERSIZE = 1 << 20;
+
+    /**
+     * ctor
+     */
+    private CGraphFormat()
+    {
+    }
+
+    /**
+     * writes a graph
+     *
+     * @param p_path file
+     * @param p_graph graph
+     * @param p_weight weight function or null without weight column
+     * @throws IOException on write error
+     */
+    static void write( @Nonnull final Path p_path, @Nonnull final Graph<Object, Object> p_graph, final ToDoubleFunction<Object> p_weight ) throws IOException
+    {
+        final CGraphIndex.CEdges l_snapshot = CGraphIndex.of( p_graph ).edges( false, p_graph );
+        final List<Object> l_vertices = l_snapshot.m_vertices;
+        final List<Object> l_edges = Arrays.asList( l_snapshot.m_edges );
+        final int[] l_source = l_snapshot.m_source;
+        final int[] l_target = l_snapshot.m_target;
+
+        byte l_flags = Objects.isNull( p_weight ) ? 0 : WEIGHTED;
+        for ( final Object l_edge : l_edges )
+            l_flags |= EdgeType.DIRECTED.equals( p_graph.getEdgeType( l_edge ) ) ? DIRECTED : UNDIRECTED;
+
+        // two stable counting sorts order the edges by start and end vertex
+        final int[] l_order = CGraphFormat.sort( l_source, CGraphFormat.sort( l_target, IntStream.range( 0, l_edges.size() ).toArray(), l_vertices.size() ),
+                                                  l_vertices.size() );
+
+        try (
+            FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+            COutput l_output = new COutput( l_channel )
+        )
+        {
+            l_output.integer( MAGIC );
+            l_output.value( VERSION );
+            l_output.value( l_flags );
+            l_output.varint( l_vertices.size() );
+            l_output.varint( l_edges.size() );
+
+            for ( final Object l_vertex : l_vertices )
+                l_output.value( l_vertex );
+
+            for ( int i = 0, l_edge = 0; i < l_vertices.size(); i++ )
+            {
+                final int l_start = l_edge;
+                while ( l_edge < l_order.length && l_source[l_order[l_edge]] == i )
+                    l_edge++;
+
+                l_output.varint( l_edge - l_start );
+                int l_previous = 0;
+                for ( int j = l_start; j < l_edge; j++ )
+                {
+                    l_output.varint( l_target[l_order[j]] - l_previous );
+                    l_previous = l_target[l_order[j]];
+                }
+            }
+
+            for ( final int i : l_order )
+                l_output.value( l_edges.get( i ) );
+
+            if ( ( l_flags & ( DIRECTED | UNDIRECTED ) ) == ( DIRECTED | UNDIRECTED ) )
+                for ( final int i : l_order )
+                    l_output.value( EdgeType.DIRECTED.equals( p_graph.getEdgeType( l_edges.get( i ) ) ) ? DIRECTED : UNDIRECTED );
+
+            if ( Objects.nonNull( p_weight ) )
+                for ( final int i : l_order )
+                    l_output.real( p_weight.applyAsDouble( l_edges.get( i ) ) );
+        }
+    }
+
+    /**
+     * reads a graph
+     *
+     * @param p_path file
+     * @param p_type graph type of the create action, null for the type of the stored edges
+     * @param p_parallel parallel insert into concurrent graphs
+     * @return graph and weight map, which is empty without weight column
+     * @throws IOException on read error
+     */
+    @Nonnull
+    static org.apache.commons.lang3.tuple.Pair<Graph<Object, Object>, Map<Object, Double>> read( @Nonnull final Path p_path, final String p_type,
+                                                                                               final boolean p_parallel ) throws IOException
+    {
+        try ( FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.READ ) )
+        {
+            final CInput l_input = new CInput( l_channel );
+            if ( l_input.integer() != MAGIC || l_input.value() != VERSION )
+                throw new IOException( "wrong graph format" );
+
+            final byte l_flags = l_input.value();
+            final int l_vertexcount = (int) l_input.varint();
+            final int l_edgecount = (int) l_input.varint();
+            final boolean l_mixed = ( l_flags & ( DIRECTED | UNDIRECTED ) ) == ( DIRECTED | UNDIRECTED );
+
+            final Object[] l_vertices = new Object[l_vertexcount];
+            for ( int i = 0; i < l_vertexcount; i++ )
+                l_vertices[i] = l_input.object();
+
+            final int[] l_source = new int[l_edgecount];
+            final int[] l_target = new int[l_edgecount];
+            for ( int i = 0, l_edge = 0; i < l_vertexcount; i++ )
+            {
+                final long l_degree = l_input.varint();
+                for ( int j = 0, l_previous = 0; j < l_degree; j++, l_edge++ )
+                {
+                    l_previous += (int) l_input.varint();
+                    l_source[l_edge] = i;
+                    l_target[l_edge] = l_previous;
+                }
+            }
+
+            final Object[] l_edges = new Object[l_edgecount];
+            for ( int i = 0; i < l_edgecount; i++ )
+                l_edges[i] = l_input.object();
+
+            final byte[] l_types = new byte[l_mixed ? l_edgecount : 0];
+            for ( int i = 0; i < l_types.length; i++ )
+                l_types[i] = l_input.value();
+
+            final Map<Object, Double> l_weights = new HashMap<>( ( l_flags & WEIGHTED ) == 0 ? 0 : 2 * l_edgecount );
+            if ( ( l_flags & WEIGHTED ) != 0 )
+                for ( int i = 0; i < l_edgecount; i++ )
+                    l_weights.put( l_edges[i], l_input.real() );
+
+            final Graph<Object, Object> l_graph = CCreate.create(
+                Objects.nonNull( p_type ) ? p_type : l_mixed ? "sparsemulti" : ( l_flags & DIRECTED ) != 0 ? "directedsparsemulti" : "undirectedsparsemulti"
+            );
+            if ( l_graph instanceof ICompressedSparseRowGraph<?, ?> )
+                ( (ICompressedSparseRowGraph<?, ?>) l_graph ).ensurecapacity( l_edgecount );
+
+            for ( final Object l_vertex : l_vertices )
+                l_graph.addVertex( l_vertex );
+
+            final IntStream l_stream = IntStream.range( 0, l_edgecount );
+            ( p_parallel && l_graph instanceof IConcurrentGraph<?, ?> ? l_stream.parallel() : l_stream ).forEach( i -> l_graph.addEdge(
+                l_edges[i], l_vertices[l_source[i]], l_vertices[l_target[i]],
+                !l_mixed ? l_graph.getDefaultEdgeType() : l_types[i] == DIRECTED ? EdgeType.DIRECTED : EdgeType.UNDIRECTED
+            ) );
+
+            return new org.apache.commons.lang3.tuple.ImmutablePair<>( l_graph, Collections.unmodifiableMap( l_weights ) );
+        }
+    }
+
+    /**
+     * writes a graph in the fixed-width layout of the memory-mapped graph,
+     * vertices and edges are replaced by their index, so the vertex index
+     * of the graph and the edge ordering define the mapped identifiers,
+     * the vertices and edges are written in index order into the dictionary
+     * file next to the graph file
+     *
+     * @param p_path file
+     * @param p_graph graph
+     * @throws IOException on write error or on graphs with directed and undirected edges
+     * @see CMappedGraph
+     */
+    static void writemapped( @Nonnull final Path p_path, @Nonnull final Graph<Object, Object> p_graph ) throws IOException
+    {
+        final CGraphIndex.CEdges l_snapshot = CGraphIndex.of( p_graph ).edges( false, p_graph );
+        final List<Object> l_vertices = l_snapshot.m_vertices;
+        final Object[] l_edges = l_snapshot.m_edges;
+        final int[] l_source = l_snapshot.m_source;
+        final int[] l_target = l_snapshot.m_target;
+
+        byte l_flags = 0;
+        for ( final Object l_edge : l_edges )
+            l_flags |= EdgeType.DIRECTED.equals( p_graph.getEdgeType( l_edge ) ) ? DIRECTED : UNDIRECTED;
+
+        if ( l_flags == ( DIRECTED | UNDIRECTED ) )
+            throw new IOException( "graph with directed and undirected edges cannot be mapped" );
+        final boolean l_directed = l_flags == 0 ? EdgeType.DIRECTED.equals( p_graph.getDefaultEdgeType() ) : l_flags == DIRECTED;
+
+        try (
+            FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+            COutput l_output = new COutput( l_channel )
+        )
+        {
+            l_output.integer( CMappedGraph.MAGIC );
+            l_output.integer( CMappedGraph.VERSION );
+            l_output.integer( l_directed ? CMappedGraph.DIRECTED : 0 );
+            l_output.integer( l_vertices.size() );
+            l_output.integer( l_edges.length );
+
+            for ( final int i : l_source )
+                l_output.integer( i );
+            for ( final int i : l_target )
+                l_output.integer( i );
+
+            // undirected graphs store each edge in the row of both end vertices
+            CGraphFormat.rows( l_output, l_source, l_directed ? null : l_target, l_vertices.size() );
+            if ( l_directed )
+                CGraphFormat.rows( l_output, l_target, null, l_vertices.size() );
+        }
+
+        // the fixed-width layout stores indices only, so vertices and edges are stored in the dictionary file
+        try (
+            FileChannel l_channel = FileChannel.open(
+                CMappedGraph.dictionaryfile( p_path ), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+            COutput l_output = new COutput( l_channel )
+        )
+        {
+            l_output.integer( CMappedGraph.MAGIC );
+            l_output.integer( CMappedGraph.VERSION );
+            l_output.varint( l_vertices.size() );
+            l_output.varint( l_edges.length );
+
+            for ( final Object l_vertex : l_vertices )
+                l_output.value( l_vertex );
+            for ( final Object l_edge : l_edges )
+                l_output.value( l_edge );
+        }
+    }
+
+    /**
+     * reads the dictionary of a memory-mapped graph
+     *
+     * @param p_path dictionary file
+     * @return vertices and edges ordered by their mapped index
+     * @throws IOException on read error
+     * @see CMappedGraph#dictionary()
+     */
+    @Nonnull
+    static org.apache.commons.lang3.tuple.Pair<List<Object>, List<Object>> readdictionary( @Nonnull final Path p_path ) throws IOException
+    {
+        try ( FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.READ ) )
+        {
+            final CInput l_input = new CInput( l_channel );
+            if ( l_input.integer() != CMappedGraph.MAGIC || l_input.integer() != CMappedGraph.VERSION )
+                throw new IOException( "wrong dictionary format" );
+
+            final Object[] l_vertices = new Object[(int) l_input.varint()];
+            final Object[] l_edges = new Object[(int) l_input.varint()];
+            for ( int i = 0; i < l_vertices.length; i++ )
+                l_vertices[i] = l_input.object();
+            for ( int i = 0; i < l_edges.length; i++ )
+                l_edges[i] = l_input.object();
+
+            return new org.apache.commons.lang3.tuple.ImmutablePair<>(
+                Collections.unmodifiableList( Arrays.asList( l_vertices ) ),
+                Collections.unmodifiableList( Arrays.asList( l_edges ) )
+            );
+        }
+    }
+
+    /**
+     * writes the compressed-sparse-row offsets and edge indices
+     * of edges, which are ordered by the edge index within a row
+     *
+     * @param p_output output
+     * @param p_key row vertex of each edge
+     * @param p_secondkey second row vertex of each edge or null
+     * @param p_size number of vertices
+     * @throws IOException on write error
+     */
+    private static void rows( @Nonnull final COutput p_output, @Nonnull final int[] p_key, final int[] p_secondkey,
+                              @Nonnegative final int p_size ) throws IOException
+    {
+        final long[] l_offset = new long[p_size + 1];
+        for ( int i = 0; i < p_key.length; i++ )
+        {
+            l_offset[p_key[i] + 1]++;
+            if ( Objects.nonNull( p_secondkey ) && p_secondkey[i] != p_key[i] )
+                l_offset[p_secondkey[i] + 1]++;
+        }
+        for ( int i = 1; i < l_offset.length; i++ )
+            l_offset[i] += l_offset[i - 1];
+        if ( l_offset[p_size] > Integer.MAX_VALUE - 8 )
+            throw new IOException( "number of incident edges exceeds the maximum size" );
+
+        final int[] l_edges = new int[(int) l_offset[p_size]];
+        final int[] l_position = new int[p_size];
+        for ( int i = 0; i < p_size; i++ )
+            l_position[i] = (int) l_offset[i];
+        for ( int i = 0; i < p_key.length; i++ )
+        {
+            l_edges[l_position[p_key[i]]++] = i;
+            if ( Objects.nonNull( p_secondkey ) && p_secondkey[i] != p_key[i] )
+                l_edges[l_position[p_secondkey[i]]++] = i;
+        }
+
+        for ( final long i : l_offset )
+            p_output.longinteger( i );
+        for ( final int i : l_edges )
+            p_output.integer( i );
+    }
+
+    /**
+     * stable counting sort of an edge order by a vertex key
+     *
+     * @param p_key vertex key of each edge
+     * @param p_order edge order
+     * @param p_size number of vertices
+     * @return new edge order
+     */
+    @Nonnull
+    private static int[] sort( @Nonnull final int[] p_key, @Nonnull final int[] p_order, @Nonnegative final int p_size )
+    {
+        final int[] l_position = new int[p_size + 1];
+        for ( final int i : p_order )
+            l_position[p_key[i] + 1]++;
+        for ( int i = 1; i < l_position.length; i++ )
+            l_position[i] += l_position[i - 1];
+
+        final int[] l_order = new int[p_order.length];
+        for ( final int i : p_order )
+            l_order[l_position[p_key[i]]++] = i;
+        return l_order;
+    }
+
+
+    /**
+     * buffered output of a file channel
+     */
+    private static final class COutput implements AutoCloseable
+    {
+        /**
+         * channel
+         */
+        private final FileChannel m_channel;
+        /**
+         * buffer
+         */
+        private final ByteBuffer m_buffer = ByteBuffer.allocateDirect( BUFFERSIZE );
+
+        /**
+         * ctor
+         *
+         * @param p_channel channel
+         */
+        COutput( @Nonnull final FileChannel p_channel )
+        {
+            m_channel = p_channel;
+        }
+
+        /**
+         * writes a byte
+         *
+         * @param p_value value
+         * @throws IOException on write error
+         */
+        void value( final byte p_value ) throws IOException
+        {
+            this.ensure( Byte.BYTES );
+            m_buffer.put( p_value );
+        }
+
+        /**
+         * writes an integer with fixed length
+         *
+         * @param p_value value
+         * @throws IOException on write error
+         */
+        void integer( final int p_value ) throws IOException
+        {
+            this.ensure( Integer.BYTES );
+            m_buffer.putInt( p_value );
+        }
+
+        /**
+         * writes a long with fixed length
+         *
+         * @param p_value value
+         * @throws IOException on write error
+         */
+        void longinteger( final long p_value ) throws IOException
+        {
+            this.ensure( Long.BYTES );
+            m_buffer.putLong( p_value );
+        }
+
+        /**
+         * writes a double
+         *
+         * @param p_value value
+         * @throws IOException on write error
+         */
+        void real( final double p_value ) throws IOException
+        {
+            this.ensure( Double.BYTES );
+            m_buffer.putDouble( p_value );
+        }
+
+        /**
+         * writes a non-negative variable-length integer
+         *
+         * @param p_value value
+         * @throws IOException on write error
+         */
+        void varint( final long p_value ) throws IOException
+        {
+            this.ensure( 10 );
+            long l_value = p_value;
+            while ( ( l_value & ~0x7FL ) != 0 )
+            {
+                m_buffer.put( (byte) ( ( l_value & 0x7F ) | 0x80 ) );
+                l_value >>>= 7;
+            }
+            m_buffer.put( (byte) l_value );
+        }
+
+        /**
+         * writes a tagged vertex or edge value
+         *
+         * @param p_value value
+         * @throws IOException on write error
+         */
+        void value( @Nonnull final Object p_value ) throws IOException
+        {
+            if ( p_value instanceof Integer )
+            {
+                this.value( INTEGER );
+                this.varint( CGraphFormat.zigzag( (Integer) p_value ) );
+            }
+            else if ( p_value instanceof Long )
+            {
+                this.value( LONG );
+                this.varint( CGraphFormat.zigzag( (Long) p_value ) );
+            }
+            else if ( p_value instanceof Double )
+            {
+                this.value( DOUBLE );
+                this.real( (Double) p_value );
+            }
+            else if ( p_value instanceof String )
+            {
+                final byte[] l_bytes = ( (String) p_value ).getBytes( StandardCharsets.UTF_8 );
+                this.value( STRING );
+                this.varint( l_bytes.length );
+                for ( int i = 0; i < l_bytes.length; i += BUFFERSIZE )
+                {
+                    this.ensure( Math.min( BUFFERSIZE, l_bytes.length - i ) );
+                    m_buffer.put( l_bytes, i, Math.min( BUFFERSIZE, l_bytes.length - i ) );
+                }
+            }
+            else
+                throw new IOException( "value type [" + p_value.getClass().getName() + "] cannot be stored" );
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            this.flush();
+        }
+
+        /**
+         * flushes the buffer if there is not enough space
+         *
+         * @param p_size needed space
+         * @throws IOException on write error
+         */
+        private void ensure( final int p_size ) throws IOException
+        {
+            if ( m_buffer.remaining() < p_size )
+                this.flush();
+        }
+
+        /**
+         * writes the buffer to the channel
+         *
+         * @throws IOException on write error
+         */
+        private void flush() throws IOException
+        {
+            m_buffer.flip();
+            while ( m_buffer.hasRemaining() )
+                m_channel.write( m_buffer );
+            m_buffer.clear();
+        }
+    }
+
+
+    /**
+     * buffered input of a file channel
+     */
+    private static final class CInput
+    {
+        /**
+         * channel
+         */
+        private final FileChannel m_channel;
+        /**
+         * buffer
+         */
+        private final ByteBuffer m_buffer = ByteBuffer.allocateDirect( BUFFERSIZE );
+
+        /**
+         * ctor
+         *
+         * @param p_channel channel
+         */
+        CInput( @Nonnull final FileChannel p_channel )
+        {
+            m_channel = p_channel;
+            m_buffer.limit( 0 );
+        }
+
+        /**
+         * reads a byte
+         *
+         * @return value
+         * @throws IOException on read error
+         */
+        byte value() throws IOException
+        {
+            this.ensure( Byte.BYTES );
+            return m_buffer.get();
+        }
+
+        /**
+         * reads an integer with fixed length
+         *
+         * @return value
+         * @throws IOException on read error
+         */
+        int integer() throws IOException
+        {
+            this.ensure( Integer.BYTES );
+            return m_buffer.getInt();
+        }
+
+        /**
+         * reads a double
+         *
+         * @return value
+         * @throws IOException on read error
+         */
+        double real() throws IOException
+        {
+            this.ensure( Double.BYTES );
+            return m_buffer.getDouble();
+        }
+
+        /**
+         * reads a non-negative variable-length integer
+         *
+         * @return value
+         * @throws IOException on read error
+         */
+        long varint() throws IOException
+        {
+            long l_value = 0;
+            for ( int l_shift = 0; l_shift < Long.SIZE; l_shift += 7 )
+            {
+                final byte l_byte = this.value();
+                l_value |= (long) ( l_byte & 0x7F ) << l_shift;
+                if ( ( l_byte & 0x80 ) == 0 )
+                    return l_value;
+            }
+
+            throw new IOException( "variable-length integer is too long" );
+        }
+
+        /**
+         * reads a tagged vertex or edge value
+         *
+         * @return value
+         * @throws IOException on read error
+         */
+        @Nonnull
+        Object object() throws IOException
+        {
+            final byte l_tag = this.value();
+            switch ( l_tag )
+            {
+                case INTEGER:
+                    return (int) CGraphFormat.unzigzag( this.varint() );
+
+                case LONG:
+                    return CGraphFormat.unzigzag( this.varint() );
+
+                case DOUBLE:
+                    return this.real();
+
+                case STRING:
+                    final byte[] l_bytes = new byte[(int) this.varint()];
+                    for ( int i = 0; i < l_bytes.length; i += BUFFERSIZE )
+                    {
+                        this.ensure( Math.min( BUFFERSIZE, l_bytes.length - i ) );
+                        m_buffer.get( l_bytes, i, Math.min( BUFFERSIZE, l_bytes.length - i ) );
+                    }
+                    return new String( l_bytes, StandardCharsets.UTF_8 );
+
+                default:
+                    throw new IOException( "value tag [" + l_tag + "] is unknown" );
+            }
+        }
+
+        /**
+         * reads from the channel until enough bytes are buffered
+         *
+         * @param p_size needed bytes
+         * @throws IOException on read error
+         */
+        private void ensure( final int p_size ) throws IOException
+        {
+            if ( m_buffer.remaining() >= p_size )
+                return;
+
+            m_buffer.compact();
+            while ( m_buffer.position() < p_size )
+                if ( m_channel.read( m_buffer ) < 0 )
+                    throw new EOFException();
+            m_buffer.flip();
+        }
+    }
+
+    /**
+     * zigzag encoding of signed values
+     *
+     * @param p_value value
+     * @return non-negative value
+     */
+    private static long zigzag( final long p_value )
+    {
+        return ( p_value << 1 ) ^ ( p_value >> 63 );
+    }
+
+    /**
+     * zigzag decoding of signed values
+     *
+     * @param p_value non-negative value
+     * @return value
+     */
+    private static long unzigzag( final long p_value )
+    {
+        return ( p_value >>> 1 ) ^ -( p_value & 1 );
+    }
+}
@@ -0,0 +1,481 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import edu.uci.ics.jung.graph.Graph;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+
+/**
+ * stable vertex index of a graph.
+ * The index is stored by graph identity and is updated
+ * incrementally by the graph add / remove actions, new vertices
+ * get the next index, on removing a vertex the last vertex moves
+ * to the free position, so all other indices are unchanged.
+ * Modifications outside of the graph actions are detected by the
+ * number of vertices on each access and by the membership of each
+ * vertex on reading all edges or exporting the index, which cost
+ * linear time anyway, so looking up a vertex costs constant time.
+ * The vertices of a memory-mapped graph are their own index, so
+ * the index of it is the identity and does not store any vertex
+ */
+public final class CGraphIndex
+{
+    /**
+     * indices of graphs
+     */
+    private static final Cache<Graph<?, ?>, CGraphIndex> INDICES = CacheBuilder.newBuilder().weakKeys().build();
+    /**
+     * vertices ordered by index
+     */
+    private final List<Object> m_vertices;
+    /**
+     * vertex index
+     */
+    private final Map<Object, Integer> m_index;
+    /**
+     * identity flag of memory-mapped graphs
+     */
+    private final boolean m_identity;
+    /**
+     * lock of the vertex list and index, readers do not block each other
+     */
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+    /**
+     * number of vertices
+     */
+    private volatile int m_size;
+
+
+    /**
+     * ctor
+     *
+     * @param p_graph graph
+     */
+    private CGraphIndex( @Nonnull final Graph<?, ?> p_graph )
+    {
+        m_identity = p_graph instanceof CMappedGraph;
+        if ( m_identity )
+        {
+            m_vertices = ( (CMappedGraph) p_graph ).getVertices();
+            m_index = new CIdentityMap( p_graph.getVertexCount() );
+            m_size = m_vertices.size();
+        }
+        else
+        {
+            m_vertices = new ArrayList<>();
+            m_index = new HashMap<>();
+            p_graph.getVertices().forEach( this::append );
+            m_size = m_vertices.size();
+        }
+    }
+
+    /**
+     * returns the index of a graph
+     *
+     * @param p_graph graph
+     * @return index
+     */
+    @Nonnull
+    public static CGraphIndex of( @Nonnull final Graph<Object, Object> p_graph )
+    {
+        final CGraphIndex l_index = INDICES.asMap().computeIfAbsent( p_graph, CGraphIndex::new );
+        if ( !l_index.m_identity && l_index.m_size != p_graph.getVertexCount() )
+            l_index.synchronize( p_graph );
+        return l_index;
+    }
+
+    /**
+     * number of vertices
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns the index of a vertex
+     *
+     * @param p_vertex vertex
+     * @return index or -1 if the vertex does not exist
+     */
+    public int index( @Nonnull final Object p_vertex )
+    {
+        return this.read( () -> m_index.getOrDefault( p_vertex, -1 ) );
+    }
+
+    /**
+     * returns the vertices ordered by index
+     *
+     * @return immutable vertex list
+     */
+    @Nonnull
+    public List<Object> vertices()
+    {
+        return this.read( this::copy );
+    }
+
+    /**
+     * returns the vertex index map
+     *
+     * @return immutable map
+     */
+    @Nonnull
+    public Map<Object, Integer> map()
+    {
+        return this.read( () -> m_identity ? m_index : Collections.unmodifiableMap( new HashMap<>( m_index ) ) );
+    }
+
+    /**
+     * merges all modifications, which are not done by the graph actions,
+     * the membership of each vertex is checked, so it costs linear time
+     *
+     * @param p_graph graph
+     * @return self reference
+     */
+    @Nonnull
+    CGraphIndex validate( @Nonnull final Graph<Object, Object> p_graph )
+    {
+        // a vertex, which is removed and another one, which is added, do not change the number of vertices
+        if ( !m_identity && !this.read( () -> m_vertices.size() == p_graph.getVertexCount() && p_graph.getVertices().stream().allMatch( m_index::containsKey ) ) )
+            this.synchronize( p_graph );
+        return this;
+    }
+
+    /**
+     * returns the edges of a graph with the endpoint indices of
+     * the index, edges with an endpoint, which is not part of
+     * the index, because the graph has been modified concurrently,
+     * are skipped
+     *
+     * @param p_parallel parallel execution
+     * @param p_graph graph
+     * @return edges of the index
+     */
+    @Nonnull
+    CEdges edges( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph )
+    {
+        this.validate( p_graph );
+
+        final Object[] l_edges = p_graph.getEdges().toArray();
+        final int[] l_source = new int[l_edges.length];
+        final int[] l_target = new int[l_edges.length];
+
+        // the endpoints are resolved with the read lock, so all indices belong to the same vertex list
+        final List<Object> l_vertices = this.read( () ->
+        {
+            final IntStream l_range = IntStream.range( 0, l_edges.length );
+            ( p_parallel ? l_range.parallel() : l_range ).forEach( i ->
+            {
+                final edu.uci.ics.jung.graph.util.Pair<Object> l_endpoints = p_graph.getEndpoints( l_edges[i] );
+                l_source[i] = Objects.isNull( l_endpoints ) ? -1 : m_index.getOrDefault( l_endpoints.getFirst(), -1 );
+                l_target[i] = Objects.isNull( l_endpoints ) ? -1 : m_index.getOrDefault( l_endpoints.getSecond(), -1 );
+            } );
+            return this.copy();
+        } );
+
+        int l_count = 0;
+        for ( int i = 0; i < l_edges.length; i++ )
+            if ( l_source[i] >= 0 && l_target[i] >= 0 )
+            {
+                l_edges[l_count] = l_edges[i];
+                l_source[l_count] = l_source[i];
+                l_target[l_count++] = l_target[i];
+            }
+
+        return l_count == l_edges.length
+               ? new CEdges( l_vertices, l_edges, l_source, l_target )
+               : new CEdges( l_vertices, Arrays.copyOf( l_edges, l_count ), Arrays.copyOf( l_source, l_count ), Arrays.copyOf( l_target, l_count ) );
+    }
+
+    /**
+     * adds vertices to the index of a graph, if the index exists
+     *
+     * @param p_graph graph
+     * @param p_vertices vertices
+     */
+    static void added( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Object... p_vertices )
+    {
+        final CGraphIndex l_index = INDICES.getIfPresent( p_graph );
+        if ( Objects.isNull( l_index ) || l_index.m_identity )
+            return;
+
+        l_index.write( () ->
+        {
+            for ( final Object l_vertex : p_vertices )
+                if ( p_graph.containsVertex( l_vertex ) )
+                    l_index.append( l_vertex );
+        } );
+    }
+
+    /**
+     * removes a vertex from the index of a graph, if the index exists
+     *
+     * @param p_graph graph
+     * @param p_vertex vertex
+     */
+    static void removed( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Object p_vertex )
+    {
+        final CGraphIndex l_index = INDICES.getIfPresent( p_graph );
+        if ( Objects.isNull( l_index ) || l_index.m_identity )
+            return;
+
+        l_index.write( () ->
+        {
+            if ( !p_graph.containsVertex( p_vertex ) )
+                l_index.remove( p_vertex );
+        } );
+    }
+
+    /**
+     * merges modifications, which are not done by the graph actions
+     *
+     * @param p_graph graph
+     */
+    private void synchronize( @Nonnull final Graph<Object, Object> p_graph )
+    {
+        this.write( () ->
+        {
+            new ArrayList<>( m_vertices ).stream().filter( i -> !p_graph.containsVertex( i ) ).forEach( this::remove );
+            p_graph.getVertices().forEach( this::append );
+        } );
+    }
+
+    /**
+     * returns an immutable copy of the vertex list,
+     * the read lock must be held
+     *
+     * @return vertex list
+     */
+    @Nonnull
+    private List<Object> copy()
+    {
+        return m_identity ? m_vertices : Collections.unmodifiableList( new ArrayList<>( m_vertices ) );
+    }
+
+    /**
+     * runs a function with the read lock
+     *
+     * @param p_function function
+     * @return function result
+     * @tparam T result type
+     */
+    private <T> T read( @Nonnull final Supplier<T> p_function )
+    {
+        m_lock.readLock().lock();
+        try
+        {
+            return p_function.get();
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * runs a modification with the write lock
+     *
+     * @param p_runnable modification
+     */
+    private void write( @Nonnull final Runnable p_runnable )
+    {
+        m_lock.writeLock().lock();
+        try
+        {
+            p_runnable.run();
+            m_size = m_vertices.size();
+        }
+        finally
+        {
+            m_lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * appends a vertex, if it does not exist,
+     * the write lock must be held
+     *
+     * @param p_vertex vertex
+     */
+    private void append( @Nonnull final Object p_vertex )
+    {
+        if ( Objects.nonNull( m_index.putIfAbsent( p_vertex, m_vertices.size() ) ) )
+            return;
+
+        m_vertices.add( p_vertex );
+    }
+
+    /**
+     * removes a vertex and moves the last vertex to the free position,
+     * the write lock must be held
+     *
+     * @param p_vertex vertex
+     */
+    private void remove( @Nonnull final Object p_vertex )
+    {
+        final Integer l_position = m_index.remove( p_vertex );
+        if ( Objects.isNull( l_position ) )
+            return;
+
+        final Object l_last = m_vertices.remove( m_vertices.size() - 1 );
+        if ( l_position < m_vertices.size() )
+        {
+            m_vertices.set( l_position, l_last );
+            m_index.put( l_last, l_position );
+        }
+    }
+
+    /**
+     * edges of a graph with the endpoint
+     * indices of the vertex list
+     */
+    static final class CEdges
+    {
+        /**
+         * vertices ordered by index
+         */
+        final List<Object> m_vertices;
+        /**
+         * edges
+         */
+        final Object[] m_edges;
+        /**
+         * index of the first endpoint of each edge
+         */
+        final int[] m_source;
+        /**
+         * index of the second endpoint of each edge
+         */
+        final int[] m_target;
+
+        /**
+         * ctor
+         *
+         * @param p_vertices vertices ordered by index
+         * @param p_edges edges
+         * @param p_source index of the first endpoints
+         * @param p_target index of the second endpoints
+         */
+        private CEdges( @Nonnull final List<Object> p_vertices, @Nonnull final Object[] p_edges, @Nonnull final int[] p_source, @Nonnull final int[] p_target )
+        {
+            m_vertices = p_vertices;
+            m_edges = p_edges;
+            m_source = p_source;
+            m_target = p_target;
+        }
+    }
+
+
+    /**
+     * vertex index of the vertices zero to
+     * size minus one, which are their own index
+     */
+    private static final class CIdentityMap extends AbstractMap<Object, Integer>
+    {
+        /**
+         * size
+         */
+        private final int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_size size
+         */
+        CIdentityMap( @Nonnegative final int p_size )
+        {
+            m_size = p_size;
+        }
+
+        @Override
+        public Integer get( final Object p_key )
+        {
+            return this.getOrDefault( p_key, null );
+        }
+
+        @Override
+        public Integer getOrDefault( final Object p_key, final Integer p_default )
+        {
+            final int l_index = CMappedGraph.index( p_key, m_size );
+            return l_index < 0 ? p_default : Integer.valueOf( l_index );
+        }
+
+        @Override
+        public boolean containsKey( final Object p_key )
+        {
+            return CMappedGraph.index( p_key, m_size ) >= 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return m_size;
+        }
+
+        @Nonnull
+        @Override
+        public Set<Entry<Object, Integer>> entrySet()
+        {
+            return new AbstractSet<Entry<Object, Integer>>()
+            {
+                @Nonnull
+                @Override
+                public Iterator<Entry<Object, Integer>> iterator()
+                {
+                    return IntStream.range( 0, m_size ).<Entry<Object, Integer>>mapToObj( i -> new SimpleImmutableEntry<>( i, i ) ).iterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    return m_size;
+                }
+            };
+        }
+    }
+
+}
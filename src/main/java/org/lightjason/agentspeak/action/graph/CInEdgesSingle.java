@@ -26,12 +26,10 @@ package org.lightjason.agentspeak.action.graph;
 
 import edu.uci.ics.jung.graph.Graph;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -39,11 +37,13 @@ import java.util.List;
  * returns incomming edges of a vertex of each graph instance.
  * The actions returns a list incoming edges of a vertex for
  * each graph instance, the first argument is the vertex, all
- * other graphs
+ * other graphs.
+ * With the string "view" as first argument the list is an
+ * immutable snapshot
  *
  * {@code [OE1|OE2] = .graph/inedgessingle( Vertex, Graph1, Graph2 );}
  */
-public final class CInEdgesSingle extends IApplySingle
+public final class CInEdgesSingle extends IApplyListSingle
 {
     /**
      * serial id
@@ -68,19 +68,9 @@ public final class CInEdgesSingle extends IApplySingle
     }
 
     @Override
-    protected void apply( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph,
-                          @Nonnull final List<ITerm> p_window, @Nonnull final List<ITerm> p_return
-    )
+    protected Collection<?> collection( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final List<ITerm> p_window )
     {
-        final List<?> l_return = new ArrayList<>( p_graph.getInEdges( p_window.get( 0 ).raw() ) );
-
-        p_return.add(
-            CRawTerm.of(
-                p_parallel
-                ? Collections.synchronizedList( l_return )
-                : l_return
-            )
-        );
+        return p_graph.getInEdges( p_window.get( 0 ).raw() );
     }
 
 }
@@ -25,23 +25,23 @@ package org.lightjason.agentspeak.action.graph;
 
 import edu.uci.ics.jung.graph.Graph;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 
 
 /**
  * returns a list of incident vertices of an edge of each graph instance.
  * The action returns for the first edge argument the incident vertices
- * of each graph argument
+ * of each graph argument.
+ * With the string "view" as first argument the list is an
+ * immutable snapshot
  *
  * {@code [L1|L2] = graph/incidentverticessingle( Edge, Graph1, Graph2 );}
  */
-public final class CIncidentVerticesSingle extends IApplySingle
+public final class CIncidentVerticesSingle extends IApplyListSingle
 {
     /**
      * serial id
@@ -66,18 +66,8 @@ public final class CIncidentVerticesSingle extends IApplySingle
     }
 
     @Override
-    protected void apply( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph,
-                          @Nonnull final List<ITerm> p_window, @Nonnull final List<ITerm> p_return
-    )
+    protected Collection<?> collection( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final List<ITerm> p_window )
     {
-        final List<?> l_return = new ArrayList<>( p_graph.getIncidentVertices( p_window.get( 0 ).raw() ) );
-
-        p_return.add(
-            CRawTerm.of(
-                p_parallel
-                ? Collections.synchronizedList( l_return )
-                : l_return
-            )
-        );
+        return p_graph.getIncidentVertices( p_window.get( 0 ).raw() );
     }
 }
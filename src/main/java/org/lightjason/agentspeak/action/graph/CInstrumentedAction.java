@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import cern.colt.matrix.AbstractMatrix;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+
+/**
+ * action decorator, which measures each execution
+ * of the underlying action and records it at the
+ * metrics action, the results are the number of returned
+ * elements, so collections, maps and matrices are counted
+ * with their size and all other values are counted once
+ *
+ * @see CMetrics
+ */
+final class CInstrumentedAction extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2695124081391806514L;
+    /**
+     * underlying action
+     */
+    private final IBaseAction m_action;
+
+    /**
+     * ctor
+     *
+     * @param p_action underlying action
+     */
+    CInstrumentedAction( @Nonnull final IBaseAction p_action )
+    {
+        m_action = p_action;
+    }
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return m_action.name();
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return m_action.minimalArgumentNumber();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final int l_size = p_return.size();
+        final long l_start = System.nanoTime();
+        boolean l_failed = true;
+        try
+        {
+            final Stream<IFuzzyValue<?>> l_result = m_action.execute( p_parallel, p_context, p_argument, p_return );
+            l_failed = false;
+            return l_result;
+        }
+        finally
+        {
+            CMetrics.record( m_action.name(), System.nanoTime() - l_start, CInstrumentedAction.elements( p_return, l_size ), l_failed );
+        }
+    }
+
+    /**
+     * counts the returned elements
+     *
+     * @param p_return return values
+     * @param p_start position of the first return value of the call
+     * @return number of elements
+     */
+    @Nonnegative
+    private static long elements( @Nonnull final List<ITerm> p_return, @Nonnegative final int p_start )
+    {
+        long l_count = 0;
+        for ( int i = p_start; i < p_return.size(); i++ )
+        {
+            final Object l_value = p_return.get( i ).raw();
+            l_count += l_value instanceof Collection<?>
+                       ? ( (Collection<?>) l_value ).size()
+                       : l_value instanceof Map<?, ?>
+                         ? ( (Map<?, ?>) l_value ).size()
+                         : l_value instanceof AbstractMatrix
+                           ? ( (AbstractMatrix) l_value ).size()
+                           : 1;
+        }
+        return l_count;
+    }
+
+}
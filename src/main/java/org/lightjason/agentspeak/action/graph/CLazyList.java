@@ -0,0 +1,99 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+
+/**
+ * immutable snapshot list of a graph collection.
+ * The list does not copy the elements on creation, the
+ * elements are copied into an array on the first access,
+ * after that each access reads the same snapshot, so the
+ * list is stable and thread-safe
+ *
+ * @tparam T element type
+ */
+final class CLazyList<T> extends AbstractList<T>
+{
+    /**
+     * underlying collection
+     */
+    private final Collection<T> m_source;
+    /**
+     * materialized elements
+     */
+    private volatile Object[] m_elements;
+
+    /**
+     * ctor
+     *
+     * @param p_source underlying collection, null is an empty collection
+     */
+    CLazyList( final Collection<T> p_source )
+    {
+        m_source = Objects.isNull( p_source ) ? Collections.emptyList() : Collections.unmodifiableCollection( p_source );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public T get( final int p_index )
+    {
+        final Object[] l_elements = this.elements();
+        Objects.checkIndex( p_index, l_elements.length );
+        return (T) l_elements[p_index];
+    }
+
+    @Override
+    public int size()
+    {
+        return this.elements().length;
+    }
+
+    /**
+     * returns the snapshot and creates
+     * it on the first call
+     *
+     * @return element array
+     */
+    @Nonnull
+    private Object[] elements()
+    {
+        final Object[] l_elements = m_elements;
+        if ( Objects.nonNull( l_elements ) )
+            return l_elements;
+
+        synchronized ( this )
+        {
+            if ( Objects.isNull( m_elements ) )
+                m_elements = m_source.toArray();
+            return m_elements;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * loads graphs of the binary format of the save action.
+ * The action returns for each file name argument the graph
+ * and the weight-map, which is empty if the file does not
+ * contain a weight column, a string with a graph type of the
+ * create action defines the type of all graphs, without type
+ * a sparse multigraph with the edge types of the file is created,
+ * on parallel execution the edges of concurrent graphs are added
+ * concurrently
+ *
+ * {@code
+ * [G1|W1|G2|W2] = .graph/load( "graph1.bin", "graph2.bin" );
+ * [G3|W3] = .graph/load( "directedcsr", "graph3.bin" );
+ * }
+ */
+public final class CLoad extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7080712935018815466L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CLoad.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<String> l_arguments = CCommon.flatten( p_argument )
+                                                .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                                .map( ITerm::<String>raw )
+                                                .collect( Collectors.toList() );
+
+        final String l_type = l_arguments.stream().filter( CCreate::exists ).findFirst().orElse( null );
+
+        l_arguments.stream()
+                   .filter( i -> !CCreate.exists( i ) )
+                   .forEach( i ->
+                   {
+                       try
+                       {
+                           final org.apache.commons.lang3.tuple.Pair<?, ?> l_result = CGraphFormat.read( Paths.get( i ), l_type, p_parallel );
+                           p_return.add( CRawTerm.of( l_result.getLeft() ) );
+                           p_return.add( CRawTerm.of( l_result.getRight() ) );
+                       }
+                       catch ( final IOException l_exception )
+                       {
+                           throw new CExecutionIllegalStateException(
+                               p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "readerror", i, l_exception.getMessage() ) );
+                       }
+                   } );
+
+        return Stream.empty();
+    }
+}
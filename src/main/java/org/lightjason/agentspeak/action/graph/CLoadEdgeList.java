@@ -0,0 +1,457 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * loads graphs from edge-list files.
+ * The action creates for each file name argument a graph, a string
+ * with a graph type of the create action defines the type of all
+ * graphs (default sparse). A text file contains one edge per line
+ * with start vertex, end vertex and an optional edge identifier, which
+ * are separated by spaces, tabs, commas or semicolons, lines starting
+ * with # or % and lines with less than two values are skipped, with
+ * the string "binary" the file contains pairs of 64-bit big-endian
+ * integers with the start and the end vertex. Integer values are
+ * used as long vertices, any other value as a string, edges without
+ * identifier get their position within the file as long identifier,
+ * so the action fails on files with numeric identifiers and edges
+ * without identifier.
+ * The file is memory-mapped and split into chunks at line boundaries,
+ * on parallel execution the chunks are parsed concurrently and the
+ * edges of concurrent graphs are added concurrently
+ *
+ * {@code
+ * [G1|G2] = .graph/loadedgelist( "directedcsr", "roads.txt", "rails.csv" );
+ * G3 = .graph/loadedgelist( "binary", "concurrent", "edges.bin" );
+ * }
+ */
+public final class CLoadEdgeList extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2893307528640376455L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CLoadEdgeList.class, "graph" );
+    /**
+     * binary flag
+     */
+    private static final String BINARY = "binary";
+    /**
+     * default graph type
+     */
+    private static final String DEFAULTTYPE = "sparse";
+    /**
+     * maximum size of a chunk
+     */
+    private static final long CHUNKSIZE = 1L << 28;
+    /**
+     * size of a binary record
+     */
+    private static final int RECORDSIZE = 2 * Long.BYTES;
+    /**
+     * size of the buffer for searching line boundaries
+     */
+    private static final int BOUNDARYBUFFER = 4096;
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<String> l_arguments = CCommon.flatten( p_argument )
+                                                .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                                .map( ITerm::<String>raw )
+                                                .collect( Collectors.toList() );
+
+        final boolean l_binary = l_arguments.stream().anyMatch( i -> BINARY.equalsIgnoreCase( i.trim() ) );
+        final String l_type = l_arguments.stream().filter( CCreate::exists ).findFirst().orElse( DEFAULTTYPE );
+
+        l_arguments.stream()
+                   .filter( i -> !BINARY.equalsIgnoreCase( i.trim() ) && !CCreate.exists( i ) )
+                   .map( i -> this.load( p_parallel, p_context, Paths.get( i ), l_binary, l_type ) )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * loads a graph
+     *
+     * @param p_parallel parallel execution
+     * @param p_context execution context
+     * @param p_path file
+     * @param p_binary binary format
+     * @param p_type graph type
+     * @return graph
+     */
+    @Nonnull
+    private Graph<Object, Object> load( final boolean p_parallel, @Nonnull final IContext p_context, @Nonnull final Path p_path,
+                                        final boolean p_binary, @Nonnull final String p_type
+    )
+    {
+        final List<CChunk> l_chunks;
+        try ( FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.READ ) )
+        {
+            final long[] l_bounds = CLoadEdgeList.bounds( p_parallel, l_channel, p_binary );
+            final IntStream l_stream = IntStream.range( 0, l_bounds.length - 1 );
+            l_chunks = ( p_parallel ? l_stream.parallel() : l_stream ).mapToObj( i -> CChunk.of( l_channel, l_bounds[i], l_bounds[i + 1], p_binary ) )
+                                                                      .collect( Collectors.toList() );
+        }
+        catch ( final IOException | UncheckedIOException l_exception )
+        {
+            throw new CExecutionIllegalStateException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "readerror", p_path, l_exception.getMessage() ) );
+        }
+
+        // edges without identifier are numbered by their position within the file, so numeric identifiers can collide
+        if ( l_chunks.stream().anyMatch( i -> i.m_numbered ) && l_chunks.stream().anyMatch( i -> i.m_numeric ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "mixededgeidentifiers", p_path ) );
+
+        final long[] l_offset = new long[l_chunks.size() + 1];
+        IntStream.range( 0, l_chunks.size() ).forEach( i -> l_offset[i + 1] = l_offset[i] + l_chunks.get( i ).size() );
+
+        final Graph<Object, Object> l_graph = CCreate.create( p_type );
+        if ( l_graph instanceof ICompressedSparseRowGraph<?, ?> )
+            ( (ICompressedSparseRowGraph<?, ?>) l_graph ).ensurecapacity( (int) Math.min( l_offset[l_chunks.size()], Integer.MAX_VALUE ) );
+
+        final IntStream l_stream = IntStream.range( 0, l_chunks.size() );
+        ( p_parallel && l_graph instanceof IConcurrentGraph<?, ?> ? l_stream.parallel() : l_stream )
+            .forEach( i -> l_chunks.get( i ).insert( l_graph, l_offset[i] ) );
+
+        return l_graph;
+    }
+
+    /**
+     * splits the file into chunks, text chunks
+     * end at line boundaries, binary chunks at
+     * record boundaries
+     *
+     * @param p_parallel parallel execution
+     * @param p_channel file channel
+     * @param p_binary binary format
+     * @return chunk bounds
+     * @throws IOException on read error
+     */
+    @Nonnull
+    private static long[] bounds( final boolean p_parallel, @Nonnull final FileChannel p_channel, final boolean p_binary ) throws IOException
+    {
+        final long l_size = p_channel.size();
+        final long l_count = Math.max( p_parallel ? 4L * ForkJoinPool.getCommonPoolParallelism() : 1, ( l_size + CHUNKSIZE - 1 ) / CHUNKSIZE );
+        final long l_length = Math.max( RECORDSIZE, ( l_size + l_count - 1 ) / l_count );
+
+        final List<Long> l_bounds = new ArrayList<>();
+        l_bounds.add( 0L );
+        for ( long i = 1; i < l_count; i++ )
+        {
+            final long l_bound = p_binary ? i * l_length - i * l_length % RECORDSIZE : CLoadEdgeList.linebreak( p_channel, i * l_length );
+            if ( l_bound > l_bounds.get( l_bounds.size() - 1 ) && l_bound < l_size )
+                l_bounds.add( l_bound );
+        }
+        l_bounds.add( l_size );
+
+        return l_bounds.stream().mapToLong( i -> i ).toArray();
+    }
+
+    /**
+     * returns the position after the next line break
+     *
+     * @param p_channel file channel
+     * @param p_position start position
+     * @return position after the line break or the file size
+     * @throws IOException on read error
+     */
+    private static long linebreak( @Nonnull final FileChannel p_channel, final long p_position ) throws IOException
+    {
+        final ByteBuffer l_buffer = ByteBuffer.allocate( BOUNDARYBUFFER );
+        long l_position = p_position;
+        while ( l_position < p_channel.size() )
+        {
+            l_buffer.clear();
+            final int l_read = p_channel.read( l_buffer, l_position );
+            for ( int i = 0; i < l_read; i++ )
+                if ( l_buffer.get( i ) == '\n' )
+                    return l_position + i + 1;
+            l_position += Math.max( 0, l_read );
+        }
+
+        return p_channel.size();
+    }
+
+
+    /**
+     * edges of a chunk
+     */
+    private static final class CChunk
+    {
+        /**
+         * start vertices
+         */
+        private final List<Object> m_sources = new ArrayList<>();
+        /**
+         * end vertices
+         */
+        private final List<Object> m_targets = new ArrayList<>();
+        /**
+         * edge identifiers, null if the edge is numbered
+         */
+        private final List<Object> m_edges = new ArrayList<>();
+        /**
+         * flag, that the chunk contains edges without identifier
+         */
+        private boolean m_numbered;
+        /**
+         * flag, that the chunk contains numeric edge identifiers
+         */
+        private boolean m_numeric;
+
+        /**
+         * parses a chunk
+         *
+         * @param p_channel file channel
+         * @param p_start start position
+         * @param p_end end position
+         * @param p_binary binary format
+         * @return chunk
+         */
+        @Nonnull
+        static CChunk of( @Nonnull final FileChannel p_channel, final long p_start, final long p_end, final boolean p_binary )
+        {
+            final ByteBuffer l_buffer;
+            try
+            {
+                l_buffer = p_channel.map( FileChannel.MapMode.READ_ONLY, p_start, p_end - p_start );
+            }
+            catch ( final IOException l_exception )
+            {
+                throw new UncheckedIOException( l_exception );
+            }
+
+            final CChunk l_chunk = new CChunk();
+            if ( p_binary )
+                l_chunk.binary( l_buffer.asLongBuffer() );
+            else
+                l_chunk.text( l_buffer );
+            return l_chunk;
+        }
+
+        /**
+         * number of edges
+         *
+         * @return size
+         */
+        @Nonnegative
+        int size()
+        {
+            return m_sources.size();
+        }
+
+        /**
+         * adds the edges to a graph
+         *
+         * @param p_graph graph
+         * @param p_offset position of the first edge within the file
+         */
+        void insert( @Nonnull final Graph<Object, Object> p_graph, final long p_offset )
+        {
+            for ( int i = 0; i < m_sources.size(); i++ )
+                p_graph.addEdge(
+                    Objects.isNull( m_edges.get( i ) ) ? Long.valueOf( p_offset + i ) : m_edges.get( i ),
+                    m_sources.get( i ), m_targets.get( i ),
+                    p_graph.getDefaultEdgeType()
+                );
+        }
+
+        /**
+         * parses binary records, an incomplete
+         * record at the end is ignored
+         *
+         * @param p_buffer buffer
+         */
+        private void binary( @Nonnull final LongBuffer p_buffer )
+        {
+            for ( int i = 0; i + 1 < p_buffer.limit(); i += 2 )
+                this.add( p_buffer.get( i ), p_buffer.get( i + 1 ), null );
+        }
+
+        /**
+         * parses text lines
+         *
+         * @param p_buffer buffer
+         */
+        private void text( @Nonnull final ByteBuffer p_buffer )
+        {
+            final Object[] l_values = new Object[3];
+            int l_position = 0;
+            while ( l_position < p_buffer.limit() )
+            {
+                int l_end = l_position;
+                while ( l_end < p_buffer.limit() && p_buffer.get( l_end ) != '\n' )
+                    l_end++;
+
+                this.line( p_buffer, l_position, l_end, l_values );
+                l_position = l_end + 1;
+            }
+        }
+
+        /**
+         * parses a single line
+         *
+         * @param p_buffer buffer
+         * @param p_start start position
+         * @param p_end end position
+         * @param p_values value array
+         */
+        private void line( @Nonnull final ByteBuffer p_buffer, final int p_start, final int p_end, @Nonnull final Object[] p_values )
+        {
+            int l_count = 0;
+            int l_position = p_start;
+            while ( l_position < p_end && l_count < p_values.length )
+            {
+                while ( l_position < p_end && CChunk.separator( p_buffer.get( l_position ) ) )
+                    l_position++;
+                if ( l_position == p_end )
+                    break;
+                if ( l_count == 0 && ( p_buffer.get( l_position ) == '#' || p_buffer.get( l_position ) == '%' ) )
+                    return;
+
+                final int l_begin = l_position;
+                while ( l_position < p_end && !CChunk.separator( p_buffer.get( l_position ) ) )
+                    l_position++;
+                p_values[l_count++] = CChunk.value( p_buffer, l_begin, l_position );
+            }
+
+            if ( l_count >= 2 )
+                this.add( p_values[0], p_values[1], l_count == 3 ? p_values[2] : null );
+        }
+
+        /**
+         * adds an edge
+         *
+         * @param p_source start vertex
+         * @param p_target end vertex
+         * @param p_edge edge identifier or null
+         */
+        private void add( @Nonnull final Object p_source, @Nonnull final Object p_target, final Object p_edge )
+        {
+            m_sources.add( p_source );
+            m_targets.add( p_target );
+            m_edges.add( p_edge );
+            m_numbered |= Objects.isNull( p_edge );
+            m_numeric |= p_edge instanceof Long;
+        }
+
+        /**
+         * checks a separator character
+         *
+         * @param p_byte character
+         * @return separator flag
+         */
+        private static boolean separator( final byte p_byte )
+        {
+            return p_byte == ' ' || p_byte == '\t' || p_byte == ',' || p_byte == ';' || p_byte == '\r';
+        }
+
+        /**
+         * parses a value, integers are returned as long
+         *
+         * @param p_buffer buffer
+         * @param p_start start position
+         * @param p_end end position
+         * @return long or string value
+         */
+        @Nonnull
+        private static Object value( @Nonnull final ByteBuffer p_buffer, final int p_start, final int p_end )
+        {
+            final boolean l_negative = p_buffer.get( p_start ) == '-';
+            final int l_start = l_negative ? p_start + 1 : p_start;
+
+            // up to 18 digits fit into a long without an overflow check
+            if ( l_start < p_end && p_end - l_start <= 18 )
+            {
+                long l_value = 0;
+                int i = l_start;
+                while ( i < p_end && p_buffer.get( i ) >= '0' && p_buffer.get( i ) <= '9' )
+                    l_value = 10 * l_value + p_buffer.get( i++ ) - '0';
+
+                if ( i == p_end )
+                    return l_negative ? -l_value : l_value;
+            }
+
+            final byte[] l_bytes = new byte[p_end - p_start];
+            p_buffer.get( p_start, l_bytes );
+            return new String( l_bytes, StandardCharsets.UTF_8 );
+        }
+    }
+}
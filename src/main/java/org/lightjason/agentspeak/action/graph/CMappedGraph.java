@@ -0,0 +1,729 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.AbstractTypedGraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * read-only graph on a memory-mapped adjacency file.
+ * The file is mapped into memory and is not loaded into the
+ * heap, so opening is instantaneous and the operating system
+ * page cache shares the graph between processes. Vertices and
+ * edges are the dense integer indices of the file, which can be
+ * addressed by any integral number like the numbers of an agent, the file
+ * stores with fixed width the header (magic number, version,
+ * flags, number of vertices and edges), the start and end vertex
+ * of each edge and the compressed-sparse-row offsets and edge
+ * indices of the outgoing (on undirected graphs incident) and the
+ * incoming edges. Sections are mapped in segments, so files can be
+ * larger than 2 GB, the graph is thread-safe, because it is never
+ * modified. The original vertices and edges are stored in index order
+ * in the dictionary file next to the graph file, which is read on demand
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Memory-mapped_file"></a>
+ */
+public final class CMappedGraph extends AbstractTypedGraph<Object, Object>
+{
+    /**
+     * magic number
+     */
+    static final int MAGIC = 0x4C4A4702;
+    /**
+     * format version
+     */
+    static final int VERSION = 1;
+    /**
+     * flag of directed edges
+     */
+    static final int DIRECTED = 1;
+    /**
+     * header size in bytes
+     */
+    static final int HEADER = 5 * Integer.BYTES;
+    /**
+     * file extension of the dictionary
+     */
+    static final String DICTIONARY = ".dictionary";
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5370861236012907413L;
+    /**
+     * segment size in bytes
+     */
+    private static final int SEGMENT = 1 << 30;
+    /**
+     * file name
+     */
+    private final String m_file;
+    /**
+     * number of vertices
+     */
+    private final int m_vertexcount;
+    /**
+     * number of edges
+     */
+    private final int m_edgecount;
+    /**
+     * source vertex index of each edge
+     */
+    private transient CSegments m_source;
+    /**
+     * target vertex index of each edge
+     */
+    private transient CSegments m_target;
+    /**
+     * row offsets of the outgoing (on undirected graphs incident) edges
+     */
+    private transient CSegments m_outoffset;
+    /**
+     * edge indices of the outgoing (on undirected graphs incident) edges
+     */
+    private transient CSegments m_outedges;
+    /**
+     * row offsets of the incoming edges
+     */
+    private transient CSegments m_inoffset;
+    /**
+     * edge indices of the incoming edges
+     */
+    private transient CSegments m_inedges;
+
+    /**
+     * ctor
+     *
+     * @param p_path file
+     * @throws IOException on read error or wrong file format
+     */
+    public CMappedGraph( @Nonnull final Path p_path ) throws IOException
+    {
+        this( p_path, CMappedGraph.header( p_path ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_path file
+     * @param p_header header values
+     * @throws IOException on read error
+     */
+    private CMappedGraph( @Nonnull final Path p_path, @Nonnull final int[] p_header ) throws IOException
+    {
+        super( ( p_header[0] & DIRECTED ) == 0 ? EdgeType.UNDIRECTED : EdgeType.DIRECTED );
+        m_file = p_path.toAbsolutePath().toString();
+        m_vertexcount = p_header[1];
+        m_edgecount = p_header[2];
+        this.map();
+    }
+
+    @Override
+    public boolean addEdge( final Object p_edge, final Pair<?> p_endpoints, final EdgeType p_type )
+    {
+        throw new UnsupportedOperationException( "mapped graph is read-only" );
+    }
+
+    @Override
+    public boolean addVertex( final Object p_vertex )
+    {
+        throw new UnsupportedOperationException( "mapped graph is read-only" );
+    }
+
+    @Override
+    public boolean removeVertex( final Object p_vertex )
+    {
+        throw new UnsupportedOperationException( "mapped graph is read-only" );
+    }
+
+    @Override
+    public boolean removeEdge( final Object p_edge )
+    {
+        throw new UnsupportedOperationException( "mapped graph is read-only" );
+    }
+
+    @Override
+    public Collection<Object> getEdges()
+    {
+        return new CIndexList( m_edgecount );
+    }
+
+    @Override
+    public List<Object> getVertices()
+    {
+        return new CIndexList( m_vertexcount );
+    }
+
+    @Override
+    public boolean containsVertex( final Object p_vertex )
+    {
+        return CMappedGraph.index( p_vertex, m_vertexcount ) >= 0;
+    }
+
+    @Override
+    public boolean containsEdge( final Object p_edge )
+    {
+        return CMappedGraph.index( p_edge, m_edgecount ) >= 0;
+    }
+
+    @Override
+    public int getEdgeCount()
+    {
+        return m_edgecount;
+    }
+
+    @Override
+    public int getVertexCount()
+    {
+        return m_vertexcount;
+    }
+
+    @Override
+    public Collection<Object> getNeighbors( final Object p_vertex )
+    {
+        final int l_index = CMappedGraph.index( p_vertex, m_vertexcount );
+        if ( l_index < 0 )
+            return null;
+
+        final Set<Object> l_neighbors = new LinkedHashSet<>();
+        this.opposite( l_index, m_outoffset, m_outedges, l_neighbors );
+        if ( this.directed() )
+            this.opposite( l_index, m_inoffset, m_inedges, l_neighbors );
+
+        return Collections.unmodifiableSet( l_neighbors );
+    }
+
+    @Override
+    public Collection<Object> getIncidentEdges( final Object p_vertex )
+    {
+        final int l_index = CMappedGraph.index( p_vertex, m_vertexcount );
+        if ( l_index < 0 )
+            return null;
+
+        if ( !this.directed() )
+            return new CRowList( l_index, m_outoffset, m_outedges );
+
+        final Set<Object> l_edges = new LinkedHashSet<>( new CRowList( l_index, m_inoffset, m_inedges ) );
+        l_edges.addAll( new CRowList( l_index, m_outoffset, m_outedges ) );
+        return Collections.unmodifiableSet( l_edges );
+    }
+
+    @Override
+    public Collection<Object> getInEdges( final Object p_vertex )
+    {
+        final int l_index = CMappedGraph.index( p_vertex, m_vertexcount );
+        if ( l_index < 0 )
+            return null;
+
+        return this.directed()
+               ? new CRowList( l_index, m_inoffset, m_inedges )
+               : new CRowList( l_index, m_outoffset, m_outedges );
+    }
+
+    @Override
+    public Collection<Object> getOutEdges( final Object p_vertex )
+    {
+        final int l_index = CMappedGraph.index( p_vertex, m_vertexcount );
+        return l_index < 0 ? null : new CRowList( l_index, m_outoffset, m_outedges );
+    }
+
+    @Override
+    public Collection<Object> getPredecessors( final Object p_vertex )
+    {
+        if ( !this.directed() )
+            return this.getNeighbors( p_vertex );
+
+        final int l_index = CMappedGraph.index( p_vertex, m_vertexcount );
+        if ( l_index < 0 )
+            return null;
+
+        final Set<Object> l_predecessors = new LinkedHashSet<>();
+        this.opposite( l_index, m_inoffset, m_inedges, l_predecessors );
+        return Collections.unmodifiableSet( l_predecessors );
+    }
+
+    @Override
+    public Collection<Object> getSuccessors( final Object p_vertex )
+    {
+        if ( !this.directed() )
+            return this.getNeighbors( p_vertex );
+
+        final int l_index = CMappedGraph.index( p_vertex, m_vertexcount );
+        if ( l_index < 0 )
+            return null;
+
+        final Set<Object> l_successors = new LinkedHashSet<>();
+        this.opposite( l_index, m_outoffset, m_outedges, l_successors );
+        return Collections.unmodifiableSet( l_successors );
+    }
+
+    @Override
+    public int inDegree( final Object p_vertex )
+    {
+        final int l_index = this.vertex( p_vertex );
+        return this.directed()
+               ? CMappedGraph.degree( l_index, m_inoffset )
+               : CMappedGraph.degree( l_index, m_outoffset );
+    }
+
+    @Override
+    public int outDegree( final Object p_vertex )
+    {
+        return CMappedGraph.degree( this.vertex( p_vertex ), m_outoffset );
+    }
+
+    @Override
+    public Object getSource( final Object p_edge )
+    {
+        return this.directed() ? m_source.integer( this.edge( p_edge ) ) : null;
+    }
+
+    @Override
+    public Object getDest( final Object p_edge )
+    {
+        return this.directed() ? m_target.integer( this.edge( p_edge ) ) : null;
+    }
+
+    @Override
+    public boolean isSource( final Object p_vertex, final Object p_edge )
+    {
+        return this.directed() && this.containsEdge( p_edge ) && Objects.equals( p_vertex, this.getSource( p_edge ) );
+    }
+
+    @Override
+    public boolean isDest( final Object p_vertex, final Object p_edge )
+    {
+        return this.directed() && this.containsEdge( p_edge ) && Objects.equals( p_vertex, this.getDest( p_edge ) );
+    }
+
+    @Override
+    public Pair<Object> getEndpoints( final Object p_edge )
+    {
+        final int l_index = CMappedGraph.index( p_edge, m_edgecount );
+        return l_index < 0
+               ? null
+               : new Pair<>( m_source.integer( l_index ), m_target.integer( l_index ) );
+    }
+
+    /**
+     * reads the dictionary of the original vertices and edges
+     *
+     * @return vertices and edges, the list position is the mapped index
+     * @throws IOException on read error or if the dictionary does not match the graph
+     */
+    @Nonnull
+    public org.apache.commons.lang3.tuple.Pair<List<Object>, List<Object>> dictionary() throws IOException
+    {
+        final org.apache.commons.lang3.tuple.Pair<List<Object>, List<Object>> l_dictionary = CGraphFormat.readdictionary(
+            CMappedGraph.dictionaryfile( Paths.get( m_file ) ) );
+        if ( l_dictionary.getLeft().size() != m_vertexcount || l_dictionary.getRight().size() != m_edgecount )
+            throw new IOException( "dictionary does not match the mapped graph" );
+
+        return l_dictionary;
+    }
+
+    /**
+     * returns the dictionary file of a graph file
+     *
+     * @param p_path graph file
+     * @return dictionary file
+     */
+    @Nonnull
+    static Path dictionaryfile( @Nonnull final Path p_path )
+    {
+        return p_path.resolveSibling( p_path.getFileName() + DICTIONARY );
+    }
+
+    /**
+     * reads and validates the header
+     *
+     * @param p_path file
+     * @return flags, number of vertices and edges
+     * @throws IOException on read error or wrong file format
+     */
+    @Nonnull
+    private static int[] header( @Nonnull final Path p_path ) throws IOException
+    {
+        try ( FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.READ ) )
+        {
+            final ByteBuffer l_buffer = ByteBuffer.allocate( HEADER );
+            while ( l_buffer.hasRemaining() )
+                if ( l_channel.read( l_buffer ) < 0 )
+                    throw new IOException( "wrong mapped graph format" );
+
+            l_buffer.flip();
+            if ( l_buffer.getInt() != MAGIC || l_buffer.getInt() != VERSION )
+                throw new IOException( "wrong mapped graph format" );
+
+            final int[] l_header = new int[]{l_buffer.getInt(), l_buffer.getInt(), l_buffer.getInt()};
+            if ( l_header[1] < 0 || l_header[2] < 0 )
+                throw new IOException( "wrong mapped graph format" );
+
+            return l_header;
+        }
+    }
+
+    /**
+     * replaces integral numbers of terms by integer values, so the
+     * numbers of an agent, which are doubles, are equal to the
+     * vertices and edges of a mapped graph
+     *
+     * @param p_graph graph
+     * @param p_terms terms
+     * @return terms, which are unchanged if the graph is not a mapped graph
+     */
+    @Nonnull
+    static List<ITerm> terms( @Nonnull final Graph<?, ?> p_graph, @Nonnull final List<ITerm> p_terms )
+    {
+        return p_graph instanceof CMappedGraph
+               ? p_terms.stream()
+                        .map( i -> i.raw() instanceof Number && !( i.raw() instanceof Integer ) ? CRawTerm.of( CMappedGraph.integer( i.raw() ) ) : i )
+                        .collect( Collectors.toList() )
+               : p_terms;
+    }
+
+    /**
+     * replaces integral numbers by integer values
+     *
+     * @param p_graph graph
+     * @param p_values vertices or edges
+     * @return values, which are unchanged if the graph is not a mapped graph
+     */
+    @Nonnull
+    static List<Object> values( @Nonnull final Graph<?, ?> p_graph, @Nonnull final List<Object> p_values )
+    {
+        return p_graph instanceof CMappedGraph ? p_values.stream().map( CMappedGraph::integer ).collect( Collectors.toList() ) : p_values;
+    }
+
+    /**
+     * returns the index of a vertex or edge, any integral number is accepted
+     *
+     * @param p_value vertex or edge
+     * @param p_size number of elements
+     * @return index or -1 if the value does not exist
+     */
+    static int index( final Object p_value, @Nonnegative final int p_size )
+    {
+        final Object l_value = CMappedGraph.integer( p_value );
+        return l_value instanceof Integer && (Integer) l_value >= 0 && (Integer) l_value < p_size ? (Integer) l_value : -1;
+    }
+
+    /**
+     * converts an integral number into an integer
+     *
+     * @param p_value value
+     * @return integer or the unchanged value if it is not an integral number within the integer range
+     */
+    private static Object integer( final Object p_value )
+    {
+        if ( !( p_value instanceof Number ) || p_value instanceof Integer )
+            return p_value;
+
+        final Number l_value = (Number) p_value;
+        return l_value.doubleValue() == l_value.longValue() && l_value.longValue() >= Integer.MIN_VALUE && l_value.longValue() <= Integer.MAX_VALUE
+               ? (Object) l_value.intValue()
+               : p_value;
+    }
+
+    /**
+     * returns the degree of a vertex
+     *
+     * @param p_index vertex index
+     * @param p_offset row offsets
+     * @return degree
+     */
+    private static int degree( final int p_index, @Nonnull final CSegments p_offset )
+    {
+        return (int) ( p_offset.longinteger( p_index + 1 ) - p_offset.longinteger( p_index ) );
+    }
+
+    /**
+     * maps the sections of the file, the mappings
+     * are valid after closing the channel
+     *
+     * @throws IOException on read error
+     */
+    private void map() throws IOException
+    {
+        try ( FileChannel l_channel = FileChannel.open( Paths.get( m_file ), StandardOpenOption.READ ) )
+        {
+            long l_position = HEADER;
+            m_source = new CSegments( l_channel, l_position, (long) m_edgecount * Integer.BYTES );
+            l_position += (long) m_edgecount * Integer.BYTES;
+            m_target = new CSegments( l_channel, l_position, (long) m_edgecount * Integer.BYTES );
+            l_position += (long) m_edgecount * Integer.BYTES;
+
+            m_outoffset = new CSegments( l_channel, l_position, ( m_vertexcount + 1L ) * Long.BYTES );
+            l_position += ( m_vertexcount + 1L ) * Long.BYTES;
+            final long l_outlength = m_outoffset.longinteger( m_vertexcount ) * Integer.BYTES;
+            m_outedges = new CSegments( l_channel, l_position, l_outlength );
+            l_position += l_outlength;
+
+            if ( !this.directed() )
+                return;
+
+            m_inoffset = new CSegments( l_channel, l_position, ( m_vertexcount + 1L ) * Long.BYTES );
+            l_position += ( m_vertexcount + 1L ) * Long.BYTES;
+            m_inedges = new CSegments( l_channel, l_position, (long) m_edgecount * Integer.BYTES );
+        }
+    }
+
+    /**
+     * flag of directed edges
+     *
+     * @return directed flag
+     */
+    private boolean directed()
+    {
+        return EdgeType.DIRECTED.equals( this.edge_type );
+    }
+
+    /**
+     * returns the index of a vertex
+     *
+     * @param p_vertex vertex
+     * @return index
+     * @throws IllegalArgumentException if the vertex does not exist
+     */
+    private int vertex( final Object p_vertex )
+    {
+        final int l_index = CMappedGraph.index( p_vertex, m_vertexcount );
+        if ( l_index < 0 )
+            throw new IllegalArgumentException( "vertex [" + p_vertex + "] does not exist" );
+
+        return l_index;
+    }
+
+    /**
+     * returns the index of an edge
+     *
+     * @param p_edge edge
+     * @return index
+     * @throws IllegalArgumentException if the edge does not exist
+     */
+    private int edge( final Object p_edge )
+    {
+        final int l_index = CMappedGraph.index( p_edge, m_edgecount );
+        if ( l_index < 0 )
+            throw new IllegalArgumentException( "edge [" + p_edge + "] does not exist" );
+
+        return l_index;
+    }
+
+    /**
+     * adds the opposite vertices of a row
+     *
+     * @param p_index vertex index
+     * @param p_offset row offsets
+     * @param p_edges edge indices
+     * @param p_result result set
+     */
+    private void opposite( final int p_index, @Nonnull final CSegments p_offset, @Nonnull final CSegments p_edges, @Nonnull final Set<Object> p_result )
+    {
+        for ( long i = p_offset.longinteger( p_index ); i < p_offset.longinteger( p_index + 1 ); i++ )
+        {
+            final int l_edge = p_edges.integer( i );
+            p_result.add( m_source.integer( l_edge ) == p_index ? m_target.integer( l_edge ) : m_source.integer( l_edge ) );
+        }
+    }
+
+    /**
+     * deserialization with remapping the file
+     *
+     * @param p_stream object stream
+     * @throws IOException on stream or read error
+     * @throws ClassNotFoundException on class error
+     */
+    private void readObject( final ObjectInputStream p_stream ) throws IOException, ClassNotFoundException
+    {
+        p_stream.defaultReadObject();
+        this.map();
+    }
+
+
+    /**
+     * read-only mapping of a file section, which
+     * is split into segments of at most 1 GB
+     */
+    private static final class CSegments
+    {
+        /**
+         * segments
+         */
+        private final ByteBuffer[] m_segments;
+
+        /**
+         * ctor
+         *
+         * @param p_channel channel
+         * @param p_position start position of the section
+         * @param p_size size of the section in bytes
+         * @throws IOException on mapping error
+         */
+        CSegments( @Nonnull final FileChannel p_channel, final long p_position, final long p_size ) throws IOException
+        {
+            if ( p_position + p_size > p_channel.size() )
+                throw new IOException( "wrong mapped graph format" );
+
+            m_segments = new ByteBuffer[(int) ( ( p_size + SEGMENT - 1 ) / SEGMENT )];
+            for ( int i = 0; i < m_segments.length; i++ )
+                m_segments[i] = p_channel.map(
+                    FileChannel.MapMode.READ_ONLY, p_position + (long) i * SEGMENT, Math.min( SEGMENT, p_size - (long) i * SEGMENT ) );
+        }
+
+        /**
+         * returns an integer value, the absolute
+         * access does not change the buffer position
+         *
+         * @param p_index element index
+         * @return value
+         */
+        int integer( final long p_index )
+        {
+            final long l_position = p_index * Integer.BYTES;
+            return m_segments[(int) ( l_position / SEGMENT )].getInt( (int) ( l_position % SEGMENT ) );
+        }
+
+        /**
+         * returns a long value
+         *
+         * @param p_index element index
+         * @return value
+         */
+        long longinteger( final long p_index )
+        {
+            final long l_position = p_index * Long.BYTES;
+            return m_segments[(int) ( l_position / SEGMENT )].getLong( (int) ( l_position % SEGMENT ) );
+        }
+    }
+
+
+    /**
+     * list of the indices zero to size minus one
+     */
+    private static final class CIndexList extends AbstractList<Object>
+    {
+        /**
+         * size
+         */
+        private final int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_size size
+         */
+        CIndexList( @Nonnegative final int p_size )
+        {
+            m_size = p_size;
+        }
+
+        @Override
+        public Object get( final int p_index )
+        {
+            return Objects.checkIndex( p_index, m_size );
+        }
+
+        @Override
+        public int size()
+        {
+            return m_size;
+        }
+
+        @Override
+        public boolean contains( final Object p_value )
+        {
+            return CMappedGraph.index( p_value, m_size ) >= 0;
+        }
+    }
+
+
+    /**
+     * list view of the edge indices of a row
+     */
+    private static final class CRowList extends AbstractList<Object>
+    {
+        /**
+         * edge indices
+         */
+        private final CSegments m_edges;
+        /**
+         * start position
+         */
+        private final long m_start;
+        /**
+         * size
+         */
+        private final int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_index vertex index
+         * @param p_offset row offsets
+         * @param p_edges edge indices
+         */
+        CRowList( final int p_index, @Nonnull final CSegments p_offset, @Nonnull final CSegments p_edges )
+        {
+            m_edges = p_edges;
+            m_start = p_offset.longinteger( p_index );
+            m_size = (int) ( p_offset.longinteger( p_index + 1 ) - m_start );
+        }
+
+        @Override
+        public Object get( final int p_index )
+        {
+            return m_edges.integer( m_start + Objects.checkIndex( p_index, m_size ) );
+        }
+
+        @Override
+        public int size()
+        {
+            return m_size;
+        }
+    }
+
+}
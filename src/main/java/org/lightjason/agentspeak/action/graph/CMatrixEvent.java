@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * flight recorder event of an adjacency matrix creation.
+ * The event stores the matrix type, the dimensions and
+ * the number of edges, the duration of the event is the
+ * execution time
+ */
+@Name( "org.lightjason.agentspeak.action.graph.AdjacencyMatrix" )
+@Label( "Graph Adjacency Matrix" )
+@Category( {"LightJason", "Graph"} )
+@Description( "adjacency matrix of a graph" )
+@StackTrace( false )
+final class CMatrixEvent extends jdk.jfr.Event
+{
+    /**
+     * matrix type
+     */
+    @Name( "type" )
+    @Label( "Matrix Type" )
+    private String m_type;
+    /**
+     * number of rows
+     */
+    @Name( "rows" )
+    @Label( "Rows" )
+    private int m_rows;
+    /**
+     * number of columns
+     */
+    @Name( "columns" )
+    @Label( "Columns" )
+    private int m_columns;
+    /**
+     * number of edges
+     */
+    @Name( "edges" )
+    @Label( "Edges" )
+    private int m_edges;
+    /**
+     * parallel flag
+     */
+    @Name( "parallel" )
+    @Label( "Parallel" )
+    private boolean m_parallel;
+
+    /**
+     * ends and commits the event, if it is enabled
+     *
+     * @param p_type matrix type
+     * @param p_matrix matrix
+     * @param p_edges number of edges
+     * @param p_parallel parallel flag
+     */
+    void finish( @Nonnull final EBlasType p_type, @Nonnull final DoubleMatrix2D p_matrix, @Nonnegative final int p_edges, final boolean p_parallel )
+    {
+        if ( !this.shouldCommit() )
+            return;
+
+        m_type = p_type.name();
+        m_rows = p_matrix.rows();
+        m_columns = p_matrix.columns();
+        m_edges = p_edges;
+        m_parallel = p_parallel;
+        this.commit();
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * returns the call metrics of instrumented graph actions.
+ * Actions are measured only if they are instrumented with
+ * {@link CMetrics#instrument(Stream)}, so the instrumentation is
+ * optional and does not change the actions, each call records
+ * the execution time, the number of returned elements (collections,
+ * maps and matrices are counted with their size) and failures,
+ * registered reporters get each call. Without arguments the action
+ * returns a map with the metrics of all actions by action name,
+ * string arguments are action names and the metrics of each action
+ * are returned as map (calls, failures, results, mean, max, p50, p90,
+ * p99 and histogram, times in nanoseconds, empty for unknown actions),
+ * other arguments are ignored, with the string "reset" the metrics
+ * are cleared after reading
+ *
+ * {@code
+ * M = .graph/metrics();
+ * [S|P] = .graph/metrics( "graph/shortestpath", "graph/pagerank" );
+ * .graph/metrics( "reset" );
+ * }
+ */
+public final class CMetrics extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4311853209764182390L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CMetrics.class, "graph" );
+    /**
+     * reset flag
+     */
+    private static final String RESET = "reset";
+    /**
+     * metrics by action name
+     */
+    private static final Map<String, CActionMetric> METRICS = new ConcurrentHashMap<>();
+    /**
+     * registered reporters
+     */
+    private static final List<IMetricReporter> REPORTERS = new CopyOnWriteArrayList<>();
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 0;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<String> l_names = CCommon.flatten( p_argument )
+                                             .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                             .map( ITerm::<String>raw )
+                                             .collect( Collectors.toList() );
+        final boolean l_reset = l_names.removeIf( RESET::equalsIgnoreCase );
+
+        if ( l_names.isEmpty() && !l_reset )
+            p_return.add( CRawTerm.of(
+                Collections.unmodifiableMap( METRICS.entrySet().stream().collect(
+                    Collectors.toMap( Map.Entry::getKey, i -> i.getValue().map(), ( i, j ) -> i, TreeMap::new ) )
+                )
+            ) );
+
+        l_names.stream()
+               .map( i -> METRICS.containsKey( i ) ? METRICS.get( i ).map() : Collections.emptyMap() )
+               .map( CRawTerm::of )
+               .forEach( p_return::add );
+
+        if ( l_reset )
+            CMetrics.reset();
+
+        return Stream.empty();
+    }
+
+    /**
+     * instruments an action
+     *
+     * @param p_action action
+     * @return instrumented action
+     */
+    @Nonnull
+    public static IBaseAction instrument( @Nonnull final IBaseAction p_action )
+    {
+        return p_action instanceof CInstrumentedAction ? p_action : new CInstrumentedAction( p_action );
+    }
+
+    /**
+     * instruments actions
+     *
+     * {@code CMetrics.instrument( CCommon.actionsFromPackage( "org.lightjason.agentspeak.action.graph" ) )}
+     *
+     * @param p_actions actions
+     * @return instrumented actions
+     */
+    @Nonnull
+    public static Stream<IBaseAction> instrument( @Nonnull final Stream<? extends IBaseAction> p_actions )
+    {
+        return p_actions.map( CMetrics::instrument );
+    }
+
+    /**
+     * registers a reporter
+     *
+     * @param p_reporter reporter
+     */
+    public static void register( @Nonnull final IMetricReporter p_reporter )
+    {
+        REPORTERS.add( p_reporter );
+    }
+
+    /**
+     * unregisters a reporter
+     *
+     * @param p_reporter reporter
+     * @return flag that the reporter has been registered
+     */
+    public static boolean unregister( @Nonnull final IMetricReporter p_reporter )
+    {
+        return REPORTERS.remove( p_reporter );
+    }
+
+    /**
+     * returns the metric of an action
+     *
+     * @param p_action action name
+     * @return metric or null if the action has not been called
+     */
+    public static CActionMetric metric( @Nonnull final String p_action )
+    {
+        return METRICS.get( p_action );
+    }
+
+    /**
+     * clears all metrics
+     */
+    public static void reset()
+    {
+        METRICS.clear();
+    }
+
+    /**
+     * records an action call
+     *
+     * @param p_action action name
+     * @param p_nanoseconds execution time in nanoseconds
+     * @param p_results number of returned elements
+     * @param p_failed failed flag
+     */
+    static void record( @Nonnull final IPath p_action, @Nonnegative final long p_nanoseconds, @Nonnegative final long p_results, final boolean p_failed )
+    {
+        METRICS.computeIfAbsent( p_action.toString(), i -> new CActionMetric() ).record( p_nanoseconds, p_results, p_failed );
+        REPORTERS.forEach( i ->
+        {
+            // the record is called after the action execution, so a failing reporter must not change the action result
+            try
+            {
+                i.report( p_action, p_nanoseconds, p_results, p_failed );
+            }
+            catch ( final RuntimeException l_exception )
+            {
+                // ignore reporter failures
+            }
+        } );
+    }
+
+}
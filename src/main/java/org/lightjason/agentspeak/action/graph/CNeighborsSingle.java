@@ -25,12 +25,10 @@ package org.lightjason.agentspeak.action.graph;
 
 import edu.uci.ics.jung.graph.Graph;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -38,11 +36,13 @@ import java.util.List;
  * returns the neighbors of a vertex of each graph instance.
  * The actions returns a list of neighbors of a vertex for
  * each graph argument, the first argument is the vertex,
- * all other graphs
+ * all other graphs.
+ * With the string "view" as first argument the list is an
+ * immutable snapshot
  *
  * {@code [N1|N2] = .graph/neighborssingle( Vertex, Graph1, Graph2 );}
  */
-public final class CNeighborsSingle extends IApplySingle
+public final class CNeighborsSingle extends IApplyListSingle
 {
     /**
      * serial id
@@ -67,19 +67,9 @@ public final class CNeighborsSingle extends IApplySingle
     }
 
     @Override
-    protected void apply( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph,
-                          @Nonnull final List<ITerm> p_window, @Nonnull final List<ITerm> p_return
-    )
+    protected Collection<?> collection( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final List<ITerm> p_window )
     {
-        final List<?> l_return = new ArrayList<>( p_graph.getNeighbors( p_window.get( 0 ).raw() ) );
-
-        p_return.add(
-            CRawTerm.of(
-                p_parallel
-                ? Collections.synchronizedList( l_return )
-                : l_return
-            )
-        );
+        return p_graph.getNeighbors( p_window.get( 0 ).raw() );
     }
 
 }
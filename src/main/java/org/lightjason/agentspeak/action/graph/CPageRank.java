@@ -0,0 +1,240 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+import com.google.common.base.Function;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+
+/**
+ * calculates the PageRank of all vertices within each graph instance.
+ * The ordering of the arguments can be arbitrary, for any graph instance
+ * a map with the vertex as key and the score as value is returned, the
+ * first map instance will be used as weight-map, a tuple of the string
+ * "defaultweight" and a numeric value defines the default weight value
+ * of the weight-map (the default value is one, so without a weight-map
+ * all edges are weighted equally), the tuples "damping" (default 0.85), "tolerance"
+ * (L1 norm, default 1.0E-6) and "iterations" (default 100) define the
+ * power iteration. Undirected edges are used in both directions, vertices
+ * without outgoing weight distribute their score to all vertices. The
+ * iteration runs on a compressed sparse row matrix of the normalized
+ * weights, on parallel execution the rows are calculated concurrently
+ *
+ * {@code
+ * [P1|P2] = .graph/pagerank( Graph1, Graph2 );
+ * [P3|P4] = .graph/pagerank( "damping", 0.9, "tolerance", 1.0E-8, WeightMap, Graph1, Graph2 );
+ * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/PageRank"></a>
+ */
+public final class CPageRank extends IApplyPathAlgorithm
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1186409470357766958L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CPageRank.class, "graph" );
+    /**
+     * damping parameter
+     */
+    private static final String DAMPING = "damping";
+    /**
+     * tolerance parameter
+     */
+    private static final String TOLERANCE = "tolerance";
+    /**
+     * iterations parameter
+     */
+    private static final String ITERATIONS = "iterations";
+    /**
+     * parameter names and types
+     */
+    private static final Map<String, Class<?>> PARAMETERS = Map.of( DAMPING, Number.class, TOLERANCE, Number.class, ITERATIONS, Number.class );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    protected int minimalvertices()
+    {
+        return 0;
+    }
+
+    @Nonnull
+    @Override
+    protected Number defaultweight()
+    {
+        return 1D;
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, Class<?>> parameters()
+    {
+        return PARAMETERS;
+    }
+
+    @Override
+    protected Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                            @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
+    )
+    {
+        final CGraphIndex.CEdges l_edges = CGraphIndex.of( p_graph ).edges( p_parallel, p_graph );
+        final List<Object> l_vertices = l_edges.m_vertices;
+        final double[] l_rank = CPageRank.pagerank(
+            p_parallel, p_graph, l_edges, p_weightfunction,
+            p_parameter.containsKey( DAMPING ) ? p_parameter.get( DAMPING ).<Number>raw().doubleValue() : 0.85,
+            p_parameter.containsKey( TOLERANCE ) ? p_parameter.get( TOLERANCE ).<Number>raw().doubleValue() : 1.0E-6,
+            p_parameter.containsKey( ITERATIONS ) ? p_parameter.get( ITERATIONS ).<Number>raw().intValue() : 100
+        );
+
+        final Map<Object, Double> l_result = new HashMap<>( 2 * l_vertices.size() );
+        IntStream.range( 0, l_rank.length ).forEach( i -> l_result.put( l_vertices.get( i ), l_rank[i] ) );
+        return l_result;
+    }
+
+    /**
+     * runs the power iteration
+     *
+     * @param p_parallel parallel execution
+     * @param p_graph graph
+     * @param p_edges edges of the vertex index
+     * @param p_weightfunction weight function
+     * @param p_damping damping factor
+     * @param p_tolerance tolerance of the L1 norm
+     * @param p_iterations maximum number of iterations
+     * @return scores ordered by the vertex index
+     */
+    @Nonnull
+    private static double[] pagerank( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph, @Nonnull final CGraphIndex.CEdges p_edges,
+                                      @Nonnull final Function<Object, Number> p_weightfunction, final double p_damping,
+                                      final double p_tolerance, final int p_iterations
+    )
+    {
+        final int l_size = p_edges.m_vertices.size();
+        if ( l_size == 0 )
+            return new double[0];
+
+        // arcs with source, target and weight, undirected edges are used in both directions
+        final int[] l_source = new int[2 * p_edges.m_edges.length];
+        final int[] l_target = new int[l_source.length];
+        final double[] l_weight = new double[l_source.length];
+        final double[] l_outweight = new double[l_size];
+        int l_arcs = 0;
+        for ( int i = 0; i < p_edges.m_edges.length; i++ )
+        {
+            final double l_value = p_weightfunction.apply( p_edges.m_edges[i] ).doubleValue();
+            if ( l_value <= 0 )
+                continue;
+
+            l_source[l_arcs] = p_edges.m_source[i];
+            l_target[l_arcs] = p_edges.m_target[i];
+            l_weight[l_arcs] = l_value;
+            l_outweight[l_source[l_arcs]] += l_value;
+            l_arcs++;
+
+            if ( EdgeType.UNDIRECTED.equals( p_graph.getEdgeType( p_edges.m_edges[i] ) ) && l_source[l_arcs - 1] != l_target[l_arcs - 1] )
+            {
+                l_source[l_arcs] = l_target[l_arcs - 1];
+                l_target[l_arcs] = l_source[l_arcs - 1];
+                l_weight[l_arcs] = l_value;
+                l_outweight[l_source[l_arcs]] += l_value;
+                l_arcs++;
+            }
+        }
+
+        // transition matrix with the target as row, so each row pulls the scores of its sources
+        IntStream.range( 0, l_arcs ).forEach( i -> l_weight[i] /= l_outweight[l_source[i]] );
+        final SparseRCDoubleMatrix2D l_matrix = new SparseRCDoubleMatrix2D(
+            l_size, l_size, Arrays.copyOf( l_target, l_arcs ), Arrays.copyOf( l_source, l_arcs ), Arrays.copyOf( l_weight, l_arcs ), true, true, true
+        );
+        final int[] l_rowpointer = l_matrix.getRowPointers();
+        final int[] l_column = l_matrix.getColumnIndexes();
+        final double[] l_value = l_matrix.getValues();
+
+        double[] l_rank = new double[l_size];
+        double[] l_next = new double[l_size];
+        Arrays.fill( l_rank, 1.0 / l_size );
+
+        for ( int i = 0; i < p_iterations; i++ )
+        {
+            final double[] l_current = l_rank;
+            final double[] l_update = l_next;
+            final double l_dangling = CPageRank.range( p_parallel, l_size ).filter( j -> l_outweight[j] == 0 ).mapToDouble( j -> l_current[j] ).sum();
+            final double l_base = ( 1 - p_damping + p_damping * l_dangling ) / l_size;
+
+            final double l_difference = CPageRank.range( p_parallel, l_size ).mapToDouble( j ->
+            {
+                double l_sum = 0;
+                for ( int n = l_rowpointer[j]; n < l_rowpointer[j + 1]; n++ )
+                    l_sum += l_value[n] * l_current[l_column[n]];
+
+                l_update[j] = l_base + p_damping * l_sum;
+                return Math.abs( l_update[j] - l_current[j] );
+            } ).sum();
+
+            l_rank = l_update;
+            l_next = l_current;
+            if ( l_difference < p_tolerance )
+                break;
+        }
+
+        return l_rank;
+    }
+
+    /**
+     * creates an index stream
+     *
+     * @param p_parallel parallel stream
+     * @param p_size size
+     * @return stream
+     */
+    @Nonnull
+    private static IntStream range( final boolean p_parallel, final int p_size )
+    {
+        final IntStream l_stream = IntStream.range( 0, p_size );
+        return p_parallel ? l_stream.parallel() : l_stream;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.lightjason.agentspeak.common.IPath;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * flight recorder event of a path search.
+ * The event is created by the shortest and distance path
+ * actions and stores the graph size and the number of
+ * vertices, which are settled by the search, the cached
+ * single-source search counts only the vertices, which are
+ * settled additionally by the call, the duration
+ * of the event is the execution time
+ *
+ * @see <a href="https://docs.oracle.com/en/java/javase/14/docs/api/jdk.jfr/jdk/jfr/Event.html"></a>
+ */
+@Name( "org.lightjason.agentspeak.action.graph.Path" )
+@Label( "Graph Path Search" )
+@Category( {"LightJason", "Graph"} )
+@Description( "shortest path search within a graph" )
+@StackTrace( false )
+final class CPathEvent extends jdk.jfr.Event
+{
+    /**
+     * action name
+     */
+    @Name( "action" )
+    @Label( "Action" )
+    private String m_action;
+    /**
+     * number of vertices
+     */
+    @Name( "vertices" )
+    @Label( "Vertices" )
+    private int m_vertices;
+    /**
+     * number of edges
+     */
+    @Name( "edges" )
+    @Label( "Edges" )
+    private int m_edges;
+    /**
+     * number of settled vertices
+     */
+    @Name( "settled" )
+    @Label( "Settled Vertices" )
+    @Description( "vertices settled by the search, the cached single-source search counts the additionally settled vertices" )
+    private int m_settled;
+    /**
+     * bidirectional flag
+     */
+    @Name( "bidirectional" )
+    @Label( "Bidirectional" )
+    private boolean m_bidirectional;
+
+    /**
+     * ends and commits the event, if it is enabled
+     *
+     * @param p_action action name
+     * @param p_graph graph
+     * @param p_settled number of settled vertices
+     * @param p_bidirectional bidirectional flag
+     */
+    void finish( @Nonnull final IPath p_action, @Nonnull final Graph<?, ?> p_graph, @Nonnegative final int p_settled, final boolean p_bidirectional )
+    {
+        if ( !this.shouldCommit() )
+            return;
+
+        m_action = p_action.toString();
+        m_vertices = p_graph.getVertexCount();
+        m_edges = p_graph.getEdgeCount();
+        m_settled = p_settled;
+        m_bidirectional = p_bidirectional;
+        this.commit();
+    }
+
+}
@@ -57,6 +57,12 @@ public final class CRemoveEdgeMultiple extends IApplyMultiple
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int windowsize()
     {
@@ -69,6 +75,7 @@ public final class CRemoveEdgeMultiple extends IApplyMultiple
     )
     {
         p_graph.removeEdge( p_window.get( 0 ).raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 
 }
@@ -56,6 +56,12 @@ public final class CRemoveEdgeSingle extends IApplySingle
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int skipsize()
     {
@@ -68,5 +74,6 @@ public final class CRemoveEdgeSingle extends IApplySingle
     )
     {
         p_graph.removeEdge( p_window.get( 0 ).raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 }
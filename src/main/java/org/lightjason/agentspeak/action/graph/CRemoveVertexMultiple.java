@@ -55,6 +55,12 @@ public final class CRemoveVertexMultiple extends IApplyMultiple
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int windowsize()
     {
@@ -67,6 +73,8 @@ public final class CRemoveVertexMultiple extends IApplyMultiple
     )
     {
         p_graph.removeVertex( p_window.get( 0 ).raw() );
+        CGraphIndex.removed( p_graph, p_window.get( 0 ).raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 
 }
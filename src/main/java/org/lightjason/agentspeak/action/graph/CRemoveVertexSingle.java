@@ -56,6 +56,12 @@ public final class CRemoveVertexSingle extends IApplySingle
         return NAME;
     }
 
+    @Override
+    protected boolean modifying()
+    {
+        return true;
+    }
+
     @Override
     protected int skipsize()
     {
@@ -68,5 +74,7 @@ public final class CRemoveVertexSingle extends IApplySingle
     )
     {
         p_graph.removeVertex( p_window.get( 0 ).raw() );
+        CGraphIndex.removed( p_graph, p_window.get( 0 ).raw() );
+        IApplyPathAlgorithm.invalidate( p_graph );
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the strongly connected components of each graph instance.
+ * The action returns for each graph argument a map with the vertex as
+ * key and the component id as value and a list with the size of each
+ * component, the component id is the position within the list.
+ * Undirected edges are used in both directions, the components are
+ * calculated by an iterative Tarjan algorithm with an explicit stack,
+ * so the depth of the graph is not limited by the thread stack, the
+ * ids are in reverse topological order of the condensed graph, so
+ * a component can only reach components with a smaller id
+ *
+ * {@code [C1|S1|C2|S2] = .graph/scc( Graph1, Graph2 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm"></a>
+ */
+public final class CSCC extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6950113851206474317L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSCC.class, "graph" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        CCommon.flatten( p_argument )
+               .map( ITerm::<Graph<Object, Object>>raw )
+               .forEach( i -> CSCC.components( i, p_return ) );
+
+        return Stream.empty();
+    }
+
+    /**
+     * calculates the strongly connected components of a graph
+     *
+     * @param p_graph graph
+     * @param p_return return arguments
+     */
+    private static void components( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final List<ITerm> p_return )
+    {
+        final CGraphIndex.CEdges l_edges = CGraphIndex.of( p_graph ).edges( false, p_graph );
+        final List<Object> l_vertices = l_edges.m_vertices;
+        final int l_size = l_vertices.size();
+
+        // outgoing arcs as compressed arrays
+        final int[] l_offset = new int[l_size + 1];
+        final int[] l_source = new int[2 * l_edges.m_edges.length];
+        final int[] l_target = new int[l_source.length];
+        int l_count = 0;
+        for ( int i = 0; i < l_edges.m_edges.length; i++ )
+        {
+            l_source[l_count] = l_edges.m_source[i];
+            l_target[l_count++] = l_edges.m_target[i];
+
+            if ( EdgeType.UNDIRECTED.equals( p_graph.getEdgeType( l_edges.m_edges[i] ) ) )
+            {
+                l_source[l_count] = l_target[l_count - 1];
+                l_target[l_count] = l_source[l_count - 1];
+                l_count++;
+            }
+        }
+
+        for ( int i = 0; i < l_count; i++ )
+            l_offset[l_source[i] + 1]++;
+        for ( int i = 1; i < l_offset.length; i++ )
+            l_offset[i] += l_offset[i - 1];
+
+        final int[] l_adjacent = new int[l_count];
+        final int[] l_position = Arrays.copyOf( l_offset, l_size );
+        for ( int i = 0; i < l_count; i++ )
+            l_adjacent[l_position[l_source[i]]++] = l_target[i];
+
+        final int[] l_component = CSCC.tarjan( l_offset, l_adjacent );
+        final List<Integer> l_componentsize = new ArrayList<>();
+        final Map<Object, Integer> l_result = new HashMap<>( 2 * l_size );
+        for ( int i = 0; i < l_size; i++ )
+        {
+            while ( l_componentsize.size() <= l_component[i] )
+                l_componentsize.add( 0 );
+            l_componentsize.set( l_component[i], l_componentsize.get( l_component[i] ) + 1 );
+            l_result.put( l_vertices.get( i ), l_component[i] );
+        }
+
+        p_return.add( CRawTerm.of( l_result ) );
+        p_return.add( CRawTerm.of( Collections.unmodifiableList( l_componentsize ) ) );
+    }
+
+    /**
+     * iterative Tarjan algorithm
+     *
+     * @param p_offset arc offsets
+     * @param p_adjacent arc targets
+     * @return component id of each vertex
+     */
+    @Nonnull
+    private static int[] tarjan( @Nonnull final int[] p_offset, @Nonnull final int[] p_adjacent )
+    {
+        final int l_size = p_offset.length - 1;
+        final int[] l_component = new int[l_size];
+        final int[] l_order = new int[l_size];
+        final int[] l_low = new int[l_size];
+        final boolean[] l_onstack = new boolean[l_size];
+        final int[] l_stack = new int[l_size];
+        final int[] l_callvertex = new int[l_size];
+        final int[] l_callarc = new int[l_size];
+        Arrays.fill( l_order, -1 );
+
+        int l_counter = 0;
+        int l_components = 0;
+        int l_stacksize = 0;
+
+        for ( int i = 0; i < l_size; i++ )
+        {
+            if ( l_order[i] >= 0 )
+                continue;
+
+            // the call stack stores the vertex and the position of its next arc
+            int l_depth = 0;
+            l_order[i] = l_counter;
+            l_low[i] = l_counter++;
+            l_stack[l_stacksize++] = i;
+            l_onstack[i] = true;
+            l_callvertex[l_depth] = i;
+            l_callarc[l_depth++] = p_offset[i];
+
+            while ( l_depth > 0 )
+            {
+                final int l_vertex = l_callvertex[l_depth - 1];
+                if ( l_callarc[l_depth - 1] < p_offset[l_vertex + 1] )
+                {
+                    final int l_next = p_adjacent[l_callarc[l_depth - 1]++];
+                    if ( l_order[l_next] < 0 )
+                    {
+                        l_order[l_next] = l_counter;
+                        l_low[l_next] = l_counter++;
+                        l_stack[l_stacksize++] = l_next;
+                        l_onstack[l_next] = true;
+                        l_callvertex[l_depth] = l_next;
+                        l_callarc[l_depth++] = p_offset[l_next];
+                    }
+                    else if ( l_onstack[l_next] )
+                        l_low[l_vertex] = Math.min( l_low[l_vertex], l_order[l_next] );
+
+                    continue;
+                }
+
+                // all arcs are visited, so the vertex returns to its caller
+                l_depth--;
+                if ( l_low[l_vertex] == l_order[l_vertex] )
+                {
+                    int l_member;
+                    do
+                    {
+                        l_member = l_stack[--l_stacksize];
+                        l_onstack[l_member] = false;
+                        l_component[l_member] = l_components;
+                    } while ( l_member != l_vertex );
+                    l_components++;
+                }
+
+                if ( l_depth > 0 )
+                    l_low[l_callvertex[l_depth - 1]] = Math.min( l_low[l_callvertex[l_depth - 1]], l_low[l_vertex] );
+            }
+        }
+
+        return l_component;
+    }
+}
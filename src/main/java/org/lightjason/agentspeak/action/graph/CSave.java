@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * saves graphs in a compact binary format.
+ * The file name arguments are assigned to the graph arguments
+ * by their ordering, the first map instance will be used as
+ * weight-map and is stored as weight column, the first numeric
+ * value defines the default weight of the weight-map (the default
+ * value is zero). The file contains the vertex dictionary, the
+ * delta-encoded adjacency with variable-length integers, the edge
+ * identifiers and the optional weight column, vertices and edges
+ * can be integer, long, double or string values. With the string
+ * "mapped" the graphs are stored in the fixed-width layout of the
+ * memory-mapped graph, which can be opened with the create action,
+ * this layout stores the vertex and edge indices only and has got
+ * no weight column, the vertices and edges are written into the
+ * dictionary file "<file>.dictionary", which is read by the dictionary action
+ *
+ * {@code
+ * .graph/save( "graph1.bin", Graph1, "graph2.bin", Graph2 );
+ * .graph/save( "graph.bin", Graph, WeightMap, 1 );
+ * .graph/save( "mapped", "graph.adj", Graph );
+ * }
+ */
+public final class CSave extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5541409284711306235L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSave.class, "graph" );
+    /**
+     * mapped flag
+     */
+    private static final String MAPPED = "mapped";
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<String> l_files = l_arguments.stream()
+                                                .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                                .map( ITerm::<String>raw )
+                                                .collect( Collectors.toList() );
+        final boolean l_mapped = l_files.removeIf( MAPPED::equalsIgnoreCase );
+        final List<Graph<Object, Object>> l_graphs = l_arguments.stream()
+                                                                .filter( i -> CCommon.isssignableto( i, Graph.class ) )
+                                                                .map( ITerm::<Graph<Object, Object>>raw )
+                                                                .collect( Collectors.toList() );
+        if ( l_files.size() != l_graphs.size() )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongfilenumber", l_files.size(), l_graphs.size() ) );
+
+        final double l_defaultweight = l_arguments.stream()
+                                                  .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                                  .findFirst()
+                                                  .map( ITerm::<Number>raw )
+                                                  .map( Number::doubleValue )
+                                                  .orElse( 0D );
+
+        final ToDoubleFunction<Object> l_weight = l_arguments.stream()
+                                                             .filter( i -> CCommon.isssignableto( i, Map.class ) )
+                                                             .findFirst()
+                                                             .map( ITerm::<Map<?, Number>>raw )
+                                                             .map( i -> (ToDoubleFunction<Object>) e -> i.getOrDefault( e, l_defaultweight ).doubleValue() )
+                                                             .orElse( null );
+
+        IntStream.range( 0, l_files.size() ).forEach( i ->
+        {
+            try
+            {
+                if ( l_mapped )
+                    CGraphFormat.writemapped( Paths.get( l_files.get( i ) ), l_graphs.get( i ) );
+                else
+                    CGraphFormat.write( Paths.get( l_files.get( i ) ), l_graphs.get( i ), l_weight );
+            }
+            catch ( final IOException l_exception )
+            {
+                throw new CExecutionIllegalStateException(
+                    p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "writeerror", l_files.get( i ), l_exception.getMessage() ) );
+            }
+        } );
+
+        return Stream.empty();
+    }
+}
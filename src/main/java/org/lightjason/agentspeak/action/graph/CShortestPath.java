@@ -24,13 +24,15 @@
 package org.lightjason.agentspeak.action.graph;
 
 import com.google.common.base.Function;
-import edu.uci.ics.jung.algorithms.shortestpath.DijkstraShortestPath;
 import edu.uci.ics.jung.graph.Graph;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -67,12 +69,24 @@ public final class CShortestPath extends IApplyPathAlgorithm
     }
 
     @Override
-    protected Object apply( @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
-                            @Nonnull final Function<Object, Number> p_weightfunction
+    protected Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                            @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
     )
     {
-        return new DijkstraShortestPath<>( p_graph, p_weightfunction )
-            .getPath( p_vertices.get( 0 ).raw(), p_vertices.get( 1 ).raw() );
+        final CPathEvent l_event = new CPathEvent();
+        l_event.begin();
+
+        final Pair<List<Object>, Integer> l_path = IApplyPathAlgorithm.shortestpath(
+            p_graph, p_weightfunction, p_vertices.get( 0 ).raw(),
+            i ->
+            {
+                final int l_settled = i.settled();
+                return new ImmutablePair<>( i.getPath( p_vertices.get( 0 ).raw(), p_vertices.get( 1 ).raw() ), i.settled() - l_settled );
+            }
+        );
+
+        l_event.finish( NAME, p_graph, l_path.getRight(), false );
+        return l_path.getLeft();
     }
 
 }
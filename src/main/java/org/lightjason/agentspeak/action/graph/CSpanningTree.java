@@ -25,7 +25,9 @@ package org.lightjason.agentspeak.action.graph;
 
 import com.google.common.base.Function;
 import edu.uci.ics.jung.algorithms.shortestpath.PrimMinimumSpanningTree;
+import edu.uci.ics.jung.graph.DelegateForest;
 import edu.uci.ics.jung.graph.DelegateTree;
+import edu.uci.ics.jung.graph.Forest;
 import edu.uci.ics.jung.graph.Graph;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
@@ -37,9 +39,15 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -49,12 +57,28 @@ import java.util.stream.Stream;
  * tree, the first map instance will be used as weight-map,
  * a tuple of the string "defaultweight" and a numeric value
  * defines the default weight value of the weight-map
- * (the default value is zero)
+ * (the default value is zero). A string argument selects
+ * the engine ( PRIM | KRUSKAL | BORUVKA ), Prim is the default
+ * and creates the tree of one component, Kruskal and Borůvka
+ * ignore the edge direction and create the minimum spanning
+ * forest of all components with one tree per component, on
+ * parallel execution the edges are sorted concurrently by
+ * Kruskal and each Borůvka round selects the cheapest edges
+ * of the components concurrently. With the string "edges"
+ * the action returns for each graph the list of the selected
+ * edges and the total weight instead of a tree object, no engine
+ * creates any graph structure in this mode, Prim selects the
+ * edges with a binary heap of the incident edges
  *
  * {@code
  * [SP1|SP2] = .graph/spanningtree( Graph1, Graph2 );
  * [SP3|SP4] = .graph/spanningtree( "defaultweight", 3, WeightMap, Graph3, Graph4 );
+ * [SF1|SF2] = .graph/spanningtree( "boruvka", "defaultweight", 1, WeightMap, Graph5, Graph6 );
+ * [E1|W1|E2|W2] = .graph/spanningtree( "kruskal", "edges", WeightMap, Graph7, Graph8 );
  * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Kruskal%27s_algorithm"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Bor%C5%AFvka%27s_algorithm"></a>
  */
 public final class CSpanningTree extends IBaseAction
 {
@@ -66,6 +90,10 @@ public final class CSpanningTree extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CSpanningTree.class, "graph" );
+    /**
+     * edge list flag
+     */
+    private static final String EDGES = "edges";
 
     @Nonnull
     @Override
@@ -87,6 +115,19 @@ public final class CSpanningTree extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
+        final ESpanningTree l_engine = CCommon.flatten( p_argument )
+                                              .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                              .map( ITerm::<String>raw )
+                                              .filter( ESpanningTree::exists )
+                                              .findFirst()
+                                              .map( ESpanningTree::of )
+                                              .orElse( ESpanningTree.PRIM );
+
+        final boolean l_edges = CCommon.flatten( p_argument )
+                                       .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                       .map( ITerm::<String>raw )
+                                       .anyMatch( i -> EDGES.equalsIgnoreCase( i.trim() ) );
+
         final double l_defaultcost = CCommon.flatten( p_argument )
                                             .filter( i -> CCommon.isssignableto( i, Number.class ) )
                                             .findFirst()
@@ -101,16 +142,380 @@ public final class CSpanningTree extends IBaseAction
                                                 .orElseGet( Collections::emptyMap );
 
         final Function<Object, Double> l_weightfunction = e -> l_costmap.getOrDefault( e, l_defaultcost ).doubleValue();
-        final PrimMinimumSpanningTree<Object, Object> l_treefactory = new PrimMinimumSpanningTree<>( DelegateTree.getFactory(), l_weightfunction );
+        final java.util.function.Function<Graph<Object, Object>, Stream<?>> l_engineexecution = ESpanningTree.PRIM.equals( l_engine )
+                                                                                                ? CSpanningTree.prim( l_edges, l_weightfunction )
+                                                                                                : i -> CSpanningTree.forest( p_parallel, l_engine, l_edges, i, l_weightfunction );
 
         // --- filter graphs ---
         CCommon.flatten( p_argument )
                .filter( i -> CCommon.isssignableto( i, Graph.class ) )
                .map( ITerm::<Graph<Object, Object>>raw )
-               .map( l_treefactory )
+               .flatMap( i ->
+               {
+                   final CSpanningTreeEvent l_event = new CSpanningTreeEvent();
+                   l_event.begin();
+                   final Stream<?> l_result = l_engineexecution.apply( i );
+                   l_event.finish( l_engine, i, p_parallel );
+                   return l_result;
+               } )
                .map( CRawTerm::of )
                .forEach( p_return::add );
 
         return Stream.empty();
     }
+
+    /**
+     * creates the Prim engine, the factory is
+     * created once and used for all graphs
+     *
+     * @param p_edges edge list result
+     * @param p_weightfunction weight function
+     * @return engine function
+     */
+    @Nonnull
+    private static java.util.function.Function<Graph<Object, Object>, Stream<?>> prim( final boolean p_edges, @Nonnull final Function<Object, Double> p_weightfunction )
+    {
+        if ( p_edges )
+            return i -> CSpanningTree.primedges( i, p_weightfunction );
+
+        final PrimMinimumSpanningTree<Object, Object> l_treefactory = new PrimMinimumSpanningTree<>( DelegateTree.getFactory(), p_weightfunction );
+        return i -> Stream.of( l_treefactory.apply( i ) );
+    }
+
+    /**
+     * selects the edges of the Prim tree, the root is chosen
+     * like the tree engine, so the first vertex without incoming
+     * edges or the first vertex, the edge direction is ignored
+     * and edges without a finite weight are not selected
+     *
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @return edge list and total weight
+     */
+    @Nonnull
+    private static Stream<?> primedges( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Double> p_weightfunction )
+    {
+        final CGraphIndex l_graphindex = CGraphIndex.of( p_graph );
+        final CGraphIndex.CEdges l_index = l_graphindex.edges( false, p_graph );
+        final int l_size = l_index.m_vertices.size();
+        final List<Object> l_result = new ArrayList<>( Math.max( 0, l_size - 1 ) );
+        if ( l_size == 0 )
+            return Stream.of( Collections.unmodifiableList( l_result ), 0D );
+
+        // incident edges of each vertex as compressed arrays
+        final double[] l_weight = new double[l_index.m_edges.length];
+        final int[] l_offset = new int[l_size + 1];
+        for ( int i = 0; i < l_index.m_edges.length; i++ )
+        {
+            l_weight[i] = p_weightfunction.apply( l_index.m_edges[i] );
+            l_offset[l_index.m_source[i] + 1]++;
+            l_offset[l_index.m_target[i] + 1]++;
+        }
+        for ( int i = 0; i < l_size; i++ )
+            l_offset[i + 1] += l_offset[i];
+
+        final int[] l_position = Arrays.copyOf( l_offset, l_size );
+        final int[] l_incident = new int[l_offset[l_size]];
+        for ( int i = 0; i < l_index.m_edges.length; i++ )
+        {
+            l_incident[l_position[l_index.m_source[i]]++] = i;
+            l_incident[l_position[l_index.m_target[i]]++] = i;
+        }
+
+        final boolean[] l_visited = new boolean[l_size];
+        final PriorityQueue<Integer> l_queue = new PriorityQueue<>( Comparator.<Integer>comparingDouble( i -> l_weight[i] ).thenComparingInt( i -> i ) );
+        final Object l_root = p_graph.getVertices().stream()
+                                     .filter( i -> p_graph.getInEdges( i ).isEmpty() )
+                                     .findFirst()
+                                     .orElseGet( () -> p_graph.getVertices().iterator().next() );
+
+        double l_sum = 0;
+        int l_next = Math.max( 0, l_graphindex.index( l_root ) );
+        while ( l_next >= 0 )
+        {
+            l_visited[l_next] = true;
+            for ( int i = l_offset[l_next]; i < l_offset[l_next + 1]; i++ )
+                if ( l_weight[l_incident[i]] < Double.MAX_VALUE )
+                    l_queue.add( l_incident[i] );
+
+            // the cheapest edge to a vertex outside of the tree extends the tree
+            l_next = -1;
+            while ( l_next < 0 && !l_queue.isEmpty() )
+            {
+                final int l_edge = l_queue.poll();
+                final int l_vertex = l_visited[l_index.m_source[l_edge]] ? l_index.m_target[l_edge] : l_index.m_source[l_edge];
+                if ( l_visited[l_vertex] )
+                    continue;
+
+                l_result.add( l_index.m_edges[l_edge] );
+                l_sum += l_weight[l_edge];
+                l_next = l_vertex;
+            }
+        }
+
+        return Stream.of( Collections.unmodifiableList( l_result ), l_sum );
+    }
+
+    /**
+     * creates the minimum spanning forest
+     *
+     * @param p_parallel parallel execution
+     * @param p_engine engine
+     * @param p_edges edge list result
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @return forest or edge list and total weight
+     */
+    @Nonnull
+    private static Stream<?> forest( final boolean p_parallel, @Nonnull final ESpanningTree p_engine, final boolean p_edges,
+                                     @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Double> p_weightfunction
+    )
+    {
+        final CGraphIndex.CEdges l_index = CGraphIndex.of( p_graph ).edges( p_parallel, p_graph );
+        final List<Object> l_edges = Arrays.asList( l_index.m_edges );
+        final int[] l_source = l_index.m_source;
+        final int[] l_target = l_index.m_target;
+        final double[] l_weight = new double[l_edges.size()];
+
+        CSpanningTree.range( p_parallel, l_edges.size() ).forEach( i -> l_weight[i] = p_weightfunction.apply( l_edges.get( i ) ) );
+
+        final boolean[] l_selected = ESpanningTree.KRUSKAL.equals( p_engine )
+                                     ? CSpanningTree.kruskal( p_parallel, l_index.m_vertices.size(), l_source, l_target, l_weight )
+                                     : CSpanningTree.boruvka( p_parallel, l_index.m_vertices.size(), l_source, l_target, l_weight );
+
+        if ( !p_edges )
+            return Stream.of( CSpanningTree.orient( l_index.m_vertices, l_edges, l_source, l_target, l_selected ) );
+
+        final List<Object> l_result = new ArrayList<>( Math.max( 0, l_index.m_vertices.size() - 1 ) );
+        double l_total = 0;
+        for ( int i = 0; i < l_selected.length; i++ )
+            if ( l_selected[i] )
+            {
+                l_result.add( l_edges.get( i ) );
+                l_total += l_weight[i];
+            }
+
+        return Stream.of( Collections.unmodifiableList( l_result ), l_total );
+    }
+
+    /**
+     * Kruskal algorithm
+     *
+     * @param p_parallel parallel sorting
+     * @param p_size number of vertices
+     * @param p_source source vertex of each edge
+     * @param p_target target vertex of each edge
+     * @param p_weight weight of each edge
+     * @return selected edges
+     */
+    @Nonnull
+    private static boolean[] kruskal( final boolean p_parallel, @Nonnegative final int p_size, @Nonnull final int[] p_source,
+                                      @Nonnull final int[] p_target, @Nonnull final double[] p_weight
+    )
+    {
+        // the edges are sorted by the rank of the weight within the sorted weights in the upper
+        // and the index in the lower bits, so only primitive arrays are sorted and edges with
+        // equal weight are ordered by index like in the Borůvka engine
+        final double[] l_weight = p_weight.clone();
+        if ( p_parallel )
+            Arrays.parallelSort( l_weight );
+        else
+            Arrays.sort( l_weight );
+
+        final long[] l_order = new long[p_weight.length];
+        CSpanningTree.range( p_parallel, p_weight.length ).forEach( i -> l_order[i] = (long) Arrays.binarySearch( l_weight, p_weight[i] ) << Integer.SIZE | i );
+        if ( p_parallel )
+            Arrays.parallelSort( l_order );
+        else
+            Arrays.sort( l_order );
+
+        final boolean[] l_selected = new boolean[p_weight.length];
+        final CUnionFind l_components = new CUnionFind( p_size );
+        int l_count = 0;
+        for ( int i = 0; i < l_order.length && l_count < p_size - 1; i++ )
+        {
+            final int l_edge = (int) l_order[i];
+            if ( l_components.union( p_source[l_edge], p_target[l_edge] ) )
+            {
+                l_selected[l_edge] = true;
+                l_count++;
+            }
+        }
+
+        return l_selected;
+    }
+
+    /**
+     * Borůvka algorithm
+     *
+     * @param p_parallel parallel rounds
+     * @param p_size number of vertices
+     * @param p_source source vertex of each edge
+     * @param p_target target vertex of each edge
+     * @param p_weight weight of each edge
+     * @return selected edges
+     */
+    @Nonnull
+    private static boolean[] boruvka( final boolean p_parallel, @Nonnegative final int p_size, @Nonnull final int[] p_source,
+                                      @Nonnull final int[] p_target, @Nonnull final double[] p_weight
+    )
+    {
+        final boolean[] l_selected = new boolean[p_weight.length];
+        final CUnionFind l_components = new CUnionFind( p_size );
+        final AtomicIntegerArray l_cheapest = new AtomicIntegerArray( p_size );
+        int[] l_active = CSpanningTree.range( p_parallel, p_weight.length ).filter( i -> p_source[i] != p_target[i] ).toArray();
+
+        while ( l_active.length > 0 )
+        {
+            CSpanningTree.range( p_parallel, p_size ).forEach( i -> l_cheapest.set( i, -1 ) );
+            CSpanningTree.stream( p_parallel, l_active ).forEach( i ->
+            {
+                final int l_first = l_components.find( p_source[i] );
+                final int l_second = l_components.find( p_target[i] );
+                if ( l_first == l_second )
+                    return;
+
+                CSpanningTree.cheapest( l_cheapest, l_first, i, p_weight );
+                CSpanningTree.cheapest( l_cheapest, l_second, i, p_weight );
+            } );
+
+            // the cheapest edges form a forest, so only an edge which is selected by both of its components fails the union
+            final int l_joined = CSpanningTree.range( p_parallel, p_size ).map( l_cheapest::get ).filter( i -> i >= 0 ).map( i ->
+            {
+                if ( !l_components.union( p_source[i], p_target[i] ) )
+                    return 0;
+
+                l_selected[i] = true;
+                return 1;
+            } ).sum();
+
+            if ( l_joined == 0 )
+                break;
+
+            l_active = CSpanningTree.stream( p_parallel, l_active ).filter( i -> l_components.find( p_source[i] ) != l_components.find( p_target[i] ) ).toArray();
+        }
+
+        return l_selected;
+    }
+
+    /**
+     * sets the cheapest edge of a component, edges
+     * with equal weight are ordered by the index
+     *
+     * @param p_cheapest cheapest edge of each component
+     * @param p_component component root
+     * @param p_edge edge index
+     * @param p_weight edge weights
+     */
+    private static void cheapest( @Nonnull final AtomicIntegerArray p_cheapest, final int p_component, final int p_edge, @Nonnull final double[] p_weight )
+    {
+        int l_current;
+        do
+        {
+            l_current = p_cheapest.get( p_component );
+            if ( l_current >= 0 )
+            {
+                final int l_compare = Double.compare( p_weight[p_edge], p_weight[l_current] );
+                if ( l_compare > 0 || l_compare == 0 && p_edge >= l_current )
+                    return;
+            }
+        } while ( !p_cheapest.compareAndSet( p_component, l_current, p_edge ) );
+    }
+
+    /**
+     * builds the forest of the selected edges, each
+     * tree is oriented away from its vertex with the
+     * smallest index
+     *
+     * @param p_vertices vertices
+     * @param p_edges edges
+     * @param p_source source vertex of each edge
+     * @param p_target target vertex of each edge
+     * @param p_selected selected edges
+     * @return forest
+     */
+    @Nonnull
+    private static Forest<Object, Object> orient( @Nonnull final List<Object> p_vertices, @Nonnull final List<Object> p_edges, @Nonnull final int[] p_source,
+                                                  @Nonnull final int[] p_target, @Nonnull final boolean[] p_selected
+    )
+    {
+        final int[] l_offset = new int[p_vertices.size() + 1];
+        for ( int i = 0; i < p_selected.length; i++ )
+            if ( p_selected[i] )
+            {
+                l_offset[p_source[i] + 1]++;
+                l_offset[p_target[i] + 1]++;
+            }
+        for ( int i = 1; i < l_offset.length; i++ )
+            l_offset[i] += l_offset[i - 1];
+
+        final int[] l_position = Arrays.copyOf( l_offset, p_vertices.size() );
+        final int[] l_arc = new int[l_offset[p_vertices.size()]];
+        for ( int i = 0; i < p_selected.length; i++ )
+            if ( p_selected[i] )
+            {
+                l_arc[l_position[p_source[i]]++] = i;
+                l_arc[l_position[p_target[i]]++] = i;
+            }
+
+        final Forest<Object, Object> l_forest = new DelegateForest<>();
+        final boolean[] l_visited = new boolean[p_vertices.size()];
+        final int[] l_queue = new int[p_vertices.size()];
+        for ( int i = 0; i < p_vertices.size(); i++ )
+        {
+            if ( l_visited[i] )
+                continue;
+
+            int l_head = 0;
+            int l_tail = 0;
+            l_visited[i] = true;
+            l_queue[l_tail++] = i;
+            l_forest.addVertex( p_vertices.get( i ) );
+
+            while ( l_head < l_tail )
+            {
+                final int l_vertex = l_queue[l_head++];
+                for ( int j = l_offset[l_vertex]; j < l_offset[l_vertex + 1]; j++ )
+                {
+                    final int l_next = p_source[l_arc[j]] == l_vertex ? p_target[l_arc[j]] : p_source[l_arc[j]];
+                    if ( l_visited[l_next] )
+                        continue;
+
+                    l_visited[l_next] = true;
+                    l_queue[l_tail++] = l_next;
+                    l_forest.addEdge( p_edges.get( l_arc[j] ), p_vertices.get( l_vertex ), p_vertices.get( l_next ) );
+                }
+            }
+        }
+
+        return l_forest;
+    }
+
+    /**
+     * creates an index stream
+     *
+     * @param p_parallel parallel stream
+     * @param p_size size
+     * @return stream
+     */
+    @Nonnull
+    private static IntStream range( final boolean p_parallel, final int p_size )
+    {
+        final IntStream l_stream = IntStream.range( 0, p_size );
+        return p_parallel ? l_stream.parallel() : l_stream;
+    }
+
+    /**
+     * creates a stream of an index array
+     *
+     * @param p_parallel parallel stream
+     * @param p_index index array
+     * @return stream
+     */
+    @Nonnull
+    private static IntStream stream( final boolean p_parallel, @Nonnull final int[] p_index )
+    {
+        final IntStream l_stream = Arrays.stream( p_index );
+        return p_parallel ? l_stream.parallel() : l_stream;
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * flight recorder event of a spanning tree calculation.
+ * The event stores the engine and the graph size, the
+ * duration of the event is the execution time
+ */
+@Name( "org.lightjason.agentspeak.action.graph.SpanningTree" )
+@Label( "Graph Spanning Tree" )
+@Category( {"LightJason", "Graph"} )
+@Description( "minimum spanning tree or forest of a graph" )
+@StackTrace( false )
+final class CSpanningTreeEvent extends jdk.jfr.Event
+{
+    /**
+     * engine name
+     */
+    @Name( "engine" )
+    @Label( "Engine" )
+    private String m_engine;
+    /**
+     * number of vertices
+     */
+    @Name( "vertices" )
+    @Label( "Vertices" )
+    private int m_vertices;
+    /**
+     * number of edges
+     */
+    @Name( "edges" )
+    @Label( "Edges" )
+    private int m_edges;
+    /**
+     * parallel flag
+     */
+    @Name( "parallel" )
+    @Label( "Parallel" )
+    private boolean m_parallel;
+
+    /**
+     * ends and commits the event, if it is enabled
+     *
+     * @param p_engine engine
+     * @param p_graph graph
+     * @param p_parallel parallel flag
+     */
+    void finish( @Nonnull final ESpanningTree p_engine, @Nonnull final Graph<?, ?> p_graph, final boolean p_parallel )
+    {
+        if ( !this.shouldCommit() )
+            return;
+
+        m_engine = p_engine.name();
+        m_vertices = p_graph.getVertexCount();
+        m_edges = p_graph.getEdgeCount();
+        m_parallel = p_parallel;
+        this.commit();
+    }
+
+}
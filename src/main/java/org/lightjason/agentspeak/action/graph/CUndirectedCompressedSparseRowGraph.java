@@ -0,0 +1,51 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.UndirectedGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+
+/**
+ * undirected graph with a compressed-sparse-row adjacency structure
+ *
+ * @tparam V vertex type
+ * @tparam E edge type
+ */
+public final class CUndirectedCompressedSparseRowGraph<V, E> extends ICompressedSparseRowGraph<V, E> implements UndirectedGraph<V, E>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5270713419528263174L;
+
+    /**
+     * ctor
+     */
+    public CUndirectedCompressedSparseRowGraph()
+    {
+        super( EdgeType.UNDIRECTED );
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import javax.annotation.Nonnegative;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+
+/**
+ * lock-free union-find structure over vertex indices.
+ * The parent links are changed by compare-and-set only,
+ * a root is always linked to a root with a smaller index,
+ * so the structure is acyclic and can be used by many
+ * threads concurrently, find uses path halving
+ */
+final class CUnionFind
+{
+    /**
+     * parent links
+     */
+    private final AtomicIntegerArray m_parent;
+
+    /**
+     * ctor
+     *
+     * @param p_size number of elements
+     */
+    CUnionFind( @Nonnegative final int p_size )
+    {
+        m_parent = new AtomicIntegerArray( p_size );
+        for ( int i = 0; i < p_size; i++ )
+            m_parent.set( i, i );
+    }
+
+    /**
+     * number of elements
+     *
+     * @return size
+     */
+    @Nonnegative
+    int size()
+    {
+        return m_parent.length();
+    }
+
+    /**
+     * returns the root of an element
+     *
+     * @param p_element element index
+     * @return root index
+     */
+    @Nonnegative
+    int find( @Nonnegative final int p_element )
+    {
+        int l_element = p_element;
+        while ( true )
+        {
+            final int l_parent = m_parent.get( l_element );
+            if ( l_parent == l_element )
+                return l_element;
+
+            final int l_grandparent = m_parent.get( l_parent );
+            if ( l_parent != l_grandparent )
+                m_parent.compareAndSet( l_element, l_parent, l_grandparent );
+            l_element = l_grandparent;
+        }
+    }
+
+    /**
+     * joins the sets of two elements
+     *
+     * @param p_first first element index
+     * @param p_second second element index
+     * @return true if the sets have been disjoint
+     */
+    boolean union( @Nonnegative final int p_first, @Nonnegative final int p_second )
+    {
+        int l_first = p_first;
+        int l_second = p_second;
+        while ( true )
+        {
+            l_first = this.find( l_first );
+            l_second = this.find( l_second );
+            if ( l_first == l_second )
+                return false;
+
+            // a concurrent link of the larger root lets the compare-and-set fail, so the roots are searched again
+            if ( l_first < l_second
+                 ? m_parent.compareAndSet( l_second, l_second, l_first )
+                 : m_parent.compareAndSet( l_first, l_first, l_second ) )
+                return true;
+        }
+    }
+
+}
@@ -37,15 +37,21 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Stream;
 
 
 /**
  * returns all vertices of a graph.
  * The action returns a list of all vertices
- * for each graph argument
+ * for each graph argument, with the string "view"
+ * the list is an immutable snapshot, which copies
+ * the vertex collection not before the first access
  *
- * {@code [V1|V2] = .graph/vertices( Graph1, Graph2 );}
+ * {@code
+ * [V1|V2] = .graph/vertices( Graph1, Graph2 );
+ * [V3|V4] = .graph/vertices( "view", Graph1, Graph2 );
+ * }
  */
 public final class CVertices extends IBaseAction
 {
@@ -57,6 +63,10 @@ public final class CVertices extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CVertices.class, "graph" );
+    /**
+     * view mode
+     */
+    private static final String VIEW = "view";
 
     @Nonnull
     @Override
@@ -78,10 +88,15 @@ public final class CVertices extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
+        final boolean l_view = CCommon.flatten( p_argument )
+                                      .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                      .anyMatch( i -> VIEW.equals( i.<String>raw().toLowerCase( Locale.ROOT ) ) );
+
         CCommon.flatten( p_argument )
+               .filter( i -> CCommon.isssignableto( i, Graph.class ) )
                .map( ITerm::<Graph<?, ?>>raw )
                .map( Hypergraph::getVertices )
-               .map( ArrayList::new )
+               .map( i -> l_view ? new CLazyList<>( i ) : new ArrayList<>( i ) )
                .map( CRawTerm::of )
                .forEach( p_return::add );
 
@@ -0,0 +1,332 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Objects;
+
+
+/**
+ * graph, which delegates all calls to a weakly referenced graph,
+ * so cached algorithms on it do not keep the graph alive, which
+ * is the weak key of the cache
+ */
+final class CWeakGraph implements Graph<Object, Object>
+{
+    /**
+     * graph reference
+     */
+    private final WeakReference<Graph<Object, Object>> m_graph;
+
+    /**
+     * ctor
+     *
+     * @param p_graph graph
+     */
+    CWeakGraph( @Nonnull final Graph<Object, Object> p_graph )
+    {
+        m_graph = new WeakReference<>( p_graph );
+    }
+
+    @Override
+    public Collection<Object> getEdges()
+    {
+        return this.graph().getEdges();
+    }
+
+    @Override
+    public Collection<Object> getVertices()
+    {
+        return this.graph().getVertices();
+    }
+
+    @Override
+    public boolean containsVertex( final Object p_vertex )
+    {
+        return this.graph().containsVertex( p_vertex );
+    }
+
+    @Override
+    public boolean containsEdge( final Object p_edge )
+    {
+        return this.graph().containsEdge( p_edge );
+    }
+
+    @Override
+    public int getEdgeCount()
+    {
+        return this.graph().getEdgeCount();
+    }
+
+    @Override
+    public int getVertexCount()
+    {
+        return this.graph().getVertexCount();
+    }
+
+    @Override
+    public Collection<Object> getNeighbors( final Object p_vertex )
+    {
+        return this.graph().getNeighbors( p_vertex );
+    }
+
+    @Override
+    public Collection<Object> getIncidentEdges( final Object p_vertex )
+    {
+        return this.graph().getIncidentEdges( p_vertex );
+    }
+
+    @Override
+    public Collection<Object> getIncidentVertices( final Object p_edge )
+    {
+        return this.graph().getIncidentVertices( p_edge );
+    }
+
+    @Override
+    public Object findEdge( final Object p_source, final Object p_target )
+    {
+        return this.graph().findEdge( p_source, p_target );
+    }
+
+    @Override
+    public Collection<Object> findEdgeSet( final Object p_source, final Object p_target )
+    {
+        return this.graph().findEdgeSet( p_source, p_target );
+    }
+
+    @Override
+    public boolean addVertex( final Object p_vertex )
+    {
+        return this.graph().addVertex( p_vertex );
+    }
+
+    @Override
+    public boolean addEdge( final Object p_edge, final Collection<?> p_vertices )
+    {
+        return this.graph().addEdge( p_edge, p_vertices );
+    }
+
+    @Override
+    public boolean addEdge( final Object p_edge, final Collection<?> p_vertices, final EdgeType p_type )
+    {
+        return this.graph().addEdge( p_edge, p_vertices, p_type );
+    }
+
+    @Override
+    public boolean removeVertex( final Object p_vertex )
+    {
+        return this.graph().removeVertex( p_vertex );
+    }
+
+    @Override
+    public boolean removeEdge( final Object p_edge )
+    {
+        return this.graph().removeEdge( p_edge );
+    }
+
+    @Override
+    public boolean isNeighbor( final Object p_vertex, final Object p_neighbor )
+    {
+        return this.graph().isNeighbor( p_vertex, p_neighbor );
+    }
+
+    @Override
+    public boolean isIncident( final Object p_vertex, final Object p_edge )
+    {
+        return this.graph().isIncident( p_vertex, p_edge );
+    }
+
+    @Override
+    public int degree( final Object p_vertex )
+    {
+        return this.graph().degree( p_vertex );
+    }
+
+    @Override
+    public int getNeighborCount( final Object p_vertex )
+    {
+        return this.graph().getNeighborCount( p_vertex );
+    }
+
+    @Override
+    public int getIncidentCount( final Object p_edge )
+    {
+        return this.graph().getIncidentCount( p_edge );
+    }
+
+    @Override
+    public EdgeType getEdgeType( final Object p_edge )
+    {
+        return this.graph().getEdgeType( p_edge );
+    }
+
+    @Override
+    public EdgeType getDefaultEdgeType()
+    {
+        return this.graph().getDefaultEdgeType();
+    }
+
+    @Override
+    public Collection<Object> getEdges( final EdgeType p_type )
+    {
+        return this.graph().getEdges( p_type );
+    }
+
+    @Override
+    public int getEdgeCount( final EdgeType p_type )
+    {
+        return this.graph().getEdgeCount( p_type );
+    }
+
+    @Override
+    public Collection<Object> getInEdges( final Object p_vertex )
+    {
+        return this.graph().getInEdges( p_vertex );
+    }
+
+    @Override
+    public Collection<Object> getOutEdges( final Object p_vertex )
+    {
+        return this.graph().getOutEdges( p_vertex );
+    }
+
+    @Override
+    public Collection<Object> getPredecessors( final Object p_vertex )
+    {
+        return this.graph().getPredecessors( p_vertex );
+    }
+
+    @Override
+    public Collection<Object> getSuccessors( final Object p_vertex )
+    {
+        return this.graph().getSuccessors( p_vertex );
+    }
+
+    @Override
+    public int inDegree( final Object p_vertex )
+    {
+        return this.graph().inDegree( p_vertex );
+    }
+
+    @Override
+    public int outDegree( final Object p_vertex )
+    {
+        return this.graph().outDegree( p_vertex );
+    }
+
+    @Override
+    public boolean isPredecessor( final Object p_vertex, final Object p_predecessor )
+    {
+        return this.graph().isPredecessor( p_vertex, p_predecessor );
+    }
+
+    @Override
+    public boolean isSuccessor( final Object p_vertex, final Object p_successor )
+    {
+        return this.graph().isSuccessor( p_vertex, p_successor );
+    }
+
+    @Override
+    public int getPredecessorCount( final Object p_vertex )
+    {
+        return this.graph().getPredecessorCount( p_vertex );
+    }
+
+    @Override
+    public int getSuccessorCount( final Object p_vertex )
+    {
+        return this.graph().getSuccessorCount( p_vertex );
+    }
+
+    @Override
+    public Object getSource( final Object p_edge )
+    {
+        return this.graph().getSource( p_edge );
+    }
+
+    @Override
+    public Object getDest( final Object p_edge )
+    {
+        return this.graph().getDest( p_edge );
+    }
+
+    @Override
+    public boolean isSource( final Object p_vertex, final Object p_edge )
+    {
+        return this.graph().isSource( p_vertex, p_edge );
+    }
+
+    @Override
+    public boolean isDest( final Object p_vertex, final Object p_edge )
+    {
+        return this.graph().isDest( p_vertex, p_edge );
+    }
+
+    @Override
+    public boolean addEdge( final Object p_edge, final Object p_source, final Object p_target )
+    {
+        return this.graph().addEdge( p_edge, p_source, p_target );
+    }
+
+    @Override
+    public boolean addEdge( final Object p_edge, final Object p_source, final Object p_target, final EdgeType p_type )
+    {
+        return this.graph().addEdge( p_edge, p_source, p_target, p_type );
+    }
+
+    @Override
+    public Pair<Object> getEndpoints( final Object p_edge )
+    {
+        return this.graph().getEndpoints( p_edge );
+    }
+
+    @Override
+    public Object getOpposite( final Object p_vertex, final Object p_edge )
+    {
+        return this.graph().getOpposite( p_vertex, p_edge );
+    }
+
+    /**
+     * returns the referenced graph
+     *
+     * @return graph
+     * @throws IllegalStateException if the graph has been released
+     */
+    @Nonnull
+    private Graph<Object, Object> graph()
+    {
+        final Graph<Object, Object> l_graph = m_graph.get();
+        if ( Objects.isNull( l_graph ) )
+            throw new IllegalStateException( "graph has been released" );
+
+        return l_graph;
+    }
+
+}
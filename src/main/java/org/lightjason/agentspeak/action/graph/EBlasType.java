@@ -33,12 +33,16 @@ import java.util.stream.Collectors;
 
 
 /**
- * blas types
+ * blas types, the compressed sparse
+ * row and column formats are built once
+ * and are fast on matrix-vector products
  */
 public enum EBlasType
 {
     SPARSE,
-    DENSE;
+    DENSE,
+    CSR,
+    CSC;
 
     /**
      * set with names
@@ -0,0 +1,143 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import org.lightjason.agentspeak.error.CEnumConstantNotPresentException;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * heuristic metrics of vertex coordinates
+ */
+public enum EHeuristic
+{
+    EUCLIDEAN,
+    MANHATTAN;
+
+    /**
+     * set with names
+     */
+    private static final Set<String> NAMES = Collections.unmodifiableSet(
+        Arrays.stream( EHeuristic.values() ).map( i -> i.name().toLowerCase( Locale.ROOT ) ).collect( Collectors.toSet() )
+    );
+
+    /**
+     * calculates the distance of two coordinates
+     *
+     * @param p_first first coordinate
+     * @param p_second second coordinate
+     * @return distance
+     */
+    public final double distance( @Nonnull final double[] p_first, @Nonnull final double[] p_second )
+    {
+        double l_distance = 0;
+        switch ( this )
+        {
+            case EUCLIDEAN:
+                for ( int i = 0; i < Math.min( p_first.length, p_second.length ); i++ )
+                    l_distance += ( p_first[i] - p_second[i] ) * ( p_first[i] - p_second[i] );
+                return Math.sqrt( l_distance );
+
+            case MANHATTAN:
+                for ( int i = 0; i < Math.min( p_first.length, p_second.length ); i++ )
+                    l_distance += Math.abs( p_first[i] - p_second[i] );
+                return l_distance;
+
+            default:
+                throw new CEnumConstantNotPresentException( this.getClass(), this.toString() );
+        }
+    }
+
+    /**
+     * converts a coordinate object into an array,
+     * supported are numbers, number collections,
+     * double arrays and vectors
+     *
+     * @param p_coordinate coordinate object
+     * @return coordinate array, empty on unknown objects
+     */
+    @Nonnull
+    public static double[] coordinate( final Object p_coordinate )
+    {
+        if ( p_coordinate instanceof double[] )
+            return (double[]) p_coordinate;
+
+        if ( p_coordinate instanceof DoubleMatrix1D )
+            return ( (DoubleMatrix1D) p_coordinate ).toArray();
+
+        if ( p_coordinate instanceof Number )
+            return new double[]{( (Number) p_coordinate ).doubleValue()};
+
+        if ( p_coordinate instanceof Collection<?> )
+            return ( (Collection<?>) p_coordinate ).stream()
+                                                   .filter( i -> i instanceof Number )
+                                                   .mapToDouble( i -> ( (Number) i ).doubleValue() )
+                                                   .toArray();
+
+        return new double[0];
+    }
+
+    /**
+     * additional factory
+     *
+     * @param p_name name as string
+     * @return enum
+     */
+    @Nonnull
+    public static EHeuristic of( @Nonnull final String p_name )
+    {
+        return EHeuristic.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * check method to check if a enum value with a name exists
+     *
+     * @param p_name name as string
+     * @return boolean if enum value exists
+     */
+    public static boolean exists( @Nonnull final String p_name )
+    {
+        return NAMES.contains( p_name.trim().toLowerCase( Locale.ROOT ) );
+    }
+
+    /**
+     * returns the lower-case names
+     *
+     * @return name set
+     */
+    @Nonnull
+    public static Set<String> names()
+    {
+        return NAMES;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import com.google.common.base.Function;
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * abstract class to define queries on the contraction hierarchy.
+ * The ordering of the arguments can be arbitrary, for any graph
+ * instance the query is calculated between the start- and end-vertex,
+ * the first map instance will be used as weight-map, a tuple of the string
+ * "defaultweight" and a numeric value defines the default weight value of
+ * the weight-map (the default value is zero), a tuple which will not fit
+ * this definition defines the start- and end-vertex, the action fails on
+ * wrong input and on negative weights. The hierarchy of the graph and weight-map is built by
+ * {@code .graph/contract} or on the first call, so repeated queries do
+ * not search the whole graph, only a few hierarchies of different
+ * weight-maps are stored for each graph
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Contraction_hierarchies"></a>
+ */
+public abstract class IApplyContractionHierarchy extends IApplyPathAlgorithm
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3859026417813370425L;
+
+    @Override
+    protected final Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                                  @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
+    )
+    {
+        return this.query( IApplyPathAlgorithm.contractionhierarchy( p_graph, p_weightfunction ), p_vertices.get( 0 ).raw(), p_vertices.get( 1 ).raw() );
+    }
+
+    /**
+     * runs the query on the hierarchy
+     *
+     * @param p_hierarchy contraction hierarchy
+     * @param p_source start vertex
+     * @param p_target end vertex
+     * @return query result
+     */
+    protected abstract Object query( @Nonnull final CContractionHierarchy p_hierarchy, @Nonnull final Object p_source, @Nonnull final Object p_target );
+
+}
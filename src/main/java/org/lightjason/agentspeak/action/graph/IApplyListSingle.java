@@ -0,0 +1,105 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.Graph;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * apply class for graph collection results.
+ * The action returns a list of a graph collection for each graph
+ * argument, the list is a copy of the collection. With the string
+ * "view" as first argument the list is an immutable snapshot, which
+ * copies the collection not before the first access of the list
+ *
+ * {@code [N1|N2] = .graph/neighborssingle( "view", Vertex, Graph1, Graph2 );}
+ */
+public abstract class IApplyListSingle extends IApplySingle
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6028419476105923711L;
+    /**
+     * view mode
+     */
+    private static final String VIEW = "view";
+
+    @Override
+    protected final int modesize( @Nonnull final List<ITerm> p_argument )
+    {
+        // a vertex with the name "view" is followed by the graphs
+        return p_argument.size() > this.skipsize() + 1
+               && CCommon.isssignableto( p_argument.get( 0 ), String.class )
+               && VIEW.equals( p_argument.get( 0 ).<String>raw().toLowerCase( Locale.ROOT ) )
+               && !CCommon.isssignableto( p_argument.get( this.skipsize() ), Graph.class )
+               && !CCommon.isssignableto( p_argument.get( this.skipsize() ), Collection.class )
+               ? 1
+               : 0;
+    }
+
+    @Override
+    protected final void apply( final boolean p_parallel, @Nonnull final Graph<Object, Object> p_graph,
+                                @Nonnull final List<ITerm> p_window, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final int l_mode = p_window.size() - this.skipsize();
+        final Collection<?> l_collection = this.collection( p_graph, p_window.subList( l_mode, p_window.size() ) );
+        if ( l_mode > 0 )
+        {
+            p_return.add( CRawTerm.of( new CLazyList<>( l_collection ) ) );
+            return;
+        }
+
+        final List<?> l_return = new ArrayList<>( l_collection );
+
+        p_return.add(
+            CRawTerm.of(
+                p_parallel
+                ? Collections.synchronizedList( l_return )
+                : l_return
+            )
+        );
+    }
+
+    /**
+     * returns the graph collection
+     *
+     * @param p_graph graph instance
+     * @param p_window window list
+     * @return collection
+     */
+    protected abstract Collection<?> collection( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final List<ITerm> p_window );
+
+}
@@ -33,12 +33,18 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
- * apply class for a single graph with multiple elements
+ * apply class for a single graph with multiple elements.
+ * On parallel execution the windows are processed on the
+ * fork-join pool and the results are added in the ordering
+ * of the windows, modifying actions are always applied
+ * sequentially in the ordering of the windows
  */
 public abstract class IApplyMultiple extends IBaseAction
 {
@@ -60,18 +66,44 @@ public abstract class IApplyMultiple extends IBaseAction
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        StreamUtils.windowed(
+        final Graph<Object, Object> l_graph = p_argument.get( 0 ).raw();
+        final List<List<ITerm>> l_windows = StreamUtils.windowed(
             CCommon.flatten( p_argument ).skip( 1 ),
             this.windowsize(),
             this.windowsize()
-        )
-                   .forEach( i -> this.apply( p_parallel, p_argument.get( 0 ).<Graph<Object, Object>>raw(), i, p_return ) );
+        ).collect( Collectors.toList() );
+
+        if ( !p_parallel || l_windows.size() < 2 || this.modifying() )
+        {
+            l_windows.forEach( i -> this.apply( p_parallel, l_graph, CMappedGraph.terms( l_graph, i ), p_return ) );
+            return Stream.empty();
+        }
+
+        l_windows.parallelStream()
+                 .map( i ->
+                 {
+                     final List<ITerm> l_return = new ArrayList<>();
+                     this.apply( true, l_graph, CMappedGraph.terms( l_graph, i ), l_return );
+                     return l_return;
+                 } )
+                 .collect( Collectors.toList() )
+                 .forEach( p_return::addAll );
 
         return Stream.empty();
     }
 
 
 
+    /**
+     * flag, that the action modifies the graph
+     *
+     * @return modifying flag
+     */
+    protected boolean modifying()
+    {
+        return false;
+    }
+
     /**
      * window size
      *
@@ -26,7 +26,11 @@ package org.lightjason.agentspeak.action.graph;
 
 import com.codepoetics.protonpack.StreamUtils;
 import com.google.common.base.Function;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import edu.uci.ics.jung.algorithms.shortestpath.DijkstraShortestPath;
 import edu.uci.ics.jung.graph.Graph;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
@@ -38,15 +42,29 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
- * abstract class to define path / distance graph algorithms
+ * abstract class to define path / distance graph algorithms.
+ * The single-source shortest path structures are cached by
+ * graph identity, weight-map identity and size, default weight
+ * and source vertex, so a lookup does not depend on the size of
+ * the weight-map, adding or removing weights is detected by the
+ * size, a changed weight of an existing edge needs a new weight-map.
+ * The cache is bounded, holds the graph only weakly and will be
+ * invalidated on graph modifications via the graph add / remove
+ * actions, contraction hierarchies are cached in the same way by
+ * graph identity and weight function
  */
 public abstract class IApplyPathAlgorithm extends IBaseAction
 {
@@ -57,7 +75,30 @@ public abstract class IApplyPathAlgorithm extends IBaseAction
     /**
      * default weight field
      */
-    private static final String DEFAULTWEIGHT = "defaultweight";
+    static final String DEFAULTWEIGHT = "defaultweight";
+    /**
+     * maximum number of cached graphs
+     */
+    private static final int CACHEDGRAPHS = 64;
+    /**
+     * maximum number of cached sources of each graph
+     */
+    private static final int CACHEDSOURCES = 256;
+    /**
+     * maximum number of cached hierarchies of each graph
+     */
+    private static final int CACHEDHIERARCHIES = 8;
+    /**
+     * cache of shortest path algorithms with graph identity
+     * and pair of weight function and source vertex
+     */
+    private static final Cache<Graph<?, ?>, Cache<ImmutablePair<Function<Object, Number>, Object>, CDijkstra>> CACHE =
+        CacheBuilder.newBuilder().weakKeys().maximumSize( CACHEDGRAPHS ).build();
+    /**
+     * cache of contraction hierarchies with graph identity and weight function
+     */
+    private static final Cache<Graph<?, ?>, Cache<Function<Object, Number>, CContractionHierarchy>> HIERARCHIES =
+        CacheBuilder.newBuilder().weakKeys().maximumSize( CACHEDGRAPHS ).build();
 
     @Nonnegative
     @Override
@@ -73,45 +114,48 @@ public abstract class IApplyPathAlgorithm extends IBaseAction
     )
     {
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
-        if ( l_arguments.size() < 3 )
+        if ( l_arguments.size() < this.minimalvertices() + 1 )
             throw new CExecutionIllegealArgumentException(
                 p_context, org.lightjason.agentspeak.common.CCommon.languagestring( IApplyPathAlgorithm.class, "wrongargumentnumber", 4 ) );
 
-        final Map<Object, Number> l_weights = l_arguments.parallelStream()
+        // keyword tuples with the default weight and flags, all elements are removed from the vertex arguments
+        final Set<ITerm> l_keywords = Collections.newSetFromMap( new IdentityHashMap<>() );
+        final Map<String, ITerm> l_parameter = IApplyPathAlgorithm.keywords( p_context, l_arguments, this.parametertypes(), l_keywords );
+
+        l_arguments.stream()
+                   .filter( i -> !l_keywords.contains( i ) )
+                   .filter( i -> CCommon.isssignableto( i, String.class ) && this.flags().contains( i.<String>raw().toLowerCase( Locale.ROOT ) ) )
+                   .forEachOrdered( i ->
+                   {
+                       l_keywords.add( i );
+                       l_parameter.putIfAbsent( i.<String>raw().toLowerCase( Locale.ROOT ), i );
+                   } );
+
+        final Map<Object, Number> l_weights = l_arguments.stream()
+                                                         .filter( i -> !l_keywords.contains( i ) )
                                                          .filter( i -> CCommon.isssignableto( i, Map.class ) )
                                                          .findFirst()
                                                          .map( ITerm::<Map<Object, Number>>raw )
                                                          .orElseGet( Collections::emptyMap );
 
-        final Number l_defaultvalue = StreamUtils.windowed( l_arguments.stream(), 2 )
-                                                 .filter( i -> CCommon.isssignableto( i.get( 0 ), String.class )
-                                                               && DEFAULTWEIGHT.equalsIgnoreCase( i.get( 0 ).raw() )
-                                                               && CCommon.isssignableto( i.get( 1 ), Number.class )
-                                                 )
-                                                 .findFirst()
-                                                 .map( i -> i.get( 1 ).<Number>raw() )
-                                                 .orElse( 0D );
-
-        final Function<Object, Number> l_weightfunction = e -> l_weights.getOrDefault( e, l_defaultvalue );
-
-        final List<ITerm> l_vertices = StreamUtils.windowed( l_arguments.stream(), 2 )
-                                                  .filter( i -> !( CCommon.isssignableto( i.get( 0 ), String.class )
-                                                                   && DEFAULTWEIGHT.equalsIgnoreCase( i.get( 0 ).raw() )
-                                                                   && CCommon.isssignableto( i.get( 1 ), Number.class ) )
-                                                                   && !( CCommon.isssignableto( i.get( 0 ), Graph.class )
-                                                                   || CCommon.isssignableto( i.get( 1 ), Graph.class ) )
-                                                  )
-                                                  .findFirst()
-                                                  .orElseGet( Collections::emptyList );
-
-        if ( l_vertices.isEmpty() )
+        final Function<Object, Number> l_weightfunction = IApplyPathAlgorithm.weightfunction(
+            p_context, l_weights, l_parameter, this.defaultweight(), this.positiveweights()
+        );
+
+        final List<ITerm> l_vertices = l_arguments.stream()
+                                                  .filter( i -> !l_keywords.contains( i ) )
+                                                  .filter( i -> !( CCommon.isssignableto( i, Graph.class ) || CCommon.isssignableto( i, Map.class ) ) )
+                                                  .collect( Collectors.toList() );
+
+        if ( l_vertices.size() < this.minimalvertices() )
             throw new CExecutionIllegalStateException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "verticesempty" ) );
 
 
         l_arguments.stream()
+                   .filter( i -> !l_keywords.contains( i ) )
                    .filter( i -> CCommon.isssignableto( i, Graph.class ) )
                    .map( ITerm::<Graph<Object, Object>>raw )
-                   .map( i -> this.apply( l_vertices, i, l_weightfunction ) )
+                   .map( i -> this.apply( p_parallel, CMappedGraph.terms( i, l_vertices ), i, l_weightfunction, l_parameter ) )
                    .map( CRawTerm::of )
                    .forEach( p_return::add );
 
@@ -119,16 +163,317 @@ public abstract class IApplyPathAlgorithm extends IBaseAction
     }
 
 
+    /**
+     * minimal number of vertices
+     *
+     * @return number of vertices
+     */
+    @Nonnegative
+    protected int minimalvertices()
+    {
+        return 2;
+    }
+
+    /**
+     * additional keyword tuples, which are defined
+     * by a string and a value like the default weight
+     *
+     * @return map with lower-case names and value types
+     */
+    @Nonnull
+    protected Map<String, Class<?>> parameters()
+    {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * names of additional flags, which are defined by a single string
+     *
+     * @return set with lower-case names
+     */
+    @Nonnull
+    protected Set<String> flags()
+    {
+        return Collections.emptySet();
+    }
+
+    /**
+     * default weight of edges, which are not
+     * part of the weight-map, if no default
+     * weight tuple is given
+     *
+     * @return default weight
+     */
+    @Nonnull
+    protected Number defaultweight()
+    {
+        return 0D;
+    }
+
+    /**
+     * flag, that the algorithm needs positive weights
+     *
+     * @return positive weight flag
+     */
+    protected boolean positiveweights()
+    {
+        return false;
+    }
+
     /**
      * apply function
      *
+     * @param p_parallel parallel execution
      * @param p_vertices list with vertices
      * @param p_graph graph
      * @param p_weightfunction weight function
+     * @param p_parameter keyword tuples and flags with lower-case names
      * @return result of action
      */
-    protected abstract Object apply( @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
-                                     @Nonnull final Function<Object, Number> p_weightfunction
+    protected abstract Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_vertices, @Nonnull final Graph<Object, Object> p_graph,
+                                     @Nonnull final Function<Object, Number> p_weightfunction, @Nonnull final Map<String, ITerm> p_parameter
     );
 
+    /**
+     * returns the value types of all keyword tuples
+     *
+     * @return map with lower-case names and value types
+     */
+    @Nonnull
+    private Map<String, Class<?>> parametertypes()
+    {
+        final Map<String, Class<?>> l_types = new HashMap<>( this.parameters() );
+        l_types.put( DEFAULTWEIGHT, Number.class );
+        return l_types;
+    }
+
+    /**
+     * reads the keyword tuples of the arguments and checks the value types
+     *
+     * @param p_context execution context
+     * @param p_arguments flat arguments
+     * @param p_types map with lower-case names and value types of the keyword tuples
+     * @param p_keywords set, which gets all elements of the keyword tuples
+     * @return map with lower-case names and values of the keyword tuples
+     */
+    @Nonnull
+    static Map<String, ITerm> keywords( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_arguments,
+                                        @Nonnull final Map<String, Class<?>> p_types, @Nonnull final Set<ITerm> p_keywords
+    )
+    {
+        final Map<String, ITerm> l_parameter = new HashMap<>();
+        StreamUtils.windowed( p_arguments.stream(), 2 )
+                   .filter( i -> !p_keywords.contains( i.get( 0 ) )
+                                 && CCommon.isssignableto( i.get( 0 ), String.class )
+                                 && p_types.containsKey( i.get( 0 ).<String>raw().toLowerCase( Locale.ROOT ) ) )
+                   .forEachOrdered( i ->
+                   {
+                       p_keywords.addAll( i );
+                       l_parameter.putIfAbsent( i.get( 0 ).<String>raw().toLowerCase( Locale.ROOT ), i.get( 1 ) );
+                   } );
+
+        l_parameter.entrySet()
+                   .stream()
+                   .filter( i -> !CCommon.isssignableto( i.getValue(), p_types.get( i.getKey() ) ) )
+                   .findFirst()
+                   .ifPresent( i ->
+                   {
+                       throw new CExecutionIllegealArgumentException(
+                           p_context,
+                           org.lightjason.agentspeak.common.CCommon.languagestring(
+                               IApplyPathAlgorithm.class, "wrongparametertype", i.getKey(), p_types.get( i.getKey() ).getSimpleName()
+                           )
+                       );
+                   } );
+
+        return l_parameter;
+    }
+
+    /**
+     * creates the weight function of a weight-map and the default weight tuple
+     *
+     * @param p_context execution context
+     * @param p_weights weight-map
+     * @param p_parameter map with lower-case names and values of the keyword tuples
+     * @param p_defaultweight default weight, if no default weight tuple exists
+     * @param p_positive flag, that only positive weights are allowed
+     * @return weight function
+     */
+    @Nonnull
+    static Function<Object, Number> weightfunction( @Nonnull final IContext p_context, @Nonnull final Map<Object, Number> p_weights,
+                                                    @Nonnull final Map<String, ITerm> p_parameter, @Nonnull final Number p_defaultweight,
+                                                    final boolean p_positive
+    )
+    {
+        final Number l_defaultvalue = p_parameter.containsKey( DEFAULTWEIGHT ) ? p_parameter.get( DEFAULTWEIGHT ).<Number>raw() : p_defaultweight;
+        if ( p_positive && ( l_defaultvalue.doubleValue() <= 0 || p_weights.values().stream().anyMatch( i -> i.doubleValue() <= 0 ) ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( IApplyPathAlgorithm.class, "nonpositiveweight" ) );
+
+        return new CWeightFunction( p_weights, l_defaultvalue );
+    }
+
+    /**
+     * runs a function on the cached shortest path algorithm of a source vertex
+     *
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @param p_source source vertex
+     * @param p_function function, which is called with the algorithm
+     * @return function result
+     * @tparam T result type
+     */
+    protected static <T> T shortestpath( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Number> p_weightfunction,
+                                         @Nonnull final Object p_source, @Nonnull final Function<CDijkstra, T> p_function
+    )
+    {
+        final CDijkstra l_algorithm = CACHE.asMap()
+                                           .computeIfAbsent(
+                                               p_graph,
+                                               i -> CacheBuilder.newBuilder().maximumSize( CACHEDSOURCES ).build()
+                                           )
+                                           .asMap()
+                                           .computeIfAbsent(
+                                               new ImmutablePair<>( p_weightfunction, p_source ),
+                                               i -> new CDijkstra( new CWeakGraph( p_graph ), p_weightfunction )
+                                           );
+
+        // the algorithm stores the settled vertices incrementally and is not thread-safe
+        synchronized ( l_algorithm )
+        {
+            return p_function.apply( l_algorithm );
+        }
+    }
+
+    /**
+     * returns the cached contraction hierarchy of a graph
+     * and builds it, if it does not exist
+     *
+     * @param p_graph graph
+     * @param p_weightfunction weight function
+     * @return contraction hierarchy
+     */
+    @Nonnull
+    protected static CContractionHierarchy contractionhierarchy( @Nonnull final Graph<Object, Object> p_graph,
+                                                                 @Nonnull final Function<Object, Number> p_weightfunction
+    )
+    {
+        return HIERARCHIES.asMap()
+                          .computeIfAbsent( p_graph, i -> CacheBuilder.newBuilder().maximumSize( CACHEDHIERARCHIES ).build() )
+                          .asMap()
+                          .computeIfAbsent( p_weightfunction, i -> new CContractionHierarchy( p_graph, p_weightfunction ) );
+    }
+
+    /**
+     * invalidates all cached shortest path structures
+     * and contraction hierarchies of a graph
+     *
+     * @param p_graph graph
+     */
+    static void invalidate( @Nonnull final Graph<?, ?> p_graph )
+    {
+        CACHE.invalidate( p_graph );
+        HIERARCHIES.invalidate( p_graph );
+    }
+
+
+    /**
+     * Dijkstra algorithm, which counts the settled vertices
+     */
+    protected static final class CDijkstra extends DijkstraShortestPath<Object, Object>
+    {
+        /**
+         * number of settled vertices
+         */
+        private int m_settled;
+
+        /**
+         * ctor
+         *
+         * @param p_graph graph
+         * @param p_weightfunction weight function
+         */
+        CDijkstra( @Nonnull final Graph<Object, Object> p_graph, @Nonnull final Function<Object, Number> p_weightfunction )
+        {
+            super( p_graph, p_weightfunction );
+        }
+
+        /**
+         * returns the number of vertices, which are settled by all searches
+         * of the algorithm, the algorithm settles each vertex only once
+         *
+         * @return number of settled vertices
+         */
+        @Nonnegative
+        public int settled()
+        {
+            return m_settled;
+        }
+
+        @Override
+        protected Collection<Object> getEdgesToCheck( final Object p_vertex )
+        {
+            // the edges are checked once for each settled vertex
+            m_settled++;
+            return super.getEdgesToCheck( p_vertex );
+        }
+    }
+
+
+    /**
+     * weight function with equality based on the identity
+     * and size of the weight-map and the default weight,
+     * the weight-map is not copied, so equal functions of
+     * many calls share one weight-map
+     */
+    static final class CWeightFunction implements Function<Object, Number>
+    {
+        /**
+         * weight map
+         */
+        private final Map<Object, Number> m_weights;
+        /**
+         * size of the weight map on creating
+         */
+        private final int m_size;
+        /**
+         * default weight
+         */
+        private final Number m_defaultweight;
+
+        /**
+         * ctor
+         *
+         * @param p_weights weight map
+         * @param p_defaultweight default weight
+         */
+        CWeightFunction( @Nonnull final Map<Object, Number> p_weights, @Nonnull final Number p_defaultweight )
+        {
+            m_weights = p_weights;
+            m_size = p_weights.size();
+            m_defaultweight = p_defaultweight;
+        }
+
+        @Override
+        public Number apply( final Object p_edge )
+        {
+            return m_weights.getOrDefault( p_edge, m_defaultweight );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * ( 31 * System.identityHashCode( m_weights ) + m_size ) + m_defaultweight.hashCode();
+        }
+
+        @Override
+        public boolean equals( final Object p_object )
+        {
+            return p_object instanceof CWeightFunction
+                   && m_weights == ( (CWeightFunction) p_object ).m_weights
+                   && m_size == ( (CWeightFunction) p_object ).m_size
+                   && m_defaultweight.equals( ( (CWeightFunction) p_object ).m_defaultweight );
+        }
+    }
+
 }
@@ -32,12 +32,21 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
- * apply an element on multiple graphs
+ * apply an element on multiple graphs.
+ * On parallel execution the graphs are processed on the
+ * fork-join pool and the results are added in the ordering
+ * of the graph arguments, modifying actions run in parallel
+ * only if each graph exists once within the arguments
  */
 public abstract class IApplySingle extends IBaseAction
 {
@@ -59,13 +68,42 @@ public abstract class IApplySingle extends IBaseAction
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .skip( this.skipsize() )
-               .forEach( i -> this.apply( p_parallel, i.<Graph<Object, Object>>raw(), p_argument.subList( 0, this.skipsize() ), p_return ) );
+        final int l_skip = this.modesize( p_argument ) + this.skipsize();
+        final List<ITerm> l_window = p_argument.subList( 0, l_skip );
+        final List<Graph<Object, Object>> l_graphs = CCommon.flatten( p_argument )
+                                                            .skip( l_skip )
+                                                            .map( ITerm::<Graph<Object, Object>>raw )
+                                                            .collect( Collectors.toList() );
+
+        if ( !p_parallel || l_graphs.size() < 2 || this.modifying() && !IApplySingle.distinct( l_graphs ) )
+        {
+            l_graphs.forEach( i -> this.apply( p_parallel, i, CMappedGraph.terms( i, l_window ), p_return ) );
+            return Stream.empty();
+        }
+
+        l_graphs.parallelStream()
+                .map( i ->
+                {
+                    final List<ITerm> l_return = new ArrayList<>();
+                    this.apply( true, i, CMappedGraph.terms( i, l_window ), l_return );
+                    return l_return;
+                } )
+                .collect( Collectors.toList() )
+                .forEach( p_return::addAll );
 
         return Stream.empty();
     }
 
+    /**
+     * flag, that the action modifies the graph
+     *
+     * @return modifying flag
+     */
+    protected boolean modifying()
+    {
+        return false;
+    }
+
     /**
      * window size
      *
@@ -73,6 +111,18 @@ public abstract class IApplySingle extends IBaseAction
      */
     protected abstract int skipsize();
 
+    /**
+     * number of leading mode arguments, which
+     * are passed with the window
+     *
+     * @param p_argument arguments
+     * @return mode size
+     */
+    protected int modesize( @Nonnull final List<ITerm> p_argument )
+    {
+        return 0;
+    }
+
 
     /**
      * apply call
@@ -86,4 +136,16 @@ public abstract class IApplySingle extends IBaseAction
                                    @Nonnull final List<ITerm> p_window, @Nonnull final List<ITerm> p_return
     );
 
+    /**
+     * checks if each graph instance exists once
+     *
+     * @param p_graphs graphs
+     * @return distinct flag
+     */
+    private static boolean distinct( @Nonnull final List<Graph<Object, Object>> p_graphs )
+    {
+        final Set<Graph<Object, Object>> l_graphs = Collections.newSetFromMap( new IdentityHashMap<>() );
+        return p_graphs.stream().allMatch( l_graphs::add );
+    }
+
 }
@@ -0,0 +1,590 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import edu.uci.ics.jung.graph.AbstractTypedGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * graph with a compressed-sparse-row adjacency structure.
+ * Each vertex and edge object is mapped once to a dense
+ * int index, the adjacency is stored within primitive
+ * offset / edge-index arrays, which are rebuilt lazily
+ * on the first read access after a modification, so the
+ * structure is designed for load-once-read-many usage,
+ * parallel edges are allowed. Concurrent read access is
+ * thread-safe, the rows are rebuilt once and published as
+ * a whole, modifications must not run concurrently
+ *
+ * @tparam V vertex type
+ * @tparam E edge type
+ * @see <a href="https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_row_(CSR,_CRS_or_Yale_format)"></a>
+ */
+public abstract class ICompressedSparseRowGraph<V, E> extends AbstractTypedGraph<V, E>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7353612873561003513L;
+    /**
+     * initial edge capacity
+     */
+    private static final int INITIALCAPACITY = 16;
+    /**
+     * vertices by index
+     */
+    private final List<V> m_vertices = new ArrayList<>();
+    /**
+     * vertex index
+     */
+    private final Map<V, Integer> m_vertexindex = new HashMap<>();
+    /**
+     * edges by index
+     */
+    private final ArrayList<E> m_edges = new ArrayList<>();
+    /**
+     * edge index
+     */
+    private Map<E, Integer> m_edgeindex = new HashMap<>();
+    /**
+     * source vertex index of each edge
+     */
+    private int[] m_source = new int[INITIALCAPACITY];
+    /**
+     * target vertex index of each edge
+     */
+    private int[] m_target = new int[INITIALCAPACITY];
+    /**
+     * compressed rows, null if the rows must be rebuilt, the rows are
+     * immutable and published at once, so concurrent readers see consistent arrays
+     */
+    private transient volatile CRows m_rows;
+
+
+    /**
+     * ctor
+     *
+     * @param p_type edge type
+     */
+    protected ICompressedSparseRowGraph( @Nonnull final EdgeType p_type )
+    {
+        super( p_type );
+    }
+
+    @Override
+    public final boolean addEdge( final E p_edge, final Pair<? extends V> p_endpoints, final EdgeType p_type )
+    {
+        this.validateEdgeType( p_type );
+        final Pair<V> l_endpoints = this.getValidatedEndpoints( p_edge, p_endpoints );
+        if ( Objects.isNull( l_endpoints ) )
+            return false;
+
+        final int l_source = this.vertex( l_endpoints.getFirst() );
+        final int l_target = this.vertex( l_endpoints.getSecond() );
+        final int l_index = m_edges.size();
+
+        if ( l_index == m_source.length )
+        {
+            m_source = Arrays.copyOf( m_source, l_index << 1 );
+            m_target = Arrays.copyOf( m_target, l_index << 1 );
+        }
+
+        m_source[l_index] = l_source;
+        m_target[l_index] = l_target;
+        m_edges.add( p_edge );
+        m_edgeindex.put( p_edge, l_index );
+        m_rows = null;
+
+        return true;
+    }
+
+    @Override
+    public final boolean addVertex( final V p_vertex )
+    {
+        if ( Objects.isNull( p_vertex ) )
+            throw new IllegalArgumentException( "vertex may not be null" );
+
+        if ( m_vertexindex.containsKey( p_vertex ) )
+            return false;
+
+        this.vertex( p_vertex );
+        return true;
+    }
+
+    @Override
+    public final boolean removeVertex( final V p_vertex )
+    {
+        final Integer l_index = m_vertexindex.remove( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            return false;
+
+        // remove incident edges and shift the vertex indices in one sweep
+        int l_write = 0;
+        for ( int i = 0; i < m_edges.size(); i++ )
+            if ( m_source[i] == l_index || m_target[i] == l_index )
+                m_edgeindex.remove( m_edges.get( i ) );
+            else
+            {
+                m_source[l_write] = m_source[i] > l_index ? m_source[i] - 1 : m_source[i];
+                m_target[l_write] = m_target[i] > l_index ? m_target[i] - 1 : m_target[i];
+                m_edges.set( l_write++, m_edges.get( i ) );
+            }
+
+        m_edges.subList( l_write, m_edges.size() ).clear();
+        for ( int i = 0; i < m_edges.size(); i++ )
+            m_edgeindex.put( m_edges.get( i ), i );
+
+        m_vertices.remove( l_index.intValue() );
+        for ( int i = l_index; i < m_vertices.size(); i++ )
+            m_vertexindex.put( m_vertices.get( i ), i );
+
+        m_rows = null;
+        return true;
+    }
+
+    @Override
+    public final boolean removeEdge( final E p_edge )
+    {
+        final Integer l_index = m_edgeindex.remove( p_edge );
+        if ( Objects.isNull( l_index ) )
+            return false;
+
+        m_edges.remove( l_index.intValue() );
+        System.arraycopy( m_source, l_index + 1, m_source, l_index, m_edges.size() - l_index );
+        System.arraycopy( m_target, l_index + 1, m_target, l_index, m_edges.size() - l_index );
+        for ( int i = l_index; i < m_edges.size(); i++ )
+            m_edgeindex.put( m_edges.get( i ), i );
+
+        m_rows = null;
+        return true;
+    }
+
+    @Override
+    public final Collection<E> getEdges()
+    {
+        return Collections.unmodifiableCollection( m_edges );
+    }
+
+    @Override
+    public final Collection<V> getVertices()
+    {
+        return Collections.unmodifiableCollection( m_vertices );
+    }
+
+    @Override
+    public final boolean containsVertex( final V p_vertex )
+    {
+        return m_vertexindex.containsKey( p_vertex );
+    }
+
+    @Override
+    public final boolean containsEdge( final E p_edge )
+    {
+        return m_edgeindex.containsKey( p_edge );
+    }
+
+    @Override
+    public final int getEdgeCount()
+    {
+        return m_edges.size();
+    }
+
+    @Override
+    public final int getVertexCount()
+    {
+        return m_vertices.size();
+    }
+
+    @Override
+    public final Collection<V> getNeighbors( final V p_vertex )
+    {
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            return null;
+
+        final CRows l_rows = this.compress();
+        final Set<V> l_neighbors = new LinkedHashSet<>();
+        this.opposite( l_index, l_rows.m_outoffset, l_rows.m_outedges, l_neighbors );
+        if ( this.directed() )
+            this.opposite( l_index, l_rows.m_inoffset, l_rows.m_inedges, l_neighbors );
+
+        return Collections.unmodifiableSet( l_neighbors );
+    }
+
+    @Override
+    public final Collection<E> getIncidentEdges( final V p_vertex )
+    {
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            return null;
+
+        final CRows l_rows = this.compress();
+        if ( !this.directed() )
+            return this.edges( l_index, l_rows.m_outoffset, l_rows.m_outedges );
+
+        final Set<E> l_edges = new LinkedHashSet<>( this.edges( l_index, l_rows.m_inoffset, l_rows.m_inedges ) );
+        l_edges.addAll( this.edges( l_index, l_rows.m_outoffset, l_rows.m_outedges ) );
+        return Collections.unmodifiableSet( l_edges );
+    }
+
+    @Override
+    public final Collection<E> getInEdges( final V p_vertex )
+    {
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            return null;
+
+        final CRows l_rows = this.compress();
+        return this.edges( l_index, l_rows.m_inoffset, l_rows.m_inedges );
+    }
+
+    @Override
+    public final Collection<E> getOutEdges( final V p_vertex )
+    {
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            return null;
+
+        final CRows l_rows = this.compress();
+        return this.edges( l_index, l_rows.m_outoffset, l_rows.m_outedges );
+    }
+
+    @Override
+    public final Collection<V> getPredecessors( final V p_vertex )
+    {
+        if ( !this.directed() )
+            return this.getNeighbors( p_vertex );
+
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            return null;
+
+        final CRows l_rows = this.compress();
+        final Set<V> l_predecessors = new LinkedHashSet<>();
+        this.opposite( l_index, l_rows.m_inoffset, l_rows.m_inedges, l_predecessors );
+        return Collections.unmodifiableSet( l_predecessors );
+    }
+
+    @Override
+    public final Collection<V> getSuccessors( final V p_vertex )
+    {
+        if ( !this.directed() )
+            return this.getNeighbors( p_vertex );
+
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            return null;
+
+        final CRows l_rows = this.compress();
+        final Set<V> l_successors = new LinkedHashSet<>();
+        this.opposite( l_index, l_rows.m_outoffset, l_rows.m_outedges, l_successors );
+        return Collections.unmodifiableSet( l_successors );
+    }
+
+    @Override
+    public final int inDegree( final V p_vertex )
+    {
+        final int l_index = this.index( p_vertex );
+        final CRows l_rows = this.compress();
+        return l_rows.m_inoffset[l_index + 1] - l_rows.m_inoffset[l_index];
+    }
+
+    @Override
+    public final int outDegree( final V p_vertex )
+    {
+        final int l_index = this.index( p_vertex );
+        final CRows l_rows = this.compress();
+        return l_rows.m_outoffset[l_index + 1] - l_rows.m_outoffset[l_index];
+    }
+
+    @Override
+    public final V getSource( final E p_edge )
+    {
+        return this.directed() ? m_vertices.get( m_source[this.edge( p_edge )] ) : null;
+    }
+
+    @Override
+    public final V getDest( final E p_edge )
+    {
+        return this.directed() ? m_vertices.get( m_target[this.edge( p_edge )] ) : null;
+    }
+
+    @Override
+    public final boolean isSource( final V p_vertex, final E p_edge )
+    {
+        return this.directed() && this.containsEdge( p_edge ) && Objects.equals( p_vertex, this.getSource( p_edge ) );
+    }
+
+    @Override
+    public final boolean isDest( final V p_vertex, final E p_edge )
+    {
+        return this.directed() && this.containsEdge( p_edge ) && Objects.equals( p_vertex, this.getDest( p_edge ) );
+    }
+
+    @Override
+    public final Pair<V> getEndpoints( final E p_edge )
+    {
+        final Integer l_index = m_edgeindex.get( p_edge );
+        return Objects.isNull( l_index )
+               ? null
+               : new Pair<>( m_vertices.get( m_source[l_index] ), m_vertices.get( m_target[l_index] ) );
+    }
+
+    /**
+     * increases the capacity of the edge storage, so
+     * a number of further edges can be added without
+     * growing the arrays and the edge index
+     *
+     * @param p_edges number of further edges
+     */
+    public final void ensurecapacity( @Nonnegative final int p_edges )
+    {
+        final int l_capacity = m_edges.size() + p_edges;
+        if ( l_capacity > m_source.length )
+        {
+            m_source = Arrays.copyOf( m_source, l_capacity );
+            m_target = Arrays.copyOf( m_target, l_capacity );
+        }
+
+        m_edges.ensureCapacity( l_capacity );
+        // the index is rebuilt only if it grows more than twice, so the copy is amortized
+        if ( p_edges > m_edgeindex.size() )
+        {
+            final Map<E, Integer> l_edgeindex = new HashMap<>( (int) ( l_capacity / 0.75 ) + 1 );
+            l_edgeindex.putAll( m_edgeindex );
+            m_edgeindex = l_edgeindex;
+        }
+    }
+
+    /**
+     * returns the dense index of a vertex
+     *
+     * @param p_vertex vertex
+     * @return index
+     * @throws IllegalArgumentException if the vertex does not exist
+     */
+    @Nonnegative
+    protected final int index( @Nonnull final V p_vertex )
+    {
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.isNull( l_index ) )
+            throw new IllegalArgumentException( "vertex [" + p_vertex + "] does not exist" );
+
+        return l_index;
+    }
+
+    /**
+     * flag of directed edges
+     *
+     * @return directed flag
+     */
+    private boolean directed()
+    {
+        return EdgeType.DIRECTED.equals( this.edge_type );
+    }
+
+    /**
+     * returns the index of a vertex and adds the vertex if needed
+     *
+     * @param p_vertex vertex
+     * @return vertex index
+     */
+    private int vertex( @Nonnull final V p_vertex )
+    {
+        final Integer l_index = m_vertexindex.get( p_vertex );
+        if ( Objects.nonNull( l_index ) )
+            return l_index;
+
+        m_vertexindex.put( p_vertex, m_vertices.size() );
+        m_vertices.add( p_vertex );
+        m_rows = null;
+        return m_vertices.size() - 1;
+    }
+
+    /**
+     * returns the index of an edge
+     *
+     * @param p_edge edge
+     * @return edge index
+     * @throws IllegalArgumentException if the edge does not exist
+     */
+    private int edge( @Nonnull final E p_edge )
+    {
+        final Integer l_index = m_edgeindex.get( p_edge );
+        if ( Objects.isNull( l_index ) )
+            throw new IllegalArgumentException( "edge [" + p_edge + "] does not exist" );
+
+        return l_index;
+    }
+
+    /**
+     * returns the edge objects of a compressed row
+     *
+     * @param p_vertex vertex index
+     * @param p_offset row offsets
+     * @param p_edges edge indices
+     * @return unmodifiable edge list
+     */
+    @Nonnull
+    private List<E> edges( final int p_vertex, @Nonnull final int[] p_offset, @Nonnull final int[] p_edges )
+    {
+        final List<E> l_edges = new ArrayList<>( p_offset[p_vertex + 1] - p_offset[p_vertex] );
+        for ( int i = p_offset[p_vertex]; i < p_offset[p_vertex + 1]; i++ )
+            l_edges.add( m_edges.get( p_edges[i] ) );
+
+        return Collections.unmodifiableList( l_edges );
+    }
+
+    /**
+     * adds the opposite vertex objects of a compressed row
+     *
+     * @param p_vertex vertex index
+     * @param p_offset row offsets
+     * @param p_edges edge indices
+     * @param p_result result collection
+     */
+    private void opposite( final int p_vertex, @Nonnull final int[] p_offset, @Nonnull final int[] p_edges, @Nonnull final Collection<V> p_result )
+    {
+        for ( int i = p_offset[p_vertex]; i < p_offset[p_vertex + 1]; i++ )
+            p_result.add( m_vertices.get( m_source[p_edges[i]] == p_vertex ? m_target[p_edges[i]] : m_source[p_edges[i]] ) );
+    }
+
+    /**
+     * returns the compressed rows and rebuilds
+     * them if the graph was modified
+     *
+     * @return compressed rows
+     */
+    @Nonnull
+    private CRows compress()
+    {
+        final CRows l_rows = m_rows;
+        if ( Objects.nonNull( l_rows ) )
+            return l_rows;
+
+        // double-checked locking, so parallel readers of a modified graph rebuild the rows once
+        synchronized ( this )
+        {
+            if ( Objects.isNull( m_rows ) )
+                m_rows = this.directed()
+                         ? new CRows(
+                             ICompressedSparseRowGraph.compress( m_vertices.size(), m_edges.size(), m_source, null ),
+                             ICompressedSparseRowGraph.compress( m_vertices.size(), m_edges.size(), m_target, null )
+                         )
+                         : new CRows( ICompressedSparseRowGraph.compress( m_vertices.size(), m_edges.size(), m_source, m_target ), null );
+
+            return m_rows;
+        }
+    }
+
+    /**
+     * builds compressed rows with a counting sort
+     *
+     * @param p_vertexcount number of vertices
+     * @param p_edgecount number of edges
+     * @param p_primary primary vertex index of each edge
+     * @param p_secondary optional secondary vertex index of each edge (undirected)
+     * @return array with row offsets and edge indices
+     */
+    @Nonnull
+    private static int[][] compress( final int p_vertexcount, final int p_edgecount, @Nonnull final int[] p_primary, final int[] p_secondary )
+    {
+        final int[] l_offset = new int[p_vertexcount + 1];
+        for ( int i = 0; i < p_edgecount; i++ )
+        {
+            l_offset[p_primary[i] + 1]++;
+            if ( Objects.nonNull( p_secondary ) && p_secondary[i] != p_primary[i] )
+                l_offset[p_secondary[i] + 1]++;
+        }
+
+        for ( int i = 0; i < p_vertexcount; i++ )
+            l_offset[i + 1] += l_offset[i];
+
+        final int[] l_position = Arrays.copyOf( l_offset, p_vertexcount );
+        final int[] l_edges = new int[l_offset[p_vertexcount]];
+        for ( int i = 0; i < p_edgecount; i++ )
+        {
+            l_edges[l_position[p_primary[i]]++] = i;
+            if ( Objects.nonNull( p_secondary ) && p_secondary[i] != p_primary[i] )
+                l_edges[l_position[p_secondary[i]]++] = i;
+        }
+
+        return new int[][]{l_offset, l_edges};
+    }
+
+
+
+    /**
+     * immutable compressed rows
+     */
+    private static final class CRows
+    {
+        /**
+         * row offsets of the outgoing (on undirected graphs incident) edges
+         */
+        private final int[] m_outoffset;
+        /**
+         * edge indices of the outgoing (on undirected graphs incident) edges
+         */
+        private final int[] m_outedges;
+        /**
+         * row offsets of the incoming (on undirected graphs incident) edges
+         */
+        private final int[] m_inoffset;
+        /**
+         * edge indices of the incoming (on undirected graphs incident) edges
+         */
+        private final int[] m_inedges;
+
+        /**
+         * ctor
+         *
+         * @param p_out offsets and edge indices of the outgoing (on undirected graphs incident) edges
+         * @param p_in offsets and edge indices of the incoming edges or null
+         */
+        CRows( @Nonnull final int[][] p_out, final int[][] p_in )
+        {
+            m_outoffset = p_out[0];
+            m_outedges = p_out[1];
+            m_inoffset = Objects.isNull( p_in ) ? p_out[0] : p_in[0];
+            m_inedges = Objects.isNull( p_in ) ? p_out[1] : p_in[1];
+        }
+    }
+
+}
@@ -0,0 +1,511 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import com.google.common.util.concurrent.Striped;
+import edu.uci.ics.jung.graph.AbstractTypedGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * thread-safe graph with concurrent maps and striped locks.
+ * Vertices and edges are stored within concurrent maps,
+ * each modification locks only the lock stripes of the
+ * touched vertices, so multiple agents can read and modify
+ * a single graph in parallel, parallel edges are allowed.
+ * The collections of the graph (vertices, edges) are weakly
+ * consistent views, the collections of a vertex (neighbors,
+ * incident edges) are consistent snapshots
+ *
+ * @tparam V vertex type
+ * @tparam E edge type
+ */
+public abstract class IConcurrentGraph<V, E> extends AbstractTypedGraph<V, E>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2217385434286624097L;
+    /**
+     * number of lock stripes
+     */
+    private static final int STRIPES = 4 * Runtime.getRuntime().availableProcessors();
+    /**
+     * vertices with incident edges
+     */
+    private final ConcurrentMap<V, CIncidence<E>> m_vertices = new ConcurrentHashMap<>();
+    /**
+     * edges with endpoints
+     */
+    private final ConcurrentMap<E, Pair<V>> m_edges = new ConcurrentHashMap<>();
+    /**
+     * vertex locks
+     */
+    private transient Striped<ReadWriteLock> m_locks = Striped.readWriteLock( STRIPES );
+
+
+    /**
+     * ctor
+     *
+     * @param p_type edge type
+     */
+    protected IConcurrentGraph( @Nonnull final EdgeType p_type )
+    {
+        super( p_type );
+    }
+
+    @Override
+    public final boolean addEdge( final E p_edge, final Pair<? extends V> p_endpoints, final EdgeType p_type )
+    {
+        this.validateEdgeType( p_type );
+        if ( Objects.isNull( p_edge ) )
+            throw new IllegalArgumentException( "input edge may not be null" );
+        if ( Objects.isNull( p_endpoints ) )
+            throw new IllegalArgumentException( "endpoints may not be null" );
+
+        final Pair<V> l_endpoints = new Pair<>( p_endpoints.getFirst(), p_endpoints.getSecond() );
+        final List<Lock> l_locks = this.lock( l_endpoints, true );
+        try
+        {
+            final Pair<V> l_existing = m_edges.putIfAbsent( p_edge, l_endpoints );
+            if ( Objects.nonNull( l_existing ) )
+            {
+                if ( l_existing.equals( l_endpoints ) )
+                    return false;
+
+                throw new IllegalArgumentException(
+                    "edge " + p_edge + " already exists in this graph with endpoints " + l_existing + " and cannot be added with endpoints " + p_endpoints
+                );
+            }
+
+            m_vertices.computeIfAbsent( l_endpoints.getFirst(), i -> this.incidence() ).outgoing().add( p_edge );
+            m_vertices.computeIfAbsent( l_endpoints.getSecond(), i -> this.incidence() ).incoming().add( p_edge );
+            return true;
+        }
+        finally
+        {
+            IConcurrentGraph.unlock( l_locks );
+        }
+    }
+
+    @Override
+    public final boolean addVertex( final V p_vertex )
+    {
+        if ( Objects.isNull( p_vertex ) )
+            throw new IllegalArgumentException( "vertex may not be null" );
+
+        final List<Lock> l_locks = this.lock( Collections.singleton( p_vertex ), true );
+        try
+        {
+            return Objects.isNull( m_vertices.putIfAbsent( p_vertex, this.incidence() ) );
+        }
+        finally
+        {
+            IConcurrentGraph.unlock( l_locks );
+        }
+    }
+
+    @Override
+    public final boolean removeVertex( final V p_vertex )
+    {
+        while ( true )
+        {
+            // lock the vertex and all neighbors, the neighbors can change until the locks are hold, so retry on changes
+            final Set<V> l_neighbors = this.neighbors( p_vertex );
+            final List<Lock> l_locks = this.lock( Stream.concat( Stream.of( p_vertex ), l_neighbors.stream() ).collect( Collectors.toList() ), true );
+            try
+            {
+                final CIncidence<E> l_incidence = m_vertices.get( p_vertex );
+                if ( Objects.isNull( l_incidence ) )
+                    return false;
+
+                if ( !l_neighbors.equals( this.neighbors( p_vertex ) ) )
+                    continue;
+
+                Stream.concat( l_incidence.incoming().stream(), l_incidence.outgoing().stream() )
+                      .collect( Collectors.toSet() )
+                      .forEach( this::detach );
+
+                m_vertices.remove( p_vertex );
+                return true;
+            }
+            finally
+            {
+                IConcurrentGraph.unlock( l_locks );
+            }
+        }
+    }
+
+    @Override
+    public final boolean removeEdge( final E p_edge )
+    {
+        while ( true )
+        {
+            // the edge can be replaced until the locks are hold, so retry on changes
+            final Pair<V> l_endpoints = m_edges.get( p_edge );
+            if ( Objects.isNull( l_endpoints ) )
+                return false;
+
+            final List<Lock> l_locks = this.lock( l_endpoints, true );
+            try
+            {
+                if ( l_endpoints.equals( m_edges.get( p_edge ) ) )
+                    return this.detach( p_edge );
+            }
+            finally
+            {
+                IConcurrentGraph.unlock( l_locks );
+            }
+        }
+    }
+
+    @Override
+    public final Collection<E> getEdges()
+    {
+        return Collections.unmodifiableCollection( m_edges.keySet() );
+    }
+
+    @Override
+    public final Collection<V> getVertices()
+    {
+        return Collections.unmodifiableCollection( m_vertices.keySet() );
+    }
+
+    @Override
+    public final boolean containsVertex( final V p_vertex )
+    {
+        return m_vertices.containsKey( p_vertex );
+    }
+
+    @Override
+    public final boolean containsEdge( final E p_edge )
+    {
+        return m_edges.containsKey( p_edge );
+    }
+
+    @Override
+    public final int getEdgeCount()
+    {
+        return m_edges.size();
+    }
+
+    @Override
+    public final int getVertexCount()
+    {
+        return m_vertices.size();
+    }
+
+    @Override
+    public final Collection<V> getNeighbors( final V p_vertex )
+    {
+        return this.containsVertex( p_vertex ) ? Collections.unmodifiableSet( this.neighbors( p_vertex ) ) : null;
+    }
+
+    @Override
+    public final Collection<E> getIncidentEdges( final V p_vertex )
+    {
+        return this.read( p_vertex, i ->
+        {
+            final Set<E> l_edges = new LinkedHashSet<>( i.incoming() );
+            l_edges.addAll( i.outgoing() );
+            return Collections.unmodifiableSet( l_edges );
+        } );
+    }
+
+    @Override
+    public final Collection<E> getInEdges( final V p_vertex )
+    {
+        return this.read( p_vertex, i -> Collections.unmodifiableList( new ArrayList<>( i.incoming() ) ) );
+    }
+
+    @Override
+    public final Collection<E> getOutEdges( final V p_vertex )
+    {
+        return this.read( p_vertex, i -> Collections.unmodifiableList( new ArrayList<>( i.outgoing() ) ) );
+    }
+
+    @Override
+    public final Collection<V> getPredecessors( final V p_vertex )
+    {
+        return this.read( p_vertex, i -> Collections.unmodifiableSet( this.opposite( p_vertex, i.incoming() ) ) );
+    }
+
+    @Override
+    public final Collection<V> getSuccessors( final V p_vertex )
+    {
+        return this.read( p_vertex, i -> Collections.unmodifiableSet( this.opposite( p_vertex, i.outgoing() ) ) );
+    }
+
+    @Override
+    public final V getSource( final E p_edge )
+    {
+        final Pair<V> l_endpoints = m_edges.get( p_edge );
+        return this.directed() && Objects.nonNull( l_endpoints ) ? l_endpoints.getFirst() : null;
+    }
+
+    @Override
+    public final V getDest( final E p_edge )
+    {
+        final Pair<V> l_endpoints = m_edges.get( p_edge );
+        return this.directed() && Objects.nonNull( l_endpoints ) ? l_endpoints.getSecond() : null;
+    }
+
+    @Override
+    public final boolean isSource( final V p_vertex, final E p_edge )
+    {
+        return this.directed() && Objects.nonNull( p_vertex ) && p_vertex.equals( this.getSource( p_edge ) );
+    }
+
+    @Override
+    public final boolean isDest( final V p_vertex, final E p_edge )
+    {
+        return this.directed() && Objects.nonNull( p_vertex ) && p_vertex.equals( this.getDest( p_edge ) );
+    }
+
+    @Override
+    public final Pair<V> getEndpoints( final E p_edge )
+    {
+        return m_edges.get( p_edge );
+    }
+
+    /**
+     * flag of directed edges
+     *
+     * @return directed flag
+     */
+    private boolean directed()
+    {
+        return EdgeType.DIRECTED.equals( this.edge_type );
+    }
+
+    /**
+     * creates an incidence structure, on undirected
+     * graphs incoming and outgoing edges are equal
+     *
+     * @return incidence
+     */
+    @Nonnull
+    private CIncidence<E> incidence()
+    {
+        final Set<E> l_outgoing = ConcurrentHashMap.newKeySet();
+        return new CIncidence<>( this.directed() ? ConcurrentHashMap.newKeySet() : l_outgoing, l_outgoing );
+    }
+
+    /**
+     * removes an edge, the locks of the endpoints must be hold
+     *
+     * @param p_edge edge
+     * @return removing flag
+     */
+    private boolean detach( @Nonnull final E p_edge )
+    {
+        final Pair<V> l_endpoints = m_edges.remove( p_edge );
+        if ( Objects.isNull( l_endpoints ) )
+            return false;
+
+        final CIncidence<E> l_source = m_vertices.get( l_endpoints.getFirst() );
+        if ( Objects.nonNull( l_source ) )
+            l_source.outgoing().remove( p_edge );
+
+        final CIncidence<E> l_target = m_vertices.get( l_endpoints.getSecond() );
+        if ( Objects.nonNull( l_target ) )
+            l_target.incoming().remove( p_edge );
+
+        return true;
+    }
+
+    /**
+     * reads the incidence of a vertex within the read lock
+     *
+     * @param p_vertex vertex
+     * @param p_function read function
+     * @return function result or null if the vertex does not exist
+     * @tparam T result type
+     */
+    private <T> T read( @Nonnull final V p_vertex, @Nonnull final Function<CIncidence<E>, T> p_function )
+    {
+        final List<Lock> l_locks = this.lock( Collections.singleton( p_vertex ), false );
+        try
+        {
+            final CIncidence<E> l_incidence = m_vertices.get( p_vertex );
+            return Objects.isNull( l_incidence ) ? null : p_function.apply( l_incidence );
+        }
+        finally
+        {
+            IConcurrentGraph.unlock( l_locks );
+        }
+    }
+
+    /**
+     * returns a snapshot of the neighbors of a vertex
+     *
+     * @param p_vertex vertex
+     * @return neighbor set, empty if the vertex does not exist
+     */
+    @Nonnull
+    private Set<V> neighbors( @Nonnull final V p_vertex )
+    {
+        final Set<V> l_neighbors = this.read( p_vertex, i ->
+        {
+            final Set<V> l_result = this.opposite( p_vertex, i.incoming() );
+            l_result.addAll( this.opposite( p_vertex, i.outgoing() ) );
+            return l_result;
+        } );
+
+        return Objects.isNull( l_neighbors ) ? new LinkedHashSet<>() : l_neighbors;
+    }
+
+    /**
+     * returns the opposite vertices of edges
+     *
+     * @param p_vertex vertex
+     * @param p_edges edges of the vertex
+     * @return set of opposite vertices
+     */
+    @Nonnull
+    private Set<V> opposite( @Nonnull final V p_vertex, @Nonnull final Collection<E> p_edges )
+    {
+        return p_edges.stream()
+                      .map( m_edges::get )
+                      .filter( Objects::nonNull )
+                      .map( i -> p_vertex.equals( i.getFirst() ) ? i.getSecond() : i.getFirst() )
+                      .collect( Collectors.toCollection( LinkedHashSet::new ) );
+    }
+
+    /**
+     * acquires the stripe locks of vertices in a global order
+     *
+     * @param p_vertices vertices
+     * @param p_write write or read lock
+     * @return acquired locks
+     */
+    @Nonnull
+    private List<Lock> lock( @Nonnull final Iterable<?> p_vertices, final boolean p_write )
+    {
+        final List<Lock> l_locks = new ArrayList<>();
+        m_locks.bulkGet( p_vertices ).forEach( i -> l_locks.add( p_write ? i.writeLock() : i.readLock() ) );
+        l_locks.forEach( Lock::lock );
+        return l_locks;
+    }
+
+    /**
+     * releases locks
+     *
+     * @param p_locks locks
+     */
+    private static void unlock( @Nonnull final List<Lock> p_locks )
+    {
+        p_locks.forEach( Lock::unlock );
+    }
+
+    /**
+     * deserialization with recreating the locks
+     *
+     * @param p_stream object stream
+     * @throws IOException on stream error
+     * @throws ClassNotFoundException on class error
+     */
+    private void readObject( final ObjectInputStream p_stream ) throws IOException, ClassNotFoundException
+    {
+        p_stream.defaultReadObject();
+        m_locks = Striped.readWriteLock( STRIPES );
+    }
+
+
+    /**
+     * incident edges of a vertex
+     *
+     * @tparam T edge type
+     */
+    private static final class CIncidence<T> implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 6135262339262658163L;
+        /**
+         * incoming edges
+         */
+        private final Set<T> m_incoming;
+        /**
+         * outgoing edges
+         */
+        private final Set<T> m_outgoing;
+
+        /**
+         * ctor
+         *
+         * @param p_incoming incoming edges
+         * @param p_outgoing outgoing edges
+         */
+        CIncidence( @Nonnull final Set<T> p_incoming, @Nonnull final Set<T> p_outgoing )
+        {
+            m_incoming = p_incoming;
+            m_outgoing = p_outgoing;
+        }
+
+        /**
+         * returns the incoming edges
+         *
+         * @return edge set
+         */
+        @Nonnull
+        Set<T> incoming()
+        {
+            return m_incoming;
+        }
+
+        /**
+         * returns the outgoing edges
+         *
+         * @return edge set
+         */
+        @Nonnull
+        Set<T> outgoing()
+        {
+            return m_outgoing;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.graph;
+
+import org.lightjason.agentspeak.common.IPath;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * reporter of instrumented graph action calls.
+ * A reporter is registered at the metrics action and gets
+ * each call of an instrumented action, so the measurements
+ * can be forwarded to a logging or monitoring system, the
+ * reporter is called within the executing thread and must
+ * be thread-safe, exceptions of the reporter are ignored
+ *
+ * {@code CMetrics.register( (action, time, results, failed) -> LOGGER.info( action + " " + time ) );}
+ */
+@FunctionalInterface
+public interface IMetricReporter
+{
+
+    /**
+     * reports an action call
+     *
+     * @param p_action action name
+     * @param p_nanoseconds execution time in nanoseconds
+     * @param p_results number of returned elements
+     * @param p_failed flag that the execution has thrown an exception
+     */
+    void report( @Nonnull IPath p_action, @Nonnegative long p_nanoseconds, @Nonnegative long p_results, boolean p_failed );
+
+}
@@ -23,26 +23,48 @@
 
 package org.lightjason.agentspeak.action.graph;
 
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
 import com.codepoetics.protonpack.StreamUtils;
+import edu.uci.ics.jung.algorithms.scoring.PageRank;
 import edu.uci.ics.jung.graph.DirectedSparseGraph;
 import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Forest;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.SparseGraph;
 import edu.uci.ics.jung.graph.SparseMultigraph;
 import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -64,17 +86,617 @@ public final class TestCActionGraph extends IBaseTest
 
         new CCreate().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( "sparse", "SPARSEMULTI", "DIRECTEDSPARSE", "DIRECTEDSPARSEMULTI", "UNDIRECTEDSPARSE", "UNDIRECTEDSPARSEMULTI" )
+            Stream.of( "sparse", "SPARSEMULTI", "DIRECTEDSPARSE", "DIRECTEDSPARSEMULTI", "UNDIRECTEDSPARSE", "UNDIRECTEDSPARSEMULTI", "csr", "DIRECTEDCSR",
+                       "concurrent", "DIRECTEDCONCURRENT" )
                   .map( CRawTerm::of )
                   .collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertEquals( 6, l_return.size() );
+        Assertions.assertEquals( 10, l_return.size() );
         Assertions.assertTrue( l_return.stream().map( ITerm::raw ).allMatch( i -> i instanceof Graph<?, ?> ) );
     }
 
 
+    /**
+     * test bulk loading of edges
+     */
+    @Test
+    public void bulkload()
+    {
+        final Graph<Integer, String> l_sparse = new DirectedSparseGraph<>();
+        final Graph<Integer, String> l_csr = new CDirectedCompressedSparseRowGraph<>();
+        final Graph<Integer, String> l_concurrent = new CDirectedConcurrentGraph<>();
+        l_csr.addEdge( "bulkloadexisting", 0, 1 );
+
+        final List<String> l_edges = IntStream.range( 0, 10000 ).mapToObj( i -> "bulkload" + i ).collect( Collectors.toList() );
+        final List<Integer> l_sources = IntStream.range( 0, 10000 ).map( i -> i % 1000 ).boxed().collect( Collectors.toList() );
+        final List<Integer> l_targets = IntStream.range( 0, 10000 ).map( i -> ( i * 7 + i / 1000 + 1 ) % 1000 ).boxed().collect( Collectors.toList() );
+        final List<List<Object>> l_triples = IntStream.range( 0, 10000 )
+                                                      .mapToObj( i -> Stream.<Object>of( l_edges.get( i ), l_sources.get( i ), l_targets.get( i ) )
+                                                                            .collect( Collectors.toList() ) )
+                                                      .collect( Collectors.toList() );
+
+        new CBulkLoad().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_sparse, l_csr, l_edges, l_sources, l_targets ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CBulkLoad().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_concurrent, l_triples ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( 10000, l_sparse.getEdgeCount() );
+        Assertions.assertEquals( 10001, l_csr.getEdgeCount() );
+        Assertions.assertEquals( 10000, l_concurrent.getEdgeCount() );
+        Assertions.assertEquals( 1000, l_concurrent.getVertexCount() );
+        IntStream.range( 0, 10000 ).forEach( i ->
+        {
+            Assertions.assertEquals( l_sources.get( i ), l_csr.getSource( l_edges.get( i ) ) );
+            Assertions.assertEquals( l_targets.get( i ), l_concurrent.getDest( l_edges.get( i ) ) );
+        } );
+        Assertions.assertEquals( new HashSet<>( l_sparse.getOutEdges( 5 ) ), new HashSet<>( l_concurrent.getOutEdges( 5 ) ) );
+
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CBulkLoad().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_sparse, l_edges, l_sources ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+
+    /**
+     * test loading edge-list files
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void loadedgelist() throws IOException
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Path l_text = Files.createTempFile( "edgelist", ".txt" );
+        final Path l_binary = Files.createTempFile( "edgelist", ".bin" );
+        l_text.toFile().deleteOnExit();
+        l_binary.toFile().deleteOnExit();
+
+        // different separators, line endings, comments and identifiers
+        final StringBuilder l_content = new StringBuilder( "# comment\n% comment\nsingle\n\n" );
+        IntStream.range( 0, 20000 ).forEach( i ->
+        {
+            switch ( i % 4 )
+            {
+                case 0:
+                    l_content.append( i ).append( ' ' ).append( i + 1 ).append( '\n' );
+                    break;
+                case 1:
+                    l_content.append( i ).append( ", " ).append( i + 1 ).append( ",edge" ).append( i ).append( "\r\n" );
+                    break;
+                case 2:
+                    l_content.append( "  " ).append( i ).append( '\t' ).append( -i ).append( '\n' );
+                    break;
+                default:
+                    l_content.append( "vertex" ).append( i ).append( ';' ).append( i ).append( '\n' );
+            }
+        } );
+        Files.write( l_text, l_content.toString().getBytes( StandardCharsets.UTF_8 ) );
+
+        final ByteBuffer l_records = ByteBuffer.allocate( 16 * 1000 + 8 );
+        IntStream.range( 0, 1000 ).forEach( i -> l_records.putLong( i ).putLong( ( i + 1 ) % 1000 ) );
+        Files.write( l_binary, l_records.array() );
+
+        new CLoadEdgeList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "directedsparsemulti", l_text.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CLoadEdgeList().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_text.toString(), "directedconcurrent" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CLoadEdgeList().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( "binary", l_binary.toString(), "directedcsr" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof DirectedSparseMultigraph<?, ?> );
+        Assertions.assertTrue( l_return.get( 1 ).raw() instanceof CDirectedConcurrentGraph<?, ?> );
+        Assertions.assertTrue( l_return.get( 2 ).raw() instanceof CDirectedCompressedSparseRowGraph<?, ?> );
+
+        final Graph<Object, Object> l_sequential = l_return.get( 0 ).raw();
+        final Graph<Object, Object> l_parallel = l_return.get( 1 ).raw();
+        Assertions.assertEquals( 20000, l_sequential.getEdgeCount() );
+        Assertions.assertEquals( new HashSet<>( l_sequential.getEdges() ), new HashSet<>( l_parallel.getEdges() ) );
+        l_sequential.getEdges().forEach( i -> Assertions.assertEquals( l_sequential.getEndpoints( i ), l_parallel.getEndpoints( i ) ) );
+
+        Assertions.assertEquals( 1L, l_sequential.getDest( 0L ) );
+        Assertions.assertEquals( 6L, l_sequential.getDest( "edge5" ) );
+        Assertions.assertEquals( -6L, l_sequential.getDest( 6L ) );
+        Assertions.assertEquals( "vertex7", l_sequential.getSource( 7L ) );
+
+        final Graph<Object, Object> l_recordgraph = l_return.get( 2 ).raw();
+        Assertions.assertEquals( 1000, l_recordgraph.getEdgeCount() );
+        Assertions.assertEquals( 1000, l_recordgraph.getVertexCount() );
+        Assertions.assertEquals( 0L, l_recordgraph.getDest( 999L ) );
+
+        Assertions.assertThrows( IllegalStateException.class, () -> new CLoadEdgeList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_text.toString() + ".missing" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        // numeric identifiers and numbered edges can collide
+        Files.write( l_text, "1 2 1\n3 4\n".getBytes( StandardCharsets.UTF_8 ) );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CLoadEdgeList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_text.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+    }
+
+
+    /**
+     * test saving and loading the binary format
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void saveload() throws IOException
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Path l_mixedfile = Files.createTempFile( "graph", ".bin" );
+        final Path l_directedfile = Files.createTempFile( "graph", ".bin" );
+        l_mixedfile.toFile().deleteOnExit();
+        l_directedfile.toFile().deleteOnExit();
+
+        // mixed edge types, parallel edges, loops, an isolated vertex and different value types
+        final Graph<Object, Object> l_mixed = new SparseMultigraph<>();
+        final Map<Object, Number> l_weight = new HashMap<>();
+        l_mixed.addEdge( "saveload1", 1, 2, EdgeType.DIRECTED );
+        l_mixed.addEdge( "saveload2", 1, 2, EdgeType.DIRECTED );
+        l_mixed.addEdge( 3L, 2, "vertex", EdgeType.UNDIRECTED );
+        l_mixed.addEdge( 4.5, "vertex", -7L, EdgeType.DIRECTED );
+        l_mixed.addEdge( -5, -7L, -7L, EdgeType.UNDIRECTED );
+        l_mixed.addVertex( 0.25 );
+        l_weight.put( "saveload1", 3 );
+        l_weight.put( 3L, 0.5 );
+
+        final Graph<Object, Object> l_directed = new DirectedSparseGraph<>();
+        final Random l_random = new Random( 3 );
+        IntStream.range( 0, 5000 ).forEach( i -> l_directed.addEdge( "saveloaddirected" + i, l_random.nextInt( 1000 ), l_random.nextInt( 1000 ) ) );
+
+        new CSave().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mixedfile.toString(), l_mixed, l_weight, 2, l_directedfile.toString(), l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CLoad().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mixedfile.toString(), l_directedfile.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CLoad().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( "directedconcurrent", l_directedfile.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 6, l_return.size() );
+
+        final Graph<Object, Object> l_mixedload = l_return.get( 0 ).raw();
+        Assertions.assertEquals( new HashSet<>( l_mixed.getVertices() ), new HashSet<>( l_mixedload.getVertices() ) );
+        Assertions.assertEquals( new HashSet<>( l_mixed.getEdges() ), new HashSet<>( l_mixedload.getEdges() ) );
+        l_mixed.getEdges().forEach( i ->
+        {
+            Assertions.assertEquals( l_mixed.getEndpoints( i ), l_mixedload.getEndpoints( i ) );
+            Assertions.assertEquals( l_mixed.getEdgeType( i ), l_mixedload.getEdgeType( i ) );
+            Assertions.assertEquals( l_weight.getOrDefault( i, 2 ).doubleValue(), l_return.get( 1 ).<Map<?, Double>>raw().get( i ) );
+        } );
+
+        Stream.of( 2, 4 ).forEach( j ->
+        {
+            final Graph<Object, Object> l_load = l_return.get( j ).raw();
+            Assertions.assertEquals( l_directed.getVertexCount(), l_load.getVertexCount() );
+            Assertions.assertEquals( l_directed.getEdgeCount(), l_load.getEdgeCount() );
+            Assertions.assertEquals( l_directed.getEdgeCount(), l_return.get( j + 1 ).<Map<?, ?>>raw().size() );
+            l_directed.getEdges().forEach( i -> Assertions.assertEquals( l_directed.getEndpoints( i ), l_load.getEndpoints( i ) ) );
+        } );
+        Assertions.assertTrue( l_return.get( 4 ).raw() instanceof CDirectedConcurrentGraph<?, ?> );
+
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CSave().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mixedfile.toString(), l_mixed, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+        Assertions.assertThrows( IllegalStateException.class, () -> new CLoad().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mixedfile.toString() + ".missing" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+    }
+
+
+    /**
+     * test the memory-mapped graph
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void mapped() throws IOException
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Path l_directedfile = Files.createTempFile( "graph", ".adj" );
+        final Path l_undirectedfile = Files.createTempFile( "graph", ".adj" );
+        l_directedfile.toFile().deleteOnExit();
+        l_undirectedfile.toFile().deleteOnExit();
+
+        // parallel edges and loops are stored in both graphs
+        final Random l_random = new Random( 5 );
+        final Graph<Object, Object> l_directed = new DirectedSparseMultigraph<>();
+        final Graph<Object, Object> l_undirected = new UndirectedSparseMultigraph<>();
+        IntStream.range( 0, 300 ).forEach( i ->
+        {
+            l_directed.addVertex( "mapped" + i );
+            l_undirected.addVertex( "mapped" + i );
+        } );
+        IntStream.range( 0, 2000 ).forEach( i ->
+        {
+            l_directed.addEdge( i, "mapped" + l_random.nextInt( 300 ), "mapped" + l_random.nextInt( 300 ) );
+            l_undirected.addEdge( i, "mapped" + l_random.nextInt( 300 ), "mapped" + l_random.nextInt( 300 ) );
+        } );
+
+        new CSave().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "mapped", l_directedfile.toString(), l_directed, l_undirectedfile.toString(), l_undirected )
+                  .map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "mapped", l_directedfile.toString(), "mapped", l_undirectedfile.toString(), "sparse" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertTrue( l_return.get( 2 ).raw() instanceof SparseGraph<?, ?> );
+        CMappedGraph.dictionaryfile( l_directedfile ).toFile().deleteOnExit();
+        CMappedGraph.dictionaryfile( l_undirectedfile ).toFile().deleteOnExit();
+
+        final List<ITerm> l_dictionary = new ArrayList<>();
+        new CDictionary().execute( false, IContext.EMPTYPLAN, l_return, l_dictionary );
+        Assertions.assertEquals( 4, l_dictionary.size() );
+
+        Stream.of( l_directed, l_undirected ).forEach( i ->
+        {
+            final Graph<Object, Object> l_mapped = l_return.get( i == l_directed ? 0 : 1 ).raw();
+            final Map<Object, Integer> l_index = CGraphIndex.of( i ).map();
+            final List<Object> l_edges = new ArrayList<>( i.getEdges() );
+
+            // the dictionary maps the indices back to the vertices and edges
+            final List<Object> l_vertexdictionary = l_dictionary.get( i == l_directed ? 0 : 2 ).raw();
+            Assertions.assertEquals( l_edges, l_dictionary.get( i == l_directed ? 1 : 3 ).raw() );
+            i.getVertices().forEach( j -> Assertions.assertEquals( j, l_vertexdictionary.get( l_index.get( j ) ) ) );
+
+            // the index of the mapped graph is the identity
+            final CGraphIndex l_mappedindex = CGraphIndex.of( l_mapped );
+            Assertions.assertSame( l_mapped.getVertices().getClass(), l_mappedindex.vertices().getClass() );
+            Assertions.assertEquals( 17, l_mappedindex.index( 17 ) );
+            Assertions.assertEquals( -1, l_mappedindex.index( "mapped17" ) );
+            Assertions.assertEquals( -1, l_mappedindex.index( 300 ) );
+            Assertions.assertEquals( 300, l_mappedindex.map().size() );
+            Assertions.assertEquals( l_edges.size(), l_mappedindex.edges( false, l_mapped ).m_edges.length );
+
+            Assertions.assertEquals( i.getVertexCount(), l_mapped.getVertexCount() );
+            Assertions.assertEquals( i.getEdgeCount(), l_mapped.getEdgeCount() );
+            Assertions.assertEquals( i.getDefaultEdgeType(), l_mapped.getDefaultEdgeType() );
+
+            IntStream.range( 0, l_edges.size() ).forEach( j -> Assertions.assertEquals(
+                new edu.uci.ics.jung.graph.util.Pair<>(
+                    l_index.get( i.getEndpoints( l_edges.get( j ) ).getFirst() ), l_index.get( i.getEndpoints( l_edges.get( j ) ).getSecond() ) ),
+                l_mapped.getEndpoints( j )
+            ) );
+
+            i.getVertices().forEach( j ->
+            {
+                Assertions.assertEquals( i.inDegree( j ), l_mapped.inDegree( l_index.get( j ) ) );
+                Assertions.assertEquals( i.outDegree( j ), l_mapped.outDegree( l_index.get( j ) ) );
+                Assertions.assertEquals( i.getIncidentEdges( j ).size(), l_mapped.getIncidentEdges( l_index.get( j ) ).size() );
+                Assertions.assertEquals(
+                    i.getSuccessors( j ).stream().map( l_index::get ).collect( Collectors.toSet() ),
+                    new HashSet<>( l_mapped.getSuccessors( l_index.get( j ) ) )
+                );
+            } );
+        } );
+
+        final Graph<Object, Object> l_mapped = l_return.get( 0 ).raw();
+        Assertions.assertFalse( l_mapped.containsVertex( "mapped0" ) );
+
+        // numbers of an agent are doubles, which address the integer vertices
+        final List<ITerm> l_agent = new ArrayList<>();
+        final Object l_neighbor = l_mapped.getNeighbors( 5 ).iterator().next();
+        new CContainsVertex().execute( false, IContext.EMPTYPLAN, Stream.of( 5D, l_mapped ).map( CRawTerm::of ).collect( Collectors.toList() ), l_agent );
+        new CNeighborsSingle().execute( false, IContext.EMPTYPLAN, Stream.of( 5D, l_mapped ).map( CRawTerm::of ).collect( Collectors.toList() ), l_agent );
+        new CIsNeighborSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 5D, ( (Integer) l_neighbor ).doubleValue(), l_mapped ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_agent
+        );
+        new CDistancePath().execute( false, IContext.EMPTYPLAN, Stream.of( 5D, 17D, l_mapped ).map( CRawTerm::of ).collect( Collectors.toList() ), l_agent );
+        new CDistancePath().execute( false, IContext.EMPTYPLAN, Stream.of( 5, 17, l_mapped ).map( CRawTerm::of ).collect( Collectors.toList() ), l_agent );
+
+        Assertions.assertTrue( l_agent.get( 0 ).<Boolean>raw() );
+        Assertions.assertEquals( new ArrayList<>( l_mapped.getNeighbors( 5 ) ), l_agent.get( 1 ).raw() );
+        Assertions.assertTrue( l_agent.get( 2 ).<Boolean>raw() );
+        Assertions.assertTrue( Double.isFinite( l_agent.get( 4 ).<Number>raw().doubleValue() ) );
+        Assertions.assertEquals( l_agent.get( 4 ).<Number>raw(), l_agent.get( 3 ).<Number>raw() );
+        Assertions.assertEquals( 5, CGraphIndex.of( l_mapped ).index( 5D ) );
+        Assertions.assertFalse( l_mapped.containsEdge( 2000 ) );
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> l_mapped.addVertex( 300 ) );
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> l_mapped.removeEdge( 0 ) );
+
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CCreate().execute(
+            false, IContext.EMPTYPLAN, Stream.of( "mapped" ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+        ) );
+        Assertions.assertThrows( IllegalStateException.class, () -> new CCreate().execute(
+            false, IContext.EMPTYPLAN, Stream.of( "mapped", l_directedfile.toString() + ".missing" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            new ArrayList<>()
+        ) );
+
+        Files.delete( CMappedGraph.dictionaryfile( l_directedfile ) );
+        Assertions.assertThrows( IllegalStateException.class, () -> new CDictionary().execute(
+            false, IContext.EMPTYPLAN, List.of( l_return.get( 0 ) ), new ArrayList<>()
+        ) );
+    }
+
+
+    /**
+     * test the metrics of instrumented actions
+     */
+    @Test
+    public void metrics()
+    {
+        CMetrics.reset();
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<Long> l_reported = new ArrayList<>();
+        final IMetricReporter l_reporter = ( i, j, k, l ) -> l_reported.add( k );
+        // a failing reporter changes neither the result nor the exception of the action
+        final IMetricReporter l_failing = ( i, j, k, l ) ->
+        {
+            throw new IllegalStateException( "reporter" );
+        };
+        final IBaseAction l_create = CMetrics.instrument( new CCreate() );
+
+        Assertions.assertSame( l_create, CMetrics.instrument( l_create ) );
+        Assertions.assertEquals( new CCreate().name(), l_create.name() );
+        Assertions.assertEquals( new CCreate().minimalArgumentNumber(), l_create.minimalArgumentNumber() );
+
+        CMetrics.register( l_failing );
+        CMetrics.register( l_reporter );
+        l_create.execute( false, IContext.EMPTYPLAN, Stream.of( "sparse", "csr" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        l_create.execute( false, IContext.EMPTYPLAN, Stream.of( "directedsparse" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        Assertions.assertThrows( IllegalArgumentException.class, () -> l_create.execute(
+            false, IContext.EMPTYPLAN, Stream.of( "mapped" ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+        ) );
+        Assertions.assertTrue( CMetrics.unregister( l_reporter ) );
+        Assertions.assertTrue( CMetrics.unregister( l_failing ) );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertEquals( List.of( 2L, 1L, 0L ), l_reported );
+
+        l_return.clear();
+        new CMetrics().execute(
+            false, IContext.EMPTYPLAN, Stream.of( l_create.name().toString(), "graph/unknown" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return
+        );
+        new CMetrics().execute( false, IContext.EMPTYPLAN, Stream.of( 5, true ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        final Map<String, Object> l_metric = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 3L, l_metric.get( "calls" ) );
+        Assertions.assertEquals( 1L, l_metric.get( "failures" ) );
+        Assertions.assertEquals( 3L, l_metric.get( "results" ) );
+        Assertions.assertEquals( 3L, l_return.get( 0 ).<Map<String, Map<Long, Long>>>raw().get( "histogram" ).values().stream().mapToLong( i -> i ).sum() );
+        Assertions.assertTrue( (Long) l_metric.get( "p50" ) <= (Long) l_metric.get( "p99" ) );
+        Assertions.assertTrue( (Long) l_metric.get( "max" ) <= (Long) l_metric.get( "p99" ) );
+        Assertions.assertTrue( l_return.get( 1 ).<Map<?, ?>>raw().isEmpty() );
+        Assertions.assertEquals( l_metric, l_return.get( 2 ).<Map<String, Object>>raw().get( l_create.name().toString() ) );
+
+        // collections, maps and matrices are counted with their number of elements
+        final Graph<Object, Object> l_graph = new UndirectedSparseGraph<>();
+        IntStream.range( 0, 4 ).forEach( i -> l_graph.addEdge( "metrics" + i, i, i + 1 ) );
+        CMetrics.instrument( new CVertexIndex() ).execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( l_graph ) ), new ArrayList<>() );
+        CMetrics.instrument( new CAdjacencyMatrix() ).execute(
+            false, IContext.EMPTYPLAN, Stream.of( "dense", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+        );
+        Assertions.assertEquals( 5L, CMetrics.metric( new CVertexIndex().name().toString() ).results() );
+        Assertions.assertEquals( 30L, CMetrics.metric( new CAdjacencyMatrix().name().toString() ).results() );
+
+        new CMetrics().execute( false, IContext.EMPTYPLAN, Stream.of( "reset" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertNull( CMetrics.metric( l_create.name().toString() ) );
+    }
+
+
+    /**
+     * test the flight recorder events
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void flightrecorder() throws IOException
+    {
+        final Path l_file = Files.createTempFile( "graph", ".jfr" );
+        l_file.toFile().deleteOnExit();
+
+        final Graph<Object, Object> l_graph = new UndirectedSparseGraph<>();
+        IntStream.range( 0, 10 ).forEach( i -> l_graph.addEdge( "flightrecorder" + i, i, i + 1 ) );
+
+        try ( Recording l_recording = new Recording() )
+        {
+            Stream.of( "Path", "SpanningTree", "AdjacencyMatrix" ).forEach( i -> l_recording.enable( "org.lightjason.agentspeak.action.graph." + i ) );
+            l_recording.start();
+
+            new CShortestPath().execute(
+                false, IContext.EMPTYPLAN, Stream.of( 0, 10, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+            );
+            new CDistancePath().execute(
+                false, IContext.EMPTYPLAN, Stream.of( 0, 5, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+            );
+            new CDistancePath().execute(
+                false, IContext.EMPTYPLAN, Stream.of( "bidirectional", 0, 10, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+            );
+            new CSpanningTree().execute(
+                true, IContext.EMPTYPLAN, Stream.of( "kruskal", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+            );
+            new CAdjacencyMatrix().execute(
+                false, IContext.EMPTYPLAN, Stream.of( "csr", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+            );
+
+            l_recording.stop();
+            l_recording.dump( l_file );
+        }
+
+        final Map<String, List<RecordedEvent>> l_events = RecordingFile.readAllEvents( l_file ).stream()
+                                                                       .sorted( Comparator.comparing( RecordedEvent::getStartTime ) )
+                                                                       .collect( Collectors.groupingBy( i -> i.getEventType().getName() ) );
+
+        final List<RecordedEvent> l_path = l_events.get( "org.lightjason.agentspeak.action.graph.Path" );
+        Assertions.assertEquals( 3, l_path.size() );
+        Assertions.assertEquals( 11, l_path.get( 0 ).getInt( "vertices" ) );
+        Assertions.assertEquals( 10, l_path.get( 0 ).getInt( "edges" ) );
+        Assertions.assertTrue( l_path.get( 0 ).getInt( "settled" ) >= 10 );
+        // the vertices of the second search have been settled by the first one
+        Assertions.assertEquals( 0, l_path.get( 1 ).getInt( "settled" ) );
+        Assertions.assertTrue( l_path.get( 2 ).getBoolean( "bidirectional" ) );
+        Assertions.assertTrue( l_path.get( 2 ).getInt( "settled" ) > 0 );
+
+        final RecordedEvent l_tree = l_events.get( "org.lightjason.agentspeak.action.graph.SpanningTree" ).get( 0 );
+        Assertions.assertEquals( "KRUSKAL", l_tree.getString( "engine" ) );
+        Assertions.assertTrue( l_tree.getBoolean( "parallel" ) );
+
+        final RecordedEvent l_matrix = l_events.get( "org.lightjason.agentspeak.action.graph.AdjacencyMatrix" ).get( 0 );
+        Assertions.assertEquals( "CSR", l_matrix.getString( "type" ) );
+        Assertions.assertEquals( 11, l_matrix.getInt( "rows" ) );
+        Assertions.assertEquals( 11, l_matrix.getInt( "columns" ) );
+        Assertions.assertEquals( 10, l_matrix.getInt( "edges" ) );
+    }
+
+
+    /**
+     * test compressed-sparse-row graphs
+     */
+    @Test
+    public void compressedsparserow()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_undirected = new CUndirectedCompressedSparseRowGraph<>();
+        final Graph<Integer, String> l_directed = new CDirectedCompressedSparseRowGraph<>();
+
+        new CAddEdgeMultiple().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_undirected, "csr12", 1, 2, "csr23", 2, 3, "csr34", 3, 4, "csr26", 2, 6, "csr11", 1, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CAddEdgeMultiple().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_directed, "csr12", 1, 2, "csr23", 2, 3, "csr31", 3, 1, "csr24", 2, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( 5, l_undirected.getVertexCount() );
+        Assertions.assertEquals( 5, l_undirected.getEdgeCount() );
+        Assertions.assertArrayEquals( Stream.of( 1, 3, 6 ).toArray(), l_undirected.getNeighbors( 2 ).toArray() );
+        Assertions.assertEquals( 2, l_undirected.degree( 1 ) );
+        Assertions.assertEquals( "csr23", l_undirected.findEdge( 3, 2 ) );
+
+        Assertions.assertArrayEquals( Stream.of( 3 ).toArray(), l_directed.getPredecessors( 1 ).toArray() );
+        Assertions.assertArrayEquals( Stream.of( 3, 4 ).toArray(), l_directed.getSuccessors( 2 ).toArray() );
+        Assertions.assertEquals( 2, l_directed.outDegree( 2 ) );
+        Assertions.assertEquals( 1, l_directed.inDegree( 2 ) );
+        Assertions.assertEquals( 1, (long) l_directed.getSource( "csr12" ) );
+        Assertions.assertNull( l_directed.findEdge( 2, 1 ) );
+
+        new CShortestPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 1, l_undirected, l_directed, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals( Stream.of( "csr12", "csr23", "csr34" ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
+        Assertions.assertArrayEquals( Stream.of( "csr12", "csr24" ).toArray(), l_return.get( 1 ).<List<?>>raw().toArray() );
+
+        new CRemoveVertexSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertArrayEquals( Stream.of( 1, 3, 4, 6 ).toArray(), l_undirected.getVertices().toArray() );
+        Assertions.assertArrayEquals( Stream.of( "csr34", "csr11" ).toArray(), l_undirected.getEdges().toArray() );
+        Assertions.assertArrayEquals( Stream.of( 4 ).toArray(), l_undirected.getNeighbors( 3 ).toArray() );
+        Assertions.assertTrue( l_undirected.getNeighbors( 6 ).isEmpty() );
+
+        Assertions.assertArrayEquals( Stream.of( "csr31" ).toArray(), l_directed.getEdges().toArray() );
+        Assertions.assertTrue( l_directed.removeEdge( "csr31" ) );
+        Assertions.assertEquals( 0, l_directed.getEdgeCount() );
+        Assertions.assertTrue( l_directed.getIncidentEdges( 1 ).isEmpty() );
+
+        // parallel readers of a modified graph rebuild the rows once and see consistent rows
+        IntStream.range( 0, 20 ).forEach( j ->
+        {
+            IntStream.range( 0, 500 ).forEach( i -> l_directed.addEdge( "csrparallel" + j + "_" + i, i, ( i + j + 1 ) % 500 ) );
+            Assertions.assertTrue( IntStream.range( 0, 500 ).parallel().allMatch( i -> l_directed.outDegree( i ) == j + 1 && l_directed.inDegree( i ) == j + 1 ) );
+        } );
+    }
+
+
+    /**
+     * test concurrent graphs
+     */
+    @Test
+    public void concurrent()
+    {
+        final Graph<Integer, String> l_undirected = new CUndirectedConcurrentGraph<>();
+        final Graph<Integer, String> l_directed = new CDirectedConcurrentGraph<>();
+
+        IntStream.range( 0, 1000 )
+                 .parallel()
+                 .forEach( i -> new CAddEdgeSingle().execute(
+                     true, IContext.EMPTYPLAN,
+                     Stream.of( "concurrent" + i, i, ( i + 1 ) % 1000, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                     Collections.emptyList()
+                 ) );
+
+        Assertions.assertEquals( 1000, l_undirected.getEdgeCount() );
+        Assertions.assertEquals( 1000, l_directed.getVertexCount() );
+        Assertions.assertEquals( Stream.of( 1, 999 ).collect( Collectors.toSet() ), l_undirected.getNeighbors( 0 ) );
+        Assertions.assertArrayEquals( Stream.of( 1 ).toArray(), l_directed.getSuccessors( 0 ).toArray() );
+        Assertions.assertArrayEquals( Stream.of( 999 ).toArray(), l_directed.getPredecessors( 0 ).toArray() );
+        Assertions.assertEquals( 0, (long) l_directed.getSource( "concurrent0" ) );
+        Assertions.assertNull( l_undirected.getSource( "concurrent0" ) );
+
+        IntStream.range( 0, 500 )
+                 .parallel()
+                 .forEach( i -> new CRemoveVertexSingle().execute(
+                     true, IContext.EMPTYPLAN,
+                     Stream.of( 2 * i, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                     Collections.emptyList()
+                 ) );
+
+        Assertions.assertEquals( 500, l_undirected.getVertexCount() );
+        Assertions.assertEquals( 0, l_undirected.getEdgeCount() );
+        Assertions.assertEquals( 0, l_directed.getEdgeCount() );
+        Assertions.assertTrue( l_directed.getIncidentEdges( 1 ).isEmpty() );
+        Assertions.assertTrue( l_directed.removeVertex( 1 ) );
+        Assertions.assertFalse( l_directed.removeVertex( 1 ) );
+    }
+
+
     /**
      * test add-vertex single
      */
@@ -239,6 +861,101 @@ public final class TestCActionGraph extends IBaseTest
     }
 
 
+    /**
+     * test stable vertex index
+     */
+    @Test
+    public void vertexindex()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new SparseGraph<>();
+
+        new CVertexIndex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CAddVertexMultiple().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_graph, 10, 20, 30 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CAddEdgeSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "index", 30, 40, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CVertexIndex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CRemoveVertexSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 20, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        // modifications outside the actions are merged in
+        l_graph.addVertex( 50 );
+
+        new CVertexIndex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Stream.of( 1, 2 )
+              .forEach( i -> new CAdjacencyMatrix().execute(
+                  false, IContext.EMPTYPLAN,
+                  Stream.of( "dense", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+
+        final Map<Object, Integer> l_index = new HashMap<>();
+        Assertions.assertEquals( l_index, l_return.get( 0 ).raw() );
+
+        Stream.of( 10, 20, 30, 40 ).forEach( i -> l_index.put( i, l_index.size() ) );
+        Assertions.assertEquals( l_index, l_return.get( 1 ).raw() );
+
+        l_index.remove( 20 );
+        l_index.put( 40, 1 );
+        l_index.put( 50, 3 );
+        Assertions.assertEquals( l_index, l_return.get( 2 ).raw() );
+
+        Assertions.assertArrayEquals( Stream.of( 10, 40, 30, 50 ).toArray(), l_return.get( 4 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( l_return.get( 3 ).<Object>raw(), l_return.get( 5 ).<Object>raw() );
+        Assertions.assertEquals( 1D, l_return.get( 3 ).<DoubleMatrix2D>raw().getQuick( 2, 1 ) );
+        l_return.clear();
+
+        // a vertex, which is removed outside the actions, and a new one do not change the number of vertices
+        l_graph.removeVertex( 10 );
+        l_graph.addEdge( "index2", 50, 60 );
+
+        new CVertexIndex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CAdjacencyMatrix().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "dense", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        l_index.clear();
+        Stream.of( 50, 40, 30, 60 ).forEach( i -> l_index.put( i, l_index.size() ) );
+        Assertions.assertEquals( l_index, l_return.get( 0 ).raw() );
+        Assertions.assertEquals( 1D, l_return.get( 1 ).<DoubleMatrix2D>raw().getQuick( 0, 3 ) );
+        Assertions.assertEquals( 1D, l_return.get( 1 ).<DoubleMatrix2D>raw().getQuick( 2, 1 ) );
+    }
+
+
     /**
      * test edges
      */
@@ -255,221 +972,926 @@ public final class TestCActionGraph extends IBaseTest
 
         new CEdges().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertArrayEquals( Stream.of( "a", "b", "c", "d" ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
+    }
+
+
+    /**
+     * test adjacency matrix
+     */
+    @Test
+    public void adjacencymatrix()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+
+        l_graph.addEdge( "x", 1, 1 );
+        l_graph.addEdge( "y", 1, 2 );
+        l_graph.addEdge( "z", 1, 5 );
+
+        l_graph.addEdge( "xx", 2, 3 );
+        l_graph.addEdge( "yy", 2, 5 );
+
+        l_graph.addEdge( "xxx", 3, 4 );
+
+        l_graph.addEdge( "xxxx", 4, 5 );
+        l_graph.addEdge( "yyyy", 4, 6 );
+
+
+        new CAdjacencyMatrix().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertArrayEquals( Stream.of( 1, 2, 3, 4, 5, 6 ).toArray(), l_return.get( 1 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( new DenseDoubleMatrix2D( new double[][]{
+            {2, 1, 0, 0, 1, 0}, {1, 0, 1, 0, 1, 0}, {0, 1, 0, 1, 0, 0},
+            {0, 0, 1, 0, 1, 1}, {1, 1, 0, 1, 0, 0}, {0, 0, 0, 1, 0, 0}
+        } ), l_return.get( 0 ).raw() );
+    }
+
+
+    /**
+     * test parallel adjacency matrix
+     */
+    @Test
+    public void adjacencymatrixparallel()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_undirected = new UndirectedSparseMultigraph<>();
+        final Graph<Integer, String> l_directed = new DirectedSparseMultigraph<>();
+        final Map<Object, Number> l_cost = new HashMap<>();
+        final Random l_random = new Random( 17 );
+
+        IntStream.range( 0, 2000 )
+                 .forEach( i ->
+                 {
+                     final int l_source = l_random.nextInt( 100 );
+                     final int l_target = l_random.nextInt( 100 );
+                     l_undirected.addEdge( "parallelmatrix" + i, l_source, l_target );
+                     l_directed.addEdge( "parallelmatrix" + i, l_source, l_target );
+                     l_cost.put( "parallelmatrix" + i, l_random.nextInt( 5 ) );
+                 } );
+
+        Stream.of( false, true )
+              .forEach( i -> new CAdjacencyMatrix().execute(
+                  i, IContext.EMPTYPLAN,
+                  Stream.of( "dense", l_cost, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+
+        Assertions.assertEquals( 8, l_return.size() );
+        IntStream.range( 0, 4 ).forEach( i -> Assertions.assertEquals( l_return.get( i ).<Object>raw(), l_return.get( i + 4 ).<Object>raw() ) );
+        Assertions.assertEquals( l_return.get( 0 ).<DoubleMatrix2D>raw(), l_return.get( 0 ).<DoubleMatrix2D>raw().viewDice() );
+    }
+
+
+    /**
+     * test compressed adjacency matrix
+     */
+    @Test
+    public void adjacencymatrixcompressed()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_undirected = new UndirectedSparseMultigraph<>();
+        final Graph<Integer, String> l_directed = new DirectedSparseMultigraph<>();
+        final Map<Object, Number> l_cost = new HashMap<>();
+        final Random l_random = new Random( 23 );
+
+        IntStream.range( 0, 500 )
+                 .forEach( i ->
+                 {
+                     final int l_source = l_random.nextInt( 50 );
+                     final int l_target = l_random.nextInt( 50 );
+                     l_undirected.addEdge( "compressedmatrix" + i, l_source, l_target );
+                     l_directed.addEdge( "compressedmatrix" + i, l_source, l_target );
+                     l_cost.put( "compressedmatrix" + i, 1 + l_random.nextInt( 5 ) );
+                 } );
+
+        Stream.of( "dense", "csr", "csc" )
+              .forEach( i -> new CAdjacencyMatrix().execute(
+                  false, IContext.EMPTYPLAN,
+                  Stream.of( i, l_cost, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+
+        Assertions.assertEquals( 12, l_return.size() );
+        Assertions.assertTrue( l_return.get( 4 ).raw() instanceof SparseRCDoubleMatrix2D );
+        Assertions.assertTrue( l_return.get( 8 ).raw() instanceof SparseCCDoubleMatrix2D );
+        IntStream.range( 0, 4 ).forEach( i ->
+        {
+            Assertions.assertEquals( l_return.get( i ).<Object>raw(), l_return.get( i + 4 ).<Object>raw() );
+            Assertions.assertEquals( l_return.get( i ).<Object>raw(), l_return.get( i + 8 ).<Object>raw() );
+        } );
+    }
+
+
+    /**
+     * test distance matrix
+     */
+    @Test
+    public void distancematrix()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new DirectedSparseGraph<>();
+
+        l_graph.addEdge( "dm1", 1, 2 );
+        l_graph.addEdge( "dm2", 2, 3 );
+        l_graph.addEdge( "dm3", 3, 4 );
+        l_graph.addEdge( "dm4", 1, 4 );
+        l_graph.addVertex( 7 );
+
+        final Map<Object, Number> l_weight = new HashMap<>();
+        l_weight.put( "dm4", 5 );
+
+        new CDistanceMatrix().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( Stream.of( 1, 3 ).collect( Collectors.toList() ), Stream.of( 1, 4, 7 ).collect( Collectors.toList() ), "defaultweight", 1, l_weight, l_graph )
+                  .map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CDistanceMatrix().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( Stream.of( 1, 2, 3, 8 ).collect( Collectors.toList() ), l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CDistanceMatrix().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( Stream.of( 1, 3 ).collect( Collectors.toList() ), "defaultweight", "one", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            new ArrayList<>()
+        ) );
+
+        final double l_infinity = Double.POSITIVE_INFINITY;
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals(
+            new DenseDoubleMatrix2D( new double[][]{{0, 3, l_infinity}, {l_infinity, 1, l_infinity}} ),
+            l_return.get( 0 ).raw()
+        );
+        Assertions.assertEquals(
+            new DenseDoubleMatrix2D( new double[][]{
+                {0, 0, 0, l_infinity}, {l_infinity, 0, 0, l_infinity}, {l_infinity, l_infinity, 0, l_infinity}, {l_infinity, l_infinity, l_infinity, l_infinity}
+            } ),
+            l_return.get( 1 ).raw()
+        );
+    }
+
+
+    /**
+     * test contains-edge
+     */
+    @Test
+    public void containsedge()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph1 = new SparseGraph<>();
+        final Graph<Integer, String> l_graph2 = new SparseGraph<>();
+
+        l_graph1.addEdge( "ooo", 1, 2 );
+        l_graph1.addEdge( "xxx", 1, 2 );
+        l_graph1.addEdge( "yyy", 2, 3 );
+
+        l_graph2.addEdge( "yyx", 1, 2 );
+        l_graph2.addEdge( "aaa", 2, 3 );
+
+
+        new CContainsEdge().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "yyy", l_graph1, l_graph2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).<Boolean>raw() );
+        Assertions.assertFalse( l_return.get( 1 ).<Boolean>raw() );
+    }
+
+
+    /**
+     * test contains-vertex
+     */
+    @Test
+    public void containsvertex()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph1 = new SparseGraph<>();
+        final Graph<Integer, String> l_graph2 = new SparseGraph<>();
+
+        IntStream.range( 1, 5 )
+                 .boxed()
+                 .forEach( l_graph1::addVertex );
+
+        IntStream.range( 5, 10 )
+                 .boxed()
+                 .forEach( l_graph2::addVertex );
+
+        new CContainsVertex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 5, l_graph1, l_graph2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertFalse( l_return.get( 0 ).<Boolean>raw() );
+        Assertions.assertTrue( l_return.get( 1 ).<Boolean>raw() );
+    }
+
+
+    /**
+     * test degree multiple
+     */
+    @Test
+    public void degreemultiple()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+
+        l_graph.addEdge( "a", 1, 1 );
+        l_graph.addEdge( "b", 1, 2 );
+        l_graph.addEdge( "c", 1, 5 );
+
+        l_graph.addEdge( "d", 2, 3 );
+        l_graph.addEdge( "e", 2, 5 );
+
+        l_graph.addEdge( "f", 3, 4 );
+
+        l_graph.addEdge( "g", 4, 5 );
+        l_graph.addEdge( "h", 4, 6 );
+
+
+        new CDegreeMultiple().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.concat(
+                Stream.of( l_graph ),
+                IntStream.range( 1, 7 ).boxed()
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals( Stream.of( 3D, 3D, 2D, 3D, 3D, 1D ).toArray(), l_return.stream().map( ITerm::raw ).toArray() );
+    }
+
+
+    /**
+     * test degree single
+     */
+    @Test
+    public void degreesingle()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph1 = new UndirectedSparseGraph<>();
+        final Graph<Integer, String> l_graph2 = new UndirectedSparseGraph<>();
+
+        l_graph1.addEdge( "x", 1, 1 );
+        l_graph1.addEdge( "y", 1, 2 );
+        l_graph1.addEdge( "z", 1, 5 );
+
+        l_graph2.addEdge( "x", 1, 1 );
+        l_graph2.addEdge( "y", 1, 2 );
+
+
+        new CDegreeSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1, l_graph1, l_graph2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals( Stream.of( 3D, 2D ).toArray(), l_return.stream().map( ITerm::raw ).toArray() );
+    }
+
+
+    /**
+     * test distance-path
+     */
+    @Test
+    public void distancepath()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+
+        l_graph.addEdge( "ma", 1, 2 );
+        l_graph.addEdge( "na", 2, 3 );
+        l_graph.addEdge( "oa", 3, 4 );
+        l_graph.addEdge( "pa", 2, 6 );
+
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 2, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( 6D, l_return.get( 0 ).<Number>raw() );
+
+        // added weights and new weight-maps must not return cached distances
+        final Map<Object, Number> l_weight = new HashMap<>();
+        l_weight.put( "na", 5 );
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 2, l_weight, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        l_weight.put( "oa", 1 );
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 2, l_weight, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 2, Map.of( "na", 1 ), l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 9D, l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( 8D, l_return.get( 2 ).<Number>raw() );
+        Assertions.assertEquals( 5D, l_return.get( 3 ).<Number>raw() );
+
+        // the cached shortest path structures must not keep the graph alive
+        final WeakReference<Graph<Integer, String>> l_reference = TestCActionGraph.cachedgraph();
+        for ( int i = 0; i < 100 && Objects.nonNull( l_reference.get() ); i++ )
+            System.gc();
+        Assertions.assertNull( l_reference.get() );
+    }
+
+    /**
+     * creates a graph with a cached shortest path
+     *
+     * @return weak reference of the graph
+     */
+    private static WeakReference<Graph<Integer, String>> cachedgraph()
+    {
+        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+        l_graph.addEdge( "cached", 1, 2 );
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN, Stream.of( l_graph, 1, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+        );
+        return new WeakReference<>( l_graph );
+    }
+
+    /**
+     * test bidirectional distance-path
+     */
+    @Test
+    public void distancepathbidirectional()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_undirected = new UndirectedSparseGraph<>();
+        final Graph<Integer, String> l_directed = new DirectedSparseGraph<>();
+        final Map<Object, Number> l_weight = new HashMap<>();
+
+        IntStream.range( 0, 50 )
+                 .forEach( i ->
+                 {
+                     l_undirected.addEdge( "bidirectional" + i, i, ( i + 1 ) % 50 );
+                     l_undirected.addEdge( "bidirectionalchord" + i, i, ( i * 7 + 3 ) % 50 );
+                     l_directed.addEdge( "bidirectional" + i, i, ( i + 1 ) % 50 );
+                     l_directed.addEdge( "bidirectionalchord" + i, i, ( i * 7 + 3 ) % 50 );
+                     l_weight.put( "bidirectional" + i, 1 + i % 3 );
+                     l_weight.put( "bidirectionalchord" + i, 2 + i % 5 );
+                 } );
+
+        IntStream.range( 1, 50 )
+                 .forEach( i ->
+                 {
+                     new CDistancePath().execute(
+                         false, IContext.EMPTYPLAN,
+                         Stream.of( l_weight, 0, i, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                         l_return
+                     );
+
+                     new CDistancePath().execute(
+                         false, IContext.EMPTYPLAN,
+                         Stream.of( "bidirectional", l_weight, 0, i, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                         l_return
+                     );
+
+                     Assertions.assertEquals( l_return.get( 0 ).<Number>raw(), l_return.get( 2 ).<Number>raw() );
+                     Assertions.assertEquals( l_return.get( 1 ).<Number>raw(), l_return.get( 3 ).<Number>raw() );
+                     l_return.clear();
+                 } );
+
+        l_directed.addVertex( 100 );
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 0, 100, "BIDIRECTIONAL", l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( Double.POSITIVE_INFINITY, l_return.get( 0 ).<Number>raw() );
+    }
+
+
+    /**
+     * test shortest-path
+     */
+    @Test
+    public void shortestpath()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+
+        l_graph.addEdge( "mb", 1, 2 );
+        l_graph.addEdge( "nb", 2, 3 );
+        l_graph.addEdge( "ob", 3, 4 );
+        l_graph.addEdge( "pb", 2, 6 );
+
+        new CShortestPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 2, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals( Stream.of( "mb", "nb", "ob" ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
+    }
+
+
+    /**
+     * test cached shortest-path with invalidation
+     */
+    @Test
+    public void shortestpathcache()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+        final Map<Object, Number> l_weight = new HashMap<>();
+
+        l_graph.addEdge( "mc", 1, 2 );
+        l_graph.addEdge( "nc", 2, 3 );
+        l_graph.addEdge( "oc", 3, 4 );
+
+        new CShortestPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 1, l_weight, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 1, l_weight, l_graph, 1, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CAddEdgeSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "pc", 1, 4, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CShortestPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 1, l_weight, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CDistancePath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 5, l_weight, l_graph, 1, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertEquals( 1, l_return.size() );
-        Assertions.assertArrayEquals( Stream.of( "a", "b", "c", "d" ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertArrayEquals( Stream.of( "mc", "nc", "oc" ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( 2D, l_return.get( 1 ).<Number>raw() );
+        Assertions.assertArrayEquals( Stream.of( "pc" ).toArray(), l_return.get( 2 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( 10D, l_return.get( 3 ).<Number>raw() );
     }
 
 
     /**
-     * test adjacency matrix
+     * test contraction hierarchy with distance and path queries
      */
     @Test
-    public void adjacencymatrix()
+    public void contractionhierarchy()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+        final Graph<Integer, String> l_undirected = new UndirectedSparseGraph<>();
+        final Graph<Integer, String> l_directed = new DirectedSparseGraph<>();
+        final Map<Object, Number> l_weight = new HashMap<>();
 
-        l_graph.addEdge( "x", 1, 1 );
-        l_graph.addEdge( "y", 1, 2 );
-        l_graph.addEdge( "z", 1, 5 );
+        IntStream.range( 0, 40 )
+                 .forEach( i ->
+                 {
+                     l_undirected.addEdge( "contract" + i, i, ( i + 1 ) % 40 );
+                     l_undirected.addEdge( "contractchord" + i, i, ( i * 11 + 5 ) % 40 );
+                     l_directed.addEdge( "contract" + i, i, ( i + 1 ) % 40 );
+                     l_directed.addEdge( "contractchord" + i, i, ( i * 11 + 5 ) % 40 );
+                     l_weight.put( "contract" + i, 1 + i % 4 );
+                     l_weight.put( "contractchord" + i, 3 + i % 7 );
+                 } );
+
+        new CContract().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_weight, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
 
-        l_graph.addEdge( "xx", 2, 3 );
-        l_graph.addEdge( "yy", 2, 5 );
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 40, l_return.get( 0 ).<CContractionHierarchy>raw().size() );
+        l_return.clear();
 
-        l_graph.addEdge( "xxx", 3, 4 );
+        IntStream.range( 0, 40 )
+                 .forEach( i ->
+                 {
+                     new CDistancePath().execute(
+                         false, IContext.EMPTYPLAN,
+                         Stream.of( l_weight, 3, i, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                         l_return
+                     );
+
+                     new CCHDistance().execute(
+                         false, IContext.EMPTYPLAN,
+                         Stream.of( l_weight, 3, i, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                         l_return
+                     );
+
+                     new CCHPath().execute(
+                         false, IContext.EMPTYPLAN,
+                         Stream.of( l_weight, 3, i, l_undirected, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                         l_return
+                     );
+
+                     Assertions.assertEquals( l_return.get( 0 ).<Number>raw().doubleValue(), l_return.get( 2 ).<Number>raw().doubleValue() );
+                     Assertions.assertEquals( l_return.get( 1 ).<Number>raw().doubleValue(), l_return.get( 3 ).<Number>raw().doubleValue() );
+                     Assertions.assertEquals(
+                         l_return.get( 2 ).<Number>raw().doubleValue(),
+                         l_return.get( 4 ).<List<?>>raw().stream().mapToDouble( j -> l_weight.get( j ).doubleValue() ).sum()
+                     );
+                     Assertions.assertEquals(
+                         l_return.get( 3 ).<Number>raw().doubleValue(),
+                         l_return.get( 5 ).<List<?>>raw().stream().mapToDouble( j -> l_weight.get( j ).doubleValue() ).sum()
+                     );
+                     l_return.clear();
+                 } );
+
+        // more weight functions than cached hierarchies of one graph
+        IntStream.range( 1, 20 )
+                 .forEach( i ->
+                 {
+                     new CDistancePath().execute(
+                         false, IContext.EMPTYPLAN,
+                         Stream.of( "defaultweight", i, 3, 17, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                         l_return
+                     );
+
+                     new CCHDistance().execute(
+                         false, IContext.EMPTYPLAN,
+                         Stream.of( "defaultweight", i, 3, 17, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                         l_return
+                     );
+
+                     Assertions.assertEquals( l_return.get( 0 ).<Number>raw().doubleValue(), l_return.get( 1 ).<Number>raw().doubleValue() );
+                     l_return.clear();
+                 } );
 
-        l_graph.addEdge( "xxxx", 4, 5 );
-        l_graph.addEdge( "yyyy", 4, 6 );
+        new CAddEdgeSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "contractshortcut", 3, 20, l_undirected ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
 
+        new CCHPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_weight, 3, 20, l_undirected ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
 
-        new CAdjacencyMatrix().execute(
+        l_directed.addVertex( 100 );
+        new CCHDistance().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( 1, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( 3, 100, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
+        Assertions.assertArrayEquals( Stream.of( "contractshortcut" ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( Double.POSITIVE_INFINITY, l_return.get( 1 ).<Number>raw() );
 
-        Assertions.assertEquals( 2, l_return.size() );
-        Assertions.assertArrayEquals( Stream.of( 1, 2, 3, 4, 5, 6 ).toArray(), l_return.get( 1 ).<List<?>>raw().toArray() );
-        Assertions.assertEquals( new DenseDoubleMatrix2D( new double[][]{
-            {2, 1, 0, 0, 1, 0}, {1, 0, 1, 0, 1, 0}, {0, 1, 0, 1, 0, 0},
-            {0, 0, 1, 0, 1, 1}, {1, 1, 0, 1, 0, 0}, {0, 0, 0, 1, 0, 0}
-        } ), l_return.get( 0 ).raw() );
+        // negative weights are rejected on building the hierarchy
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CContract().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", -1, l_undirected ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            new ArrayList<>()
+        ) );
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CCHDistance().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( Map.of( "contract5", -2 ), 3, 20, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            new ArrayList<>()
+        ) );
     }
 
 
     /**
-     * test contains-edge
+     * test A* path
      */
     @Test
-    public void containsedge()
+    public void astarpath()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final Graph<Integer, String> l_graph1 = new SparseGraph<>();
-        final Graph<Integer, String> l_graph2 = new SparseGraph<>();
-
-        l_graph1.addEdge( "ooo", 1, 2 );
-        l_graph1.addEdge( "xxx", 1, 2 );
-        l_graph1.addEdge( "yyy", 2, 3 );
-
-        l_graph2.addEdge( "yyx", 1, 2 );
-        l_graph2.addEdge( "aaa", 2, 3 );
-
-
-        new CContainsEdge().execute(
+        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+        final Map<Object, Object> l_coordinates = new HashMap<>();
+
+        // grid with 5 x 5 vertices and a blocked path in the middle
+        IntStream.range( 0, 25 )
+                 .forEach( i -> l_coordinates.put( i, Stream.of( i % 5, i / 5 ).collect( Collectors.toList() ) ) );
+        IntStream.range( 0, 25 )
+                 .filter( i -> i % 5 < 4 && i != 12 )
+                 .forEach( i -> l_graph.addEdge( "astar" + i + "-" + ( i + 1 ), i, i + 1 ) );
+        IntStream.range( 0, 20 )
+                 .forEach( i -> l_graph.addEdge( "astar" + i + "|" + ( i + 5 ), i, i + 5 ) );
+
+        new CAStarPath().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( "yyy", l_graph1, l_graph2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( "euclidean", l_coordinates, "defaultweight", 1, 10, 14, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertEquals( 2, l_return.size() );
-        Assertions.assertTrue( l_return.get( 0 ).<Boolean>raw() );
-        Assertions.assertFalse( l_return.get( 1 ).<Boolean>raw() );
-    }
-
+        new CAStarPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_graph, 10, 14, "manhattan", l_coordinates, "defaultweight", 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
 
-    /**
-     * test contains-vertex
-     */
-    @Test
-    public void containsvertex()
-    {
-        final List<ITerm> l_return = new ArrayList<>();
-        final Graph<Integer, String> l_graph1 = new SparseGraph<>();
-        final Graph<Integer, String> l_graph2 = new SparseGraph<>();
+        new CAStarPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 1, 10, 14, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
 
-        IntStream.range( 1, 5 )
-                 .boxed()
-                 .forEach( l_graph1::addVertex );
+        new CShortestPath().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "defaultweight", 1, 10, 14, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
 
-        IntStream.range( 5, 10 )
-                 .boxed()
-                 .forEach( l_graph2::addVertex );
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 6, l_return.get( 0 ).<List<?>>raw().size() );
+        Assertions.assertEquals( 6, l_return.get( 1 ).<List<?>>raw().size() );
+        Assertions.assertEquals( 6, l_return.get( 2 ).<List<?>>raw().size() );
+        Assertions.assertEquals( l_return.get( 3 ).<List<?>>raw().size(), l_return.get( 0 ).<List<?>>raw().size() );
+        Assertions.assertFalse( l_return.get( 0 ).<List<?>>raw().contains( "astar12-13" ) );
 
-        new CContainsVertex().execute(
+        l_return.clear();
+        l_graph.addVertex( 30 );
+        new CAStarPath().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( 5, l_graph1, l_graph2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( "euclidean", l_coordinates, 0, 30, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertEquals( 2, l_return.size() );
-        Assertions.assertFalse( l_return.get( 0 ).<Boolean>raw() );
-        Assertions.assertTrue( l_return.get( 1 ).<Boolean>raw() );
+        Assertions.assertTrue( l_return.get( 0 ).<List<?>>raw().isEmpty() );
     }
 
 
     /**
-     * test degree multiple
+     * test PageRank
      */
     @Test
-    public void degreemultiple()
+    public void pagerank()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
-
-        l_graph.addEdge( "a", 1, 1 );
-        l_graph.addEdge( "b", 1, 2 );
-        l_graph.addEdge( "c", 1, 5 );
-
-        l_graph.addEdge( "d", 2, 3 );
-        l_graph.addEdge( "e", 2, 5 );
+        final Graph<Integer, String> l_graph = new DirectedSparseGraph<>();
+        final Random l_random = new Random( 31 );
+
+        // each vertex has got an outgoing edge and there are no loops, so the result is equal to the JUNG implementation
+        IntStream.range( 0, 100 ).forEach( i -> l_graph.addEdge( "pagerank" + i, i, ( i + 1 ) % 100 ) );
+        IntStream.range( 0, 300 ).forEach( i ->
+        {
+            final int l_source = l_random.nextInt( 100 );
+            l_graph.addEdge( "pagerankrandom" + i, l_source, ( l_source + 1 + l_random.nextInt( 99 ) ) % 100 );
+        } );
+
+        Stream.of( false, true )
+              .forEach( i -> new CPageRank().execute(
+                  i, IContext.EMPTYPLAN,
+                  Stream.of( "defaultweight", 1, "tolerance", 1.0E-12, "iterations", 1000, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+
+        final PageRank<Integer, String> l_pagerank = new PageRank<>( l_graph, 0.15 );
+        l_pagerank.setTolerance( 1.0E-12 );
+        l_pagerank.setMaxIterations( 1000 );
+        l_pagerank.evaluate();
 
-        l_graph.addEdge( "f", 3, 4 );
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 1, l_return.get( 0 ).<Map<?, Double>>raw().values().stream().mapToDouble( i -> i ).sum(), 1.0E-9 );
+        l_graph.getVertices().forEach( i ->
+        {
+            Assertions.assertEquals( l_pagerank.getVertexScore( i ), l_return.get( 0 ).<Map<?, Double>>raw().get( i ), 1.0E-8 );
+            Assertions.assertEquals( l_return.get( 0 ).<Map<?, Double>>raw().get( i ), l_return.get( 1 ).<Map<?, Double>>raw().get( i ), 1.0E-12 );
+        } );
+
+        // without a weight-map all edges are weighted equally
+        new CPageRank().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "tolerance", 1.0E-12, "iterations", 1000, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
 
-        l_graph.addEdge( "g", 4, 5 );
-        l_graph.addEdge( "h", 4, 6 );
+        Assertions.assertEquals( l_return.get( 0 ).<Object>raw(), l_return.remove( 2 ).<Object>raw() );
 
+        // dangling vertex and weighted undirected edges
+        final Graph<Integer, String> l_weighted = new SparseGraph<>();
+        final Map<Object, Number> l_weight = new HashMap<>();
+        l_weighted.addEdge( "pagerankweighted1", 1, 2, EdgeType.UNDIRECTED );
+        l_weighted.addEdge( "pagerankweighted2", 2, 3, EdgeType.UNDIRECTED );
+        l_weighted.addEdge( "pagerankweighted3", 3, 4, EdgeType.DIRECTED );
+        l_weight.put( "pagerankweighted1", 3 );
 
-        new CDegreeMultiple().execute(
+        new CPageRank().execute(
             false, IContext.EMPTYPLAN,
-            Stream.concat(
-                Stream.of( l_graph ),
-                IntStream.range( 1, 7 ).boxed()
-            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( "damping", 0.5, "defaultweight", 1, l_weight, l_weighted ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertArrayEquals( Stream.of( 3D, 3D, 2D, 3D, 3D, 1D ).toArray(), l_return.stream().map( ITerm::raw ).toArray() );
+        Assertions.assertEquals( 4, l_return.get( 2 ).<Map<?, Double>>raw().size() );
+        Assertions.assertEquals( 1, l_return.get( 2 ).<Map<?, Double>>raw().values().stream().mapToDouble( i -> i ).sum(), 1.0E-5 );
+        Assertions.assertTrue( l_return.get( 2 ).<Map<?, Double>>raw().get( 2 ) > l_return.get( 2 ).<Map<?, Double>>raw().get( 3 ) );
+
+        // keyword values of a wrong type fail the action
+        Stream.of(
+            Stream.of( "damping", "x", l_graph ),
+            Stream.of( "defaultweight", "x", l_graph )
+        ).forEach( i -> Assertions.assertThrows( IllegalArgumentException.class, () -> new CPageRank().execute(
+            false, IContext.EMPTYPLAN, i.map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+        ) ) );
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CAStarPath().execute(
+            false, IContext.EMPTYPLAN, Stream.of( "euclidean", "x", 1, 2, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+        ) );
     }
 
 
     /**
-     * test degree single
+     * test betweenness centrality
      */
     @Test
-    public void degreesingle()
+    public void betweenness()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final Graph<Integer, String> l_graph1 = new UndirectedSparseGraph<>();
-        final Graph<Integer, String> l_graph2 = new UndirectedSparseGraph<>();
-
-        l_graph1.addEdge( "x", 1, 1 );
-        l_graph1.addEdge( "y", 1, 2 );
-        l_graph1.addEdge( "z", 1, 5 );
-
-        l_graph2.addEdge( "x", 1, 1 );
-        l_graph2.addEdge( "y", 1, 2 );
+        final Graph<Integer, String> l_directed = new DirectedSparseGraph<>();
+        final Graph<Integer, String> l_undirected = new UndirectedSparseGraph<>();
+        final Random l_random = new Random( 17 );
+
+        // unit weights create many paths of equal length, so the path counting is tested
+        IntStream.range( 0, 250 ).forEach( i ->
+        {
+            final int l_source = l_random.nextInt( 60 );
+            final int l_target = ( l_source + 1 + l_random.nextInt( 59 ) ) % 60;
+            l_directed.addEdge( "betweennessdirected" + i, l_source, l_target );
+            l_undirected.addEdge( "betweennessundirected" + i, l_source, l_target );
+        } );
+
+        Stream.of( false, true )
+              .forEach( i -> new CBetweenness().execute(
+                  i, IContext.EMPTYPLAN,
+                  Stream.of( l_directed, l_undirected ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+
+        final edu.uci.ics.jung.algorithms.scoring.BetweennessCentrality<Integer, String> l_directedcentrality =
+            new edu.uci.ics.jung.algorithms.scoring.BetweennessCentrality<>( l_directed );
+        final edu.uci.ics.jung.algorithms.scoring.BetweennessCentrality<Integer, String> l_undirectedcentrality =
+            new edu.uci.ics.jung.algorithms.scoring.BetweennessCentrality<>( l_undirected );
 
+        Assertions.assertEquals( 4, l_return.size() );
+        l_directed.getVertices().forEach( i ->
+        {
+            Assertions.assertEquals( l_directedcentrality.getVertexScore( i ), l_return.get( 0 ).<Map<?, Double>>raw().get( i ), 1.0E-8 );
+            Assertions.assertEquals( l_undirectedcentrality.getVertexScore( i ), l_return.get( 1 ).<Map<?, Double>>raw().get( i ), 1.0E-8 );
+            Assertions.assertEquals( l_return.get( 0 ).<Map<?, Double>>raw().get( i ), l_return.get( 2 ).<Map<?, Double>>raw().get( i ), 1.0E-8 );
+            Assertions.assertEquals( l_return.get( 1 ).<Map<?, Double>>raw().get( i ), l_return.get( 3 ).<Map<?, Double>>raw().get( i ), 1.0E-8 );
+        } );
+
+        // sampling with a seed is deterministic and all samples are equal to the exact result
+        Stream.of( false, true )
+              .forEach( i -> new CBetweenness().execute(
+                  i, IContext.EMPTYPLAN,
+                  Stream.of( "samples", 20, "seed", 5, "defaultweight", 1, l_directed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+        new CBetweenness().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "samples", 1000, "defaultweight", 1, l_undirected ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
 
-        new CDegreeSingle().execute(
+        Assertions.assertEquals( 7, l_return.size() );
+        Assertions.assertTrue( l_return.get( 4 ).<Map<?, Double>>raw().values().stream().anyMatch( i -> i > 0 ) );
+        l_directed.getVertices().forEach( i ->
+        {
+            Assertions.assertEquals( l_return.get( 4 ).<Map<?, Double>>raw().get( i ), l_return.get( 5 ).<Map<?, Double>>raw().get( i ), 1.0E-8 );
+            Assertions.assertEquals( l_undirectedcentrality.getVertexScore( i ), l_return.get( 6 ).<Map<?, Double>>raw().get( i ), 1.0E-8 );
+        } );
+
+        // weighted graph with two shortest paths from 1 to 3
+        final Graph<Integer, String> l_weighted = new DirectedSparseGraph<>();
+        final Map<Object, Number> l_weight = new HashMap<>();
+        l_weighted.addEdge( "betweennessweighted12", 1, 2 );
+        l_weighted.addEdge( "betweennessweighted23", 2, 3 );
+        l_weighted.addEdge( "betweennessweighted13", 1, 3 );
+        l_weighted.addEdge( "betweennessweighted14", 1, 4 );
+        l_weighted.addEdge( "betweennessweighted43", 4, 3 );
+        l_weight.put( "betweennessweighted13", 3 );
+
+        new CBetweenness().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( 1, l_graph1, l_graph2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( l_weight, l_weighted ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertArrayEquals( Stream.of( 3D, 2D ).toArray(), l_return.stream().map( ITerm::raw ).toArray() );
+        Assertions.assertEquals( 0, l_return.get( 7 ).<Map<?, Double>>raw().get( 1 ) );
+        Assertions.assertEquals( 0.5, l_return.get( 7 ).<Map<?, Double>>raw().get( 2 ) );
+        Assertions.assertEquals( 0, l_return.get( 7 ).<Map<?, Double>>raw().get( 3 ) );
+        Assertions.assertEquals( 0.5, l_return.get( 7 ).<Map<?, Double>>raw().get( 4 ) );
+
+        // weights, which are not positive, fail the action
+        l_weight.put( "betweennessweighted43", 0 );
+        Stream.of(
+            Stream.of( l_weight, l_weighted ),
+            Stream.of( "defaultweight", -1, l_weighted )
+        ).forEach( i -> Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CBetweenness().execute(
+            false, IContext.EMPTYPLAN, i.map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>()
+        ) ) );
     }
 
 
     /**
-     * test distance-path
+     * test connected components
      */
     @Test
-    public void distancepath()
+    public void components()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+        final Graph<Integer, String> l_graph = new DirectedSparseGraph<>();
 
-        l_graph.addEdge( "ma", 1, 2 );
-        l_graph.addEdge( "na", 2, 3 );
-        l_graph.addEdge( "oa", 3, 4 );
-        l_graph.addEdge( "pa", 2, 6 );
+        // four chains of 250 vertices and one isolated vertex, the edges are added in a shuffled order
+        final List<Integer> l_order = IntStream.range( 0, 1000 ).filter( i -> i % 250 != 0 ).boxed().collect( Collectors.toList() );
+        Collections.shuffle( l_order, new Random( 7 ) );
+        l_order.forEach( i -> l_graph.addEdge( "components" + i, i % 2 == 0 ? i : i - 1, i % 2 == 0 ? i - 1 : i ) );
+        l_graph.addVertex( 1000 );
 
-        new CDistancePath().execute(
-            false, IContext.EMPTYPLAN,
-            Stream.of( "defaultweight", 2, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
-            l_return
-        );
+        Stream.of( false, true )
+              .forEach( i -> new CComponents().execute(
+                  i, IContext.EMPTYPLAN,
+                  Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
 
-        Assertions.assertEquals( 1, l_return.size() );
-        Assertions.assertEquals( 6D, l_return.get( 0 ).<Number>raw() );
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 5, l_return.get( 1 ).<List<?>>raw().size() );
+        Assertions.assertEquals( l_return.get( 1 ).<List<?>>raw(), l_return.get( 3 ).<List<?>>raw() );
+        Assertions.assertEquals( 1001, l_return.get( 1 ).<List<Integer>>raw().stream().mapToInt( i -> i ).sum() );
+
+        final Map<?, Integer> l_sequential = l_return.get( 0 ).raw();
+        final Map<?, Integer> l_parallel = l_return.get( 2 ).raw();
+        Assertions.assertEquals( l_sequential, l_parallel );
+        IntStream.range( 0, 1000 ).forEach( i -> Assertions.assertEquals( l_sequential.get( i / 250 * 250 ), l_sequential.get( i ) ) );
+        Assertions.assertEquals( 5, new HashSet<>( l_sequential.values() ).size() );
+        Assertions.assertEquals( 1, l_return.get( 1 ).<List<?>>raw().get( l_sequential.get( 1000 ) ) );
     }
 
+
     /**
-     * test shortest-path
+     * test strongly connected components on a deep graph
      */
     @Test
-    public void shortestpath()
+    public void scc()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final Graph<Integer, String> l_graph = new UndirectedSparseGraph<>();
+        final Graph<Integer, String> l_graph = new DirectedSparseMultigraph<>();
 
-        l_graph.addEdge( "mb", 1, 2 );
-        l_graph.addEdge( "nb", 2, 3 );
-        l_graph.addEdge( "ob", 3, 4 );
-        l_graph.addEdge( "pb", 2, 6 );
+        // a cycle, which is too deep for a recursive search, with a source and a sink vertex
+        IntStream.range( 0, 100000 ).forEach( i -> l_graph.addEdge( "scc" + i, i, ( i + 1 ) % 100000 ) );
+        l_graph.addEdge( "sccsource", 100000, 5 );
+        l_graph.addEdge( "sccsink", 50000, 100001 );
+        l_graph.addEdge( "sccbackward", 100001, 100002 );
+        l_graph.addEdge( "sccforward", 100002, 100001 );
 
-        new CShortestPath().execute(
+        new CSCC().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( "defaultweight", 2, l_graph, 1, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertArrayEquals( Stream.of( "mb", "nb", "ob" ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( 2, l_return.size() );
+
+        final Map<?, Integer> l_component = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 3, l_return.get( 1 ).<List<?>>raw().size() );
+        Assertions.assertEquals( 100000, l_return.get( 1 ).<List<?>>raw().get( l_component.get( 0 ) ) );
+        Assertions.assertEquals( 2, l_return.get( 1 ).<List<?>>raw().get( l_component.get( 100001 ) ) );
+        Assertions.assertEquals( l_component.get( 100001 ), l_component.get( 100002 ) );
+        Assertions.assertEquals( l_component.get( 0 ), l_component.get( 99999 ) );
+        Assertions.assertTrue( l_component.get( 100001 ) < l_component.get( 0 ) );
+        Assertions.assertTrue( l_component.get( 0 ) < l_component.get( 100000 ) );
     }
 
 
@@ -563,6 +1985,101 @@ public final class TestCActionGraph extends IBaseTest
                        "spanningtreeedge78", "spanningtreeedge26", "spanningtreeedge28" ).toArray(),
             l_return.get( 1 ).<Graph<Integer, String>>raw().getEdges().toArray()
         );
+
+        Stream.of( "kruskal", "boruvka" ).forEach( i -> new CSpanningTree().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( i, l_weight, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        Assertions.assertEquals(
+            new HashSet<>( l_return.get( 1 ).<Graph<Integer, String>>raw().getEdges() ),
+            new HashSet<>( l_return.get( 2 ).<Graph<Integer, String>>raw().getEdges() )
+        );
+        Assertions.assertEquals(
+            new HashSet<>( l_return.get( 1 ).<Graph<Integer, String>>raw().getEdges() ),
+            new HashSet<>( l_return.get( 3 ).<Graph<Integer, String>>raw().getEdges() )
+        );
+
+        new CSpanningTree().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "edges", l_weight, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( new HashSet<>( l_return.get( 1 ).<Graph<Integer, String>>raw().getEdges() ), new HashSet<>( l_return.get( 4 ).<List<?>>raw() ) );
+        Assertions.assertEquals( 38, l_return.get( 5 ).<Number>raw().doubleValue() );
+    }
+
+
+    /**
+     * test spanning-forest engines on a disconnected graph
+     */
+    @Test
+    public void spanningforest()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new UndirectedSparseMultigraph<>();
+        final Map<Object, Number> l_weight = new HashMap<>();
+        final Random l_random = new Random( 11 );
+
+        // three random components with equal weights, loops and parallel edges, and an isolated vertex
+        IntStream.range( 0, 3000 ).forEach( i ->
+        {
+            final int l_component = 100 * l_random.nextInt( 3 );
+            l_graph.addEdge( "spanningforest" + i, l_component + l_random.nextInt( 100 ), l_component + l_random.nextInt( 100 ) );
+            l_weight.put( "spanningforest" + i, l_random.nextInt( 10 ) );
+        } );
+        IntStream.range( 0, 300 ).forEach( i -> l_graph.addEdge( "spanningforestchain" + i, i, i % 100 == 99 ? i - 99 : i + 1 ) );
+        l_graph.addVertex( 300 );
+
+        Stream.of( false, true ).forEach( i -> Stream.of( "kruskal", "boruvka" ).forEach( j -> new CSpanningTree().execute(
+            i, IContext.EMPTYPLAN,
+            Stream.of( j, "defaultweight", 20, l_weight, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) ) );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        l_return.forEach( i ->
+        {
+            final Forest<Integer, String> l_forest = i.raw();
+            Assertions.assertEquals( 301, l_forest.getVertexCount() );
+            Assertions.assertEquals( 4, l_forest.getTrees().size() );
+            Assertions.assertEquals( 297, l_forest.getEdgeCount() );
+            Assertions.assertEquals(
+                new HashSet<>( l_return.get( 0 ).<Forest<Integer, String>>raw().getEdges() ),
+                new HashSet<>( l_forest.getEdges() )
+            );
+        } );
+
+        // edge list mode returns the same edges and the total weight
+        final double l_weightsum = l_return.get( 0 ).<Forest<Integer, String>>raw().getEdges().stream()
+                                           .mapToDouble( i -> l_weight.getOrDefault( i, 20 ).doubleValue() ).sum();
+        Stream.of( "kruskal", "boruvka" ).forEach( i -> new CSpanningTree().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( "edges", i, "defaultweight", 20, l_weight, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        Assertions.assertEquals( 8, l_return.size() );
+        Stream.of( 4, 6 ).forEach( i ->
+        {
+            Assertions.assertEquals( new HashSet<>( l_return.get( 0 ).<Forest<Integer, String>>raw().getEdges() ), new HashSet<>( l_return.get( i ).<List<?>>raw() ) );
+            Assertions.assertEquals( l_weightsum, l_return.get( i + 1 ).<Number>raw().doubleValue(), 1.0E-9 );
+        } );
+
+        // without the isolated vertex Prim selects the tree of the component of the root with the same size and weight as the tree engine
+        l_graph.removeVertex( 300 );
+        Stream.of( "prim", "edges" ).forEach( i -> new CSpanningTree().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( i, "prim", "defaultweight", 20, l_weight, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        final List<String> l_prim = new ArrayList<>( l_return.get( 8 ).<Graph<Integer, String>>raw().getEdges() );
+        Assertions.assertEquals( 99, l_prim.size() );
+        Assertions.assertEquals( l_prim.size(), l_return.get( 9 ).<List<?>>raw().size() );
+        Assertions.assertEquals( l_prim.stream().mapToDouble( i -> l_weight.getOrDefault( i, 20 ).doubleValue() ).sum(), l_return.get( 10 ).<Number>raw().doubleValue(), 1.0E-9 );
     }
 
 
@@ -1354,6 +2871,142 @@ public final class TestCActionGraph extends IBaseTest
     }
 
 
+    /**
+     * test parallel execution with ordered results
+     */
+    @Test
+    public void parallelexecution()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<Graph<Integer, String>> l_graphs = IntStream.range( 0, 32 )
+                                                               .mapToObj( i -> new UndirectedSparseGraph<Integer, String>() )
+                                                               .collect( Collectors.toList() );
+        IntStream.range( 0, l_graphs.size() ).forEach( i -> l_graphs.get( i ).addEdge( "parallel" + i, 0, i + 1 ) );
+
+        new CNeighborsSingle().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.concat( Stream.of( 0 ), l_graphs.stream() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            IntStream.range( 1, 33 ).boxed().toArray(),
+            l_return.stream().map( i -> i.<List<?>>raw().get( 0 ) ).toArray()
+        );
+        l_return.clear();
+
+        new CNeighborsMultiple().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.concat( Stream.of( l_graphs.get( 0 ) ), IntStream.range( 0, 32 ).mapToObj( i -> i % 2 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            IntStream.range( 0, 32 ).map( i -> i % 2 == 0 ? 1 : 0 ).boxed().toArray(),
+            l_return.stream().map( i -> i.<List<?>>raw().get( 0 ) ).toArray()
+        );
+
+        final Graph<Integer, String> l_concurrent = new CUndirectedConcurrentGraph<>();
+        final Graph<Integer, String> l_sparse = new UndirectedSparseGraph<>();
+        Stream.of( l_concurrent, l_sparse )
+              .forEach( i -> new CAddVertexMultiple().execute(
+                  true, IContext.EMPTYPLAN,
+                  Stream.concat( Stream.of( i ), IntStream.range( 0, 1000 ).boxed() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  Collections.emptyList()
+              ) );
+
+        Assertions.assertEquals( 1000, l_concurrent.getVertexCount() );
+        Assertions.assertEquals( 1000, l_sparse.getVertexCount() );
+
+        // modifying windows are applied in call order, so the first edge is stored and the last one fails
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new CAddEdgeMultiple().execute(
+                true, IContext.EMPTYPLAN,
+                Stream.of(
+                    Stream.<Object>of( l_concurrent, "order", 0, 1 ),
+                    IntStream.range( 0, 500 ).boxed().flatMap( i -> Stream.of( "order" + i, i, i + 1 ) ),
+                    Stream.of( "order", 5, 6 )
+                ).flatMap( i -> i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+
+        Assertions.assertEquals( 0, l_concurrent.getEndpoints( "order" ).getFirst() );
+        Assertions.assertEquals( 1, l_concurrent.getEndpoints( "order" ).getSecond() );
+        Assertions.assertEquals( 501, l_concurrent.getEdgeCount() );
+    }
+
+
+    /**
+     * test immutable result views
+     */
+    @Test
+    public void resultviews()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final Graph<Integer, String> l_graph = new DirectedSparseGraph<>();
+
+        l_graph.addEdge( "view1", 1, 2 );
+        l_graph.addEdge( "view2", 3, 1 );
+
+        Stream.of( new CNeighborsSingle(), new CInEdgesSingle(), new COutEdgesSingle() )
+              .forEach( i -> i.execute(
+                  true, IContext.EMPTYPLAN,
+                  Stream.of( "view", 1, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+
+        new CIncidentVerticesSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "view", "view1", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CEdgeListSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "view", 1, 2, l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CVertices().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "view", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 6, l_return.size() );
+        Assertions.assertEquals( Stream.of( 2, 3 ).collect( Collectors.toSet() ), new HashSet<>( l_return.get( 0 ).<List<?>>raw() ) );
+        Assertions.assertEquals( "view2", l_return.get( 1 ).<List<?>>raw().get( 0 ) );
+        Assertions.assertArrayEquals( Stream.of( "view1" ).toArray(), l_return.get( 2 ).<List<?>>raw().toArray() );
+        Assertions.assertArrayEquals( Stream.of( 1, 2 ).toArray(), l_return.get( 3 ).<List<?>>raw().toArray() );
+        Assertions.assertEquals( Stream.of( "view1" ).collect( Collectors.toList() ), l_return.get( 4 ).raw() );
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> l_return.get( 4 ).<List<Object>>raw().add( "view3" ) );
+
+        // the vertex view copies the graph collection on the first access, each access reads the same snapshot
+        final List<?> l_vertices = l_return.get( 5 ).raw();
+        l_graph.addVertex( 4 );
+        Assertions.assertEquals( 4, l_vertices.size() );
+        l_graph.addVertex( 5 );
+        Assertions.assertEquals( 4, l_vertices.stream().count() );
+        Assertions.assertFalse( l_vertices.contains( 5 ) );
+        Assertions.assertThrows( IndexOutOfBoundsException.class, () -> l_vertices.get( 4 ) );
+        l_return.clear();
+
+        // a vertex with the name "view" does not select the view mode
+        l_graph.addEdge( "view", 1, 5 );
+        new CIncidentVerticesSingle().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "view", l_graph ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( ArrayList.class, l_return.get( 0 ).raw().getClass() );
+        Assertions.assertEquals( Stream.of( 1, 5 ).collect( Collectors.toSet() ), new HashSet<>( l_return.get( 0 ).<List<?>>raw() ) );
+    }
+
+
     /**
      * test is-incident single
      */